@@ -4,6 +4,7 @@ import com.se498.dailyreporting.config.GrpcServerConfig;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.dto.grpc.GrpcMapper;
 import com.se498.dailyreporting.grpc.*;
 import io.grpc.Server;
@@ -139,7 +140,7 @@ public class GrpcStandaloneServer implements InitializingBean, DisposableBean {
                 log.debug("Creating report for project: {}", request.getProjectId());
 
                 // Create a new report
-                String reportId = UUID.randomUUID().toString();
+                String reportId = TimeOrderedId.next();
                 LocalDate reportDate = mapper.fromGrpcDate(request.getReportDate());
 
                 DailyReport report = new DailyReport();
@@ -216,7 +217,7 @@ public class GrpcStandaloneServer implements InitializingBean, DisposableBean {
                 }
 
                 // Create a new activity
-                String activityId = UUID.randomUUID().toString();
+                String activityId = TimeOrderedId.next();
                 ActivityEntry activity = new ActivityEntry();
                 activity.setId(activityId);
                 activity.setReportId(reportId);
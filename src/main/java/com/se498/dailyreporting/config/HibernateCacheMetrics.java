@@ -0,0 +1,73 @@
+package com.se498.dailyreporting.config;
+
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes hits, misses and hit ratio of each Hibernate second-level and query cache region to the
+ * actuator metrics endpoint, e.g. /actuator/metrics/hibernate.cache.hit.ratio?tag=region:daily-report
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+
+    public static final String HIT_RATIO_METRIC = "hibernate.cache.hit.ratio";
+
+    @Autowired
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Named query regions are only created on first use, so they are listed explicitly
+        Set<String> regions = new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+        regions.add(DailyReportRepository.LIST_QUERY_CACHE_REGION);
+
+        for (String region : regions) {
+            FunctionCounter.builder("hibernate.cache.hits", statistics,
+                            s -> count(s, region, CacheRegionStatistics::getHitCount))
+                    .tag("region", region)
+                    .description("Second-level cache hits")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.misses", statistics,
+                            s -> count(s, region, CacheRegionStatistics::getMissCount))
+                    .tag("region", region)
+                    .description("Second-level cache misses")
+                    .register(registry);
+            Gauge.builder(HIT_RATIO_METRIC, statistics, s -> hitRatio(s.getCacheRegionStatistics(region)))
+                    .tag("region", region)
+                    .description("Share of second-level cache lookups answered from the cache")
+                    .register(registry);
+        }
+    }
+
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+
+    static double hitRatio(CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return 0.0;
+        }
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return lookups == 0 ? 0.0 : (double) statistics.getHitCount() / lookups;
+    }
+}
@@ -3,10 +3,16 @@ package com.se498.dailyreporting.controller;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.dto.ActivityEntryRequest;
 import com.se498.dailyreporting.dto.ActivityProgressRequest;
 import com.se498.dailyreporting.dto.DailyReportRequest;
+import com.se498.dailyreporting.dto.ReportConnection;
 import com.se498.dailyreporting.service.DailyReportingService;
+import com.se498.dailyreporting.service.ReportProgress;
+import com.se498.dailyreporting.service.ReportSearchPage;
+import com.se498.dailyreporting.service.ReportSearchService;
+import com.se498.dailyreporting.service.ReportSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,16 +20,17 @@ import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 
 @Controller
 @RequiredArgsConstructor
@@ -33,6 +40,9 @@ public class DailyReportGraphQLController {
     @Autowired
     private final DailyReportingService reportingService;
 
+    @Autowired
+    private final ReportSearchService searchService;
+
     // QUERY METHODS
 
     @QueryMapping
@@ -63,6 +73,36 @@ public class DailyReportGraphQLController {
         return reportingService.getReportsByStatus(status);
     }
 
+    @QueryMapping
+    public ReportConnection reportsByProjectConnection(
+            @Argument String projectId,
+            @Argument LocalDate startDate,
+            @Argument LocalDate endDate,
+            @Argument Integer first,
+            @Argument String after) {
+
+        log.info("GraphQL: Fetching page of reports for project: {}, after: {}", projectId, after);
+
+        int pageSize = first != null ? first : 0;
+        if (startDate != null && endDate != null) {
+            return ReportConnection.from(
+                    reportingService.pageReportsByDateRange(projectId, startDate, endDate, after, pageSize));
+        }
+        return ReportConnection.from(reportingService.pageReportsByProject(projectId, after, pageSize));
+    }
+
+    @QueryMapping
+    public ReportConnection reportsByStatusConnection(
+            @Argument ReportStatus status,
+            @Argument Integer first,
+            @Argument String after) {
+
+        log.info("GraphQL: Fetching page of reports with status: {}, after: {}", status, after);
+
+        int pageSize = first != null ? first : 0;
+        return ReportConnection.from(reportingService.pageReportsByStatus(status, after, pageSize));
+    }
+
     @QueryMapping
     public ActivityEntry activity(@Argument String id) {
         log.info("GraphQL: Fetching activity with id: {}", id);
@@ -93,6 +133,23 @@ public class DailyReportGraphQLController {
         return reportingService.getTotalActivityDurationMinutes(reportId);
     }
 
+    @QueryMapping
+    public ReportSummary reportSummary(@Argument String reportId) {
+        log.info("GraphQL: Fetching summary for report: {}", reportId);
+        return reportingService.getReportSummary(reportId).orElse(null);
+    }
+
+    @QueryMapping
+    public ReportSearchPage searchReports(
+            @Argument String query,
+            @Argument String projectId,
+            @Argument Integer page,
+            @Argument Integer pageSize) {
+
+        log.info("GraphQL: Searching reports for: {}, project: {}", query, projectId);
+        return searchService.search(query, projectId, page != null ? page : 0, pageSize != null ? pageSize : 0);
+    }
+
     // Field resolvers - these resolve fields within the parent types
 
     @SchemaMapping(typeName = "ActivityEntry", field = "durationMinutes")
@@ -201,7 +258,7 @@ public class DailyReportGraphQLController {
 
         // Create activity from input
         ActivityEntry activity = new ActivityEntry();
-        activity.setId(UUID.randomUUID().toString());
+        activity.setId(TimeOrderedId.next());
         activity.setReportId(reportId);
         activity.setDescription(input.getDescription());
         activity.setCategory(input.getCategory());
@@ -272,4 +329,12 @@ public class DailyReportGraphQLController {
         reportingService.deleteActivity(id);
         return true;
     }
+
+    // SUBSCRIPTION METHODS
+
+    @SubscriptionMapping
+    public Flux<ReportProgress> reportProgressChanged(@Argument String reportId) {
+        log.info("GraphQL: Subscribing to progress of report: {}", reportId);
+        return reportingService.watchReportProgress(reportId);
+    }
 }
\ No newline at end of file
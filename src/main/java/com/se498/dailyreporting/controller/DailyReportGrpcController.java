@@ -4,9 +4,14 @@ import com.google.protobuf.StringValue;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.dto.grpc.GrpcMapper;
 import com.se498.dailyreporting.grpc.*;
+import com.se498.dailyreporting.service.BulkActivityResult;
+import com.se498.dailyreporting.service.BulkReportResult;
 import com.se498.dailyreporting.service.DailyReportingService;
+import com.se498.dailyreporting.service.ReportPage;
+import com.se498.dailyreporting.service.ReportSummary;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
@@ -17,9 +22,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * gRPC controller for daily report operations
@@ -78,6 +89,38 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
         }
     }
 
+    /**
+     * Create DRAFT reports for many project/date pairs; pairs that already have a report are left alone
+     */
+    @Override
+    public void createReports(CreateReportsRequest request, StreamObserver<CreateReportsResponse> responseObserver) {
+        try {
+            log.info("gRPC: Creating daily reports for {} project/date pairs", request.getReportsCount());
+
+            BulkReportResult result = reportingService.createReports(
+                    mapper.fromGrpcCreateReportsRequest(request),
+                    request.getUsername()
+            );
+
+            responseObserver.onNext(mapper.toGrpcCreateReportsResponse(result));
+            responseObserver.onCompleted();
+
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(
+                    Status.INVALID_ARGUMENT
+                            .withDescription(e.getMessage())
+                            .asRuntimeException()
+            );
+        } catch (Exception e) {
+            log.error("Error creating reports: {}", e.getMessage(), e);
+            responseObserver.onError(
+                    Status.INTERNAL
+                            .withDescription("Error creating reports: " + e.getMessage())
+                            .asRuntimeException()
+            );
+        }
+    }
+
     /**
      * Get a daily report by ID
      */
@@ -315,7 +358,8 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
         try {
             log.info("gRPC: Fetching reports for project: {}", request.getProjectId());
 
-            List<DailyReport> reports;
+            boolean paged = request.getPageSize() > 0 || !request.getPageToken().isEmpty();
+            ReportListResponse response;
 
             // If date range is provided, use it
             if (request.hasStartDate() && request.hasEndDate()) {
@@ -323,16 +367,29 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
                 LocalDate endDate = LocalDate.parse(request.getEndDate().getValue());
 
                 log.info("Using date range: {} to {}", startDate, endDate);
-                reports = reportingService.getReportsByDateRange(
-                        request.getProjectId(), startDate, endDate);
+                response = paged
+                        ? mapper.toGrpcReportListResponse(reportingService.pageReportsByDateRange(
+                                request.getProjectId(), startDate, endDate,
+                                request.getPageToken(), request.getPageSize()))
+                        : mapper.toGrpcReportListResponse(reportingService.getReportsByDateRange(
+                                request.getProjectId(), startDate, endDate));
             } else {
-                reports = reportingService.getReportsByProject(request.getProjectId());
+                response = paged
+                        ? mapper.toGrpcReportListResponse(reportingService.pageReportsByProject(
+                                request.getProjectId(), request.getPageToken(), request.getPageSize()))
+                        : mapper.toGrpcReportListResponse(reportingService.getReportsByProject(
+                                request.getProjectId()));
             }
 
-            ReportListResponse response = mapper.toGrpcReportListResponse(reports);
             responseObserver.onNext(response);
             responseObserver.onCompleted();
 
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(
+                    Status.INVALID_ARGUMENT
+                            .withDescription(e.getMessage())
+                            .asRuntimeException()
+            );
         } catch (Exception e) {
             log.error("Error getting reports by project: {}", e.getMessage(), e);
             responseObserver.onError(
@@ -352,12 +409,23 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
             ReportStatus status = mapper.fromGrpcReportStatus(request.getStatus());
             log.info("gRPC: Fetching reports with status: {}", status);
 
-            List<DailyReport> reports = reportingService.getReportsByStatus(status);
+            ReportListResponse response;
+            if (request.getPageSize() > 0 || !request.getPageToken().isEmpty()) {
+                response = mapper.toGrpcReportListResponse(reportingService.pageReportsByStatus(
+                        status, request.getPageToken(), request.getPageSize()));
+            } else {
+                response = mapper.toGrpcReportListResponse(reportingService.getReportsByStatus(status));
+            }
 
-            ReportListResponse response = mapper.toGrpcReportListResponse(reports);
             responseObserver.onNext(response);
             responseObserver.onCompleted();
 
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(
+                    Status.INVALID_ARGUMENT
+                            .withDescription(e.getMessage())
+                            .asRuntimeException()
+            );
         } catch (Exception e) {
             log.error("Error getting reports by status: {}", e.getMessage(), e);
             responseObserver.onError(
@@ -368,6 +436,65 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
         }
     }
 
+    /**
+     * Stream reports for a project, newest first, one report per message
+     */
+    @Override
+    public void streamReportsByProject(GetReportsByProjectRequest request,
+                                       StreamObserver<DailyReportResponse> responseObserver) {
+        try {
+            log.info("gRPC: Streaming reports for project: {}", request.getProjectId());
+
+            String projectId = request.getProjectId();
+            int pageSize = request.getPageSize();
+            Function<String, ReportPage> pageLoader;
+
+            if (request.hasStartDate() && request.hasEndDate()) {
+                LocalDate startDate = LocalDate.parse(request.getStartDate().getValue());
+                LocalDate endDate = LocalDate.parse(request.getEndDate().getValue());
+                pageLoader = pageToken -> reportingService.pageReportsByDateRange(
+                        projectId, startDate, endDate, pageToken, pageSize);
+            } else {
+                pageLoader = pageToken -> reportingService.pageReportsByProject(projectId, pageToken, pageSize);
+            }
+
+            ReportStreamEmitter.start(responseObserver, pageLoader, mapper, request.getPageToken());
+
+        } catch (Exception e) {
+            log.error("Error streaming reports by project: {}", e.getMessage(), e);
+            responseObserver.onError(
+                    Status.INVALID_ARGUMENT
+                            .withDescription("Error streaming reports by project: " + e.getMessage())
+                            .asRuntimeException()
+            );
+        }
+    }
+
+    /**
+     * Stream reports with a status, newest first, one report per message
+     */
+    @Override
+    public void streamReportsByStatus(GetReportsByStatusRequest request,
+                                      StreamObserver<DailyReportResponse> responseObserver) {
+        try {
+            ReportStatus status = mapper.fromGrpcReportStatus(request.getStatus());
+            log.info("gRPC: Streaming reports with status: {}", status);
+
+            int pageSize = request.getPageSize();
+            ReportStreamEmitter.start(responseObserver,
+                    pageToken -> reportingService.pageReportsByStatus(status, pageToken, pageSize),
+                    mapper, request.getPageToken());
+
+        } catch (Exception e) {
+            log.error("Error streaming reports by status: {}", e.getMessage(), e);
+            responseObserver.onError(
+                    Status.INVALID_ARGUMENT
+                            .withDescription("Error streaming reports by status: " + e.getMessage())
+                            .asRuntimeException()
+            );
+        }
+    }
+
     /**
      * Add an activity to a report
      */
@@ -378,7 +505,7 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
 
             // Create activity from request
             ActivityEntry activity = mapper.fromGrpcAddActivityRequest(request);
-            activity.setId(UUID.randomUUID().toString());
+            activity.setId(TimeOrderedId.next());
 
             // Add activity to report
             ActivityEntry savedActivity = reportingService.addActivityToReport(
@@ -410,6 +537,103 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
         }
     }
 
+    /**
+     * Add a stream of activities; activities are grouped by report and each report is stored in one call
+     */
+    @Override
+    public StreamObserver<AddActivityRequest> bulkAddActivities(
+            StreamObserver<BulkAddActivitiesResponse> responseObserver) {
+
+        return new StreamObserver<>() {
+            // Activities per report, with their positions in the client stream
+            private final Map<String, List<ActivityEntry>> activitiesByReport = new LinkedHashMap<>();
+            private final Map<String, List<Integer>> indexesByReport = new HashMap<>();
+            private final List<BulkAddActivityResult> results = new ArrayList<>();
+            private int received;
+
+            @Override
+            public void onNext(AddActivityRequest request) {
+                int index = received++;
+                try {
+                    ActivityEntry activity = mapper.fromGrpcAddActivityRequest(request);
+                    activitiesByReport.computeIfAbsent(request.getReportId(), id -> new ArrayList<>()).add(activity);
+                    indexesByReport.computeIfAbsent(request.getReportId(), id -> new ArrayList<>()).add(index);
+                } catch (Exception e) {
+                    results.add(failure(index, request.getReportId(), e.getMessage()));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("gRPC: Bulk activity upload aborted by client after {} activities: {}",
+                        received, t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                try {
+                    log.info("gRPC: Bulk adding {} activities to {} reports", received, activitiesByReport.size());
+
+                    activitiesByReport.forEach((reportId, activities) ->
+                            addReportActivities(reportId, activities, indexesByReport.get(reportId)));
+
+                    results.sort(Comparator.comparingInt(BulkAddActivityResult::getIndex));
+                    int failed = (int) results.stream().filter(BulkAddActivityResult::hasError).count();
+
+                    responseObserver.onNext(BulkAddActivitiesResponse.newBuilder()
+                            .setAddedCount(results.size() - failed)
+                            .setFailedCount(failed)
+                            .addAllResults(results)
+                            .build());
+                    responseObserver.onCompleted();
+
+                } catch (Exception e) {
+                    log.error("Error bulk adding activities: {}", e.getMessage(), e);
+                    responseObserver.onError(
+                            Status.INTERNAL
+                                    .withDescription("Error bulk adding activities: " + e.getMessage())
+                                    .asRuntimeException()
+                    );
+                }
+            }
+
+            private void addReportActivities(String reportId, List<ActivityEntry> activities, List<Integer> indexes) {
+                BulkActivityResult result;
+                try {
+                    result = reportingService.addActivities(reportId, activities);
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    // Report missing or not editable: every activity for it is rejected
+                    indexes.forEach(index -> results.add(failure(index, reportId, e.getMessage())));
+                    return;
+                }
+
+                Map<Integer, String> errors = new HashMap<>();
+                result.errors().forEach(error -> errors.put(error.index(), error.message()));
+
+                Iterator<ActivityEntry> added = result.added().iterator();
+                for (int i = 0; i < indexes.size(); i++) {
+                    if (errors.containsKey(i)) {
+                        results.add(failure(indexes.get(i), reportId, errors.get(i)));
+                    } else {
+                        results.add(BulkAddActivityResult.newBuilder()
+                                .setIndex(indexes.get(i))
+                                .setReportId(reportId)
+                                .setActivityId(added.next().getId())
+                                .build());
+                    }
+                }
+            }
+
+            private BulkAddActivityResult failure(int index, String reportId, String message) {
+                return BulkAddActivityResult.newBuilder()
+                        .setIndex(index)
+                        .setReportId(reportId)
+                        .setError(StringValue.of(message != null ? message : "Invalid activity"))
+                        .build();
+            }
+        };
+    }
+
     /**
      * Get an activity by ID
      */
@@ -667,4 +891,35 @@ public class DailyReportGrpcController extends DailyReportServiceGrpc.DailyRepor
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Get a report together with its progress, completion and total duration
+     */
+    @Override
+    public void getReportSummary(GetReportSummaryRequest request, StreamObserver<ReportSummaryResponse> responseObserver) {
+        try {
+            log.info("gRPC: Fetching summary for report: {}", request.getReportId());
+
+            Optional<ReportSummary> summaryOpt = reportingService.getReportSummary(request.getReportId());
+
+            if (summaryOpt.isPresent()) {
+                responseObserver.onNext(mapper.toGrpcSummaryResponse(summaryOpt.get()));
+                responseObserver.onCompleted();
+            } else {
+                responseObserver.onError(
+                        Status.NOT_FOUND
+                                .withDescription("Report not found with ID: " + request.getReportId())
+                                .asRuntimeException()
+                );
+            }
+
+        } catch (Exception e) {
+            log.error("Error getting report summary: {}", e.getMessage(), e);
+            responseObserver.onError(
+                    Status.INTERNAL
+                            .withDescription("Error getting report summary: " + e.getMessage())
+                            .asRuntimeException()
+            );
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.se498.dailyreporting.controller;
 
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
 import com.se498.dailyreporting.domain.vo.RejectionReason;
+import com.se498.dailyreporting.domain.vo.ReportKey;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.RollupPeriod;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.dto.*;
 import com.se498.dailyreporting.dto.ReasonMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,20 +20,34 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import com.se498.dailyreporting.repository.ActivityRow;
+import com.se498.dailyreporting.repository.ReportRow;
+import com.se498.dailyreporting.service.ActivityView;
+import com.se498.dailyreporting.service.BulkReportResult;
 import com.se498.dailyreporting.service.DailyReportingService;
+import com.se498.dailyreporting.service.ReportHistoryPage;
+import com.se498.dailyreporting.service.ReportPage;
+import com.se498.dailyreporting.service.ReportProgress;
+import com.se498.dailyreporting.service.ReportSummary;
+import com.se498.dailyreporting.service.ReportView;
+import com.se498.dailyreporting.service.RollupPoint;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.HashSet;
 
@@ -47,6 +65,9 @@ public class DailyReportRestController {
     @Autowired
     private final ReasonMapper reasonMapper;
 
+    @Value("${reporting.live-progress.stream-timeout-ms:1800000}")
+    private long progressStreamTimeoutMillis;
+
     @PostMapping
     @Operation(summary = "Create a new daily report with optional activities")
     public ResponseEntity<DailyReportResponse> createReport(
@@ -85,6 +106,30 @@ public class DailyReportRestController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create DRAFT reports for many project/date pairs, skipping pairs that already have one")
+    public ResponseEntity<BulkReportResponse> createReports(
+            @RequestBody @Valid BulkReportRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        log.info("Creating daily reports for {} project/date pairs", request.getReports().size());
+
+        List<ReportKey> keys = request.getReports().stream()
+                .map(report -> new ReportKey(report.getProjectId(), report.getReportDate()))
+                .collect(Collectors.toList());
+        BulkReportResult result = reportingService.createReports(keys, userDetails.getUsername());
+
+        List<BulkReportItemResponse> reports = result.reports().stream()
+                .map(item -> new BulkReportItemResponse(item.key().projectId(), item.key().reportDate(),
+                        item.reportId(), item.created()))
+                .collect(Collectors.toList());
+        BulkReportResponse response = new BulkReportResponse(result.createdCount(), result.existingCount(),
+                result.createdIds(), result.existingIds(), reports);
+
+        // 201 only when something new was stored; a repeated call answers 200
+        return new ResponseEntity<>(response, result.createdCount() > 0 ? HttpStatus.CREATED : HttpStatus.OK);
+    }
+
     @GetMapping("/{reportId}")
     @Operation(summary = "Get a daily report by ID")
     public ResponseEntity<DailyReportResponse> getReport(@PathVariable String reportId) {
@@ -191,21 +236,91 @@ public class DailyReportRestController {
                             LocalDateTime.now(), null, null));
         }
 
-        RejectionReason rejectionReason = reasonOpt.get();
-
-        // Use mapper to format the full reason with details if needed
-        String fullReason = reasonMapper.formatRejectionReason(
-                rejectionReason, rejectionRequest.getCustomDetails());
-
+        // The code and details are kept apart in the status history
         DailyReport report = reportingService.rejectReport(
                 reportId,
-                fullReason,
+                reasonOpt.get(),
+                rejectionRequest.getCustomDetails(),
                 userDetails.getUsername()
         );
 
         return ResponseEntity.ok(mapToReportResponse(report));
     }
 
+    /**
+     * Get one page of a report's status history, oldest first (v2)
+     */
+    @GetMapping("/v2/{reportId}/history")
+    @Operation(summary = "Get the status history of a daily report (v2)")
+    public ResponseEntity<ReportHistoryResponse> getReportHistory(
+            @PathVariable String reportId,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "0") int pageSize) {
+
+        ReportHistoryPage page;
+        try {
+            page = reportingService.getReportHistory(reportId, pageToken, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<ReportStatusEventResponse> events = page.events().stream()
+                .map(this::mapToStatusEventResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new ReportHistoryResponse(events, page.nextPageToken()));
+    }
+
+    /**
+     * Count transitions into each status since a point in time (v2)
+     */
+    @GetMapping("/v2/analytics/status-transitions")
+    @Operation(summary = "Count status transitions since a point in time (v2)")
+    public ResponseEntity<Map<ReportStatus, Long>> getStatusTransitionCounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(reportingService.countTransitionsSince(since));
+    }
+
+    /**
+     * Count rejections for each reason since a point in time (v2)
+     */
+    @GetMapping("/v2/analytics/rejection-reasons")
+    @Operation(summary = "Count rejections by reason since a point in time (v2)")
+    public ResponseEntity<Map<RejectionReason, Long>> getRejectionReasonCounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(reportingService.countRejectionsByReasonSince(since));
+    }
+
+    /**
+     * Dashboard totals of a project per day, week or month (v2)
+     */
+    @GetMapping("/v2/project/{projectId}/rollups")
+    @Operation(summary = "Get dashboard totals of a project per period (v2)")
+    public ResponseEntity<List<RollupPointResponse>> getProjectRollups(
+            @PathVariable String projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "WEEK") RollupPeriod period) {
+
+        List<RollupPoint> points;
+        try {
+            points = reportingService.getProjectTimeSeries(projectId, startDate, endDate, period);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(points.stream()
+                .map(this::mapToRollupResponse)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Recompute every dashboard rollup from the reports, e.g. after a backfill (v2)
+     */
+    @PostMapping("/v2/rollups/rebuild")
+    @Operation(summary = "Rebuild the dashboard rollups from the reports (v2)")
+    public ResponseEntity<Integer> rebuildRollups() {
+        return ResponseEntity.ok(reportingService.rebuildRollups());
+    }
+
     @DeleteMapping("/{reportId}")
     @Operation(summary = "Delete a daily report")
     public ResponseEntity<Void> deleteReport(@PathVariable String reportId) {
@@ -222,12 +337,12 @@ public class DailyReportRestController {
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-        List<DailyReport> reports;
+        List<ReportView> reports;
 
         if (startDate != null && endDate != null) {
-            reports = reportingService.getReportsByDateRange(projectId, startDate, endDate);
+            reports = reportingService.getReportViewsByDateRange(projectId, startDate, endDate);
         } else {
-            reports = reportingService.getReportsByProject(projectId);
+            reports = reportingService.getReportViewsByProject(projectId);
         }
 
         List<DailyReportResponse> responseList = reports.stream()
@@ -249,7 +364,7 @@ public class DailyReportRestController {
             return ResponseEntity.badRequest().build();
         }
 
-        List<DailyReport> reports = reportingService.getReportsByStatus(reportStatus);
+        List<ReportView> reports = reportingService.getReportViewsByStatus(reportStatus);
 
         List<DailyReportResponse> responseList = reports.stream()
                 .map(this::mapToReportResponse)
@@ -258,6 +373,55 @@ public class DailyReportRestController {
         return ResponseEntity.ok(responseList);
     }
 
+    /**
+     * Get one page of reports for a project, newest first (v2)
+     */
+    @GetMapping("/v2/project/{projectId}")
+    @Operation(summary = "Get a page of reports by project and optional date range (v2)")
+    public ResponseEntity<ReportPageResponse> getReportPageByProject(
+            @PathVariable String projectId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "0") int pageSize) {
+
+        ReportPage page;
+        try {
+            if (startDate != null && endDate != null) {
+                page = reportingService.pageReportsByDateRange(projectId, startDate, endDate, pageToken, pageSize);
+            } else {
+                page = reportingService.pageReportsByProject(projectId, pageToken, pageSize);
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(mapToPageResponse(page));
+    }
+
+    /**
+     * Get one page of reports with a status, newest first (v2)
+     */
+    @GetMapping("/v2/status/{status}")
+    @Operation(summary = "Get a page of reports by status (v2)")
+    public ResponseEntity<ReportPageResponse> getReportPageByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "0") int pageSize) {
+
+        ReportPage page;
+        try {
+            ReportStatus reportStatus = ReportStatus.valueOf(status.toUpperCase());
+            page = reportingService.pageReportsByStatus(reportStatus, pageToken, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(mapToPageResponse(page));
+    }
+
     @PostMapping("/{reportId}/activities")
     @Operation(summary = "Add an activity to a report (with optional fields)")
     public ResponseEntity<ActivityEntryResponse> addActivity(
@@ -283,7 +447,7 @@ public class DailyReportRestController {
 
         // Create activity from request
         ActivityEntry activity = new ActivityEntry();
-        activity.setId(UUID.randomUUID().toString());
+        activity.setId(TimeOrderedId.next());
         activity.setReportId(reportId);
 
         // Required fields
@@ -339,7 +503,7 @@ public class DailyReportRestController {
     public ResponseEntity<List<ActivityEntryResponse>> getActivitiesByReport(
             @PathVariable String reportId) {
 
-        List<ActivityEntry> activities = reportingService.getActivitiesByReport(reportId);
+        List<ActivityView> activities = reportingService.getActivityViewsByReport(reportId);
 
         List<ActivityEntryResponse> responseList = activities.stream()
                 .map(this::mapToActivityResponse)
@@ -411,6 +575,18 @@ public class DailyReportRestController {
         return ResponseEntity.ok(mapToActivityResponse(updatedActivity));
     }
 
+    @PutMapping("/activities/{activityId}/progress/buffered")
+    @Operation(summary = "Queue an activity progress update to be written with the next batch")
+    public ResponseEntity<Void> bufferActivityProgress(
+            @PathVariable String activityId,
+            @RequestParam double progress,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        reportingService.bufferActivityProgress(activityId, progress, userDetails.getUsername());
+
+        return ResponseEntity.accepted().build();
+    }
+
     @DeleteMapping("/activities/{activityId}")
     @Operation(summary = "Delete an activity")
     public ResponseEntity<Void> deleteActivity(@PathVariable String activityId) {
@@ -439,6 +615,27 @@ public class DailyReportRestController {
         return ResponseEntity.ok(durationMinutes);
     }
 
+    @GetMapping("/{reportId}/summary")
+    @Operation(summary = "Get a report with its progress, completion and total duration in one call")
+    public ResponseEntity<ReportSummaryResponse> getReportSummary(@PathVariable String reportId) {
+        return reportingService.getReportSummary(reportId)
+                .map(summary -> ResponseEntity.ok(mapToSummaryResponse(summary)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(path = "/{reportId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream a report's progress and status as Server-Sent Events")
+    public ResponseEntity<SseEmitter> streamReportProgress(@PathVariable String reportId) {
+        Flux<ReportProgress> updates;
+        try {
+            updates = reportingService.watchReportProgress(reportId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(ReportProgressStreamer.start(updates, this::mapToProgressResponse,
+                progressStreamTimeoutMillis));
+    }
+
     // Helper methods for mapping domain objects to DTOs
 
     private DailyReportResponse mapToReportResponse(DailyReport report) {
@@ -466,6 +663,67 @@ public class DailyReportRestController {
         return response;
     }
 
+    private DailyReportResponse mapToReportResponse(ReportView view) {
+        ReportRow report = view.report();
+        DailyReportResponse response = new DailyReportResponse();
+        response.setId(report.id());
+        response.setProjectId(report.projectId());
+        response.setReportDate(report.reportDate());
+        response.setStatus(report.status().name());
+        response.setNotes(report.notes());
+        response.setCreatedAt(report.createdAt());
+        response.setCreatedBy(report.createdBy());
+        response.setUpdatedAt(report.updatedAt());
+        response.setUpdatedBy(report.updatedBy());
+        response.setActivities(view.activities().stream()
+                .map(this::mapToActivityResponse)
+                .collect(Collectors.toList()));
+        response.setProgress(view.progress());
+        response.setComplete(view.complete());
+
+        return response;
+    }
+
+    private ReportPageResponse mapToPageResponse(ReportPage page) {
+        List<DailyReportResponse> reports = page.reports().stream()
+                .map(this::mapToReportResponse)
+                .collect(Collectors.toList());
+        return new ReportPageResponse(reports, page.nextPageToken());
+    }
+
+    private ReportSummaryResponse mapToSummaryResponse(ReportSummary summary) {
+        DailyReportResponse report = mapToReportResponse(summary.report());
+        return new ReportSummaryResponse(report, summary.progress(), summary.complete(),
+                summary.totalDurationMinutes(), summary.activityCount());
+    }
+
+    private RollupPointResponse mapToRollupResponse(RollupPoint point) {
+        return new RollupPointResponse(point.periodStart(), point.reportCount(), point.reportsByStatus(),
+                point.activityCount(), point.completedActivityCount(), point.averageProgress(),
+                point.activityHours());
+    }
+
+    private ReportProgressResponse mapToProgressResponse(ReportProgress progress) {
+        return new ReportProgressResponse(progress.reportId(), progress.status().name(), progress.progress(),
+                progress.complete(), progress.activityCount(), progress.completedActivityCount(),
+                progress.updatedBy(), progress.updatedAt());
+    }
+
+    private ReportStatusEventResponse mapToStatusEventResponse(ReportStatusEvent event) {
+        ReportStatusEventResponse response = new ReportStatusEventResponse();
+        response.setId(event.getId());
+        response.setReportId(event.getReportId());
+        response.setFromStatus(event.getFromStatus() != null ? event.getFromStatus().name() : null);
+        response.setToStatus(event.getToStatus().name());
+        if (event.getReasonCode() != null) {
+            response.setReason(reasonMapper.toResponseDto(event.getReasonCode()));
+        }
+        response.setDetails(event.getReasonText());
+        response.setActor(event.getActor());
+        response.setOccurredAt(event.getOccurredAt());
+        return response;
+    }
+
     private ActivityEntryResponse mapToActivityResponse(ActivityEntry activity) {
         ActivityEntryResponse response = new ActivityEntryResponse();
         response.setId(activity.getId());
@@ -488,4 +746,25 @@ public class DailyReportRestController {
 
         return response;
     }
+
+    private ActivityEntryResponse mapToActivityResponse(ActivityView view) {
+        ActivityRow activity = view.activity();
+        ActivityEntryResponse response = new ActivityEntryResponse();
+        response.setId(activity.id());
+        response.setReportId(activity.reportId());
+        response.setDescription(activity.description());
+        response.setCategory(activity.category());
+        response.setStartTime(activity.startTime());
+        response.setEndTime(activity.endTime());
+        response.setProgress(activity.progress());
+        response.setStatus(activity.status().name());
+        response.setNotes(activity.notes());
+        response.setPersonnel(view.personnel());
+        response.setCreatedAt(activity.createdAt());
+        response.setCreatedBy(activity.createdBy());
+        response.setUpdatedAt(activity.updatedAt());
+        response.setDurationMinutes(activity.duration().toMinutes());
+
+        return response;
+    }
 }
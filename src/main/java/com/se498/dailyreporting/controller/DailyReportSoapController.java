@@ -4,7 +4,9 @@ import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.service.DailyReportingService;
+import com.se498.dailyreporting.service.ReportPage;
 import com.se498.dailyreporting.soap.adapter.LocalDateAdapter;
 import com.se498.dailyreporting.soap.adapter.LocalDateTimeAdapter;
 import jakarta.jws.WebMethod;
@@ -202,6 +204,51 @@ public class DailyReportSoapController {
                 .collect(Collectors.toList());
     }
 
+    @WebMethod(operationName = "getReportsByProjectPaged")
+    @WebResult(name = "reportPageResponse")
+    public ReportPageSoapResponse getReportsByProjectPaged(
+            @WebParam(name = "getReportsByProjectPagedRequest") GetReportsByProjectPagedRequest request) {
+
+        log.info("SOAP: Fetching page of reports for project: {}, startDate: {}, endDate: {}",
+                request.getProjectId(), request.getStartDate(), request.getEndDate());
+
+        ReportPage page;
+
+        if (request.getStartDate() != null && request.getEndDate() != null) {
+            page = reportingService.pageReportsByDateRange(
+                    request.getProjectId(),
+                    request.getStartDate(),
+                    request.getEndDate(),
+                    request.getPageToken(),
+                    request.getPageSize()
+            );
+        } else {
+            page = reportingService.pageReportsByProject(
+                    request.getProjectId(), request.getPageToken(), request.getPageSize());
+        }
+
+        return mapToPageResponse(page);
+    }
+
+    @WebMethod(operationName = "getReportsByStatusPaged")
+    @WebResult(name = "reportPageResponse")
+    public ReportPageSoapResponse getReportsByStatusPaged(
+            @WebParam(name = "getReportsByStatusPagedRequest") GetReportsByStatusPagedRequest request) {
+
+        log.info("SOAP: Fetching page of reports with status: {}", request.getStatus());
+
+        ReportStatus reportStatus;
+        try {
+            reportStatus = ReportStatus.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid report status: {}", request.getStatus());
+            throw new IllegalArgumentException("Invalid report status: " + request.getStatus());
+        }
+
+        return mapToPageResponse(reportingService.pageReportsByStatus(
+                reportStatus, request.getPageToken(), request.getPageSize()));
+    }
+
     // === ACTIVITY OPERATIONS ===
 
     @WebMethod(operationName = "addActivity")
@@ -213,7 +260,7 @@ public class DailyReportSoapController {
 
         // Create activity from request
         ActivityEntry activity = new ActivityEntry();
-        activity.setId(UUID.randomUUID().toString());
+        activity.setId(TimeOrderedId.next());
         activity.setReportId(request.getReportId());
         activity.setDescription(request.getDescription());
         activity.setCategory(request.getCategory());
@@ -400,6 +447,15 @@ public class DailyReportSoapController {
         return response;
     }
 
+    private ReportPageSoapResponse mapToPageResponse(ReportPage page) {
+        ReportPageSoapResponse response = new ReportPageSoapResponse();
+        response.setReports(page.reports().stream()
+                .map(this::mapToReportResponse)
+                .collect(Collectors.toList()));
+        response.setNextPageToken(page.nextPageToken());
+        return response;
+    }
+
     private ActivityEntrySoapResponse mapToActivityResponse(ActivityEntry activity) {
         if (activity == null) {
             return null;
@@ -646,6 +702,68 @@ public class DailyReportSoapController {
 
     }
 
+    @Setter
+    @Getter
+    @XmlRootElement(name = "getReportsByProjectPagedRequest")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class GetReportsByProjectPagedRequest {
+        private String projectId;
+
+        @XmlJavaTypeAdapter(LocalDateAdapter.class)
+        private LocalDate startDate;
+
+        @XmlJavaTypeAdapter(LocalDateAdapter.class)
+        private LocalDate endDate;
+
+        // Token from a previous page; omit for the first page
+        private String pageToken;
+        private int pageSize;
+
+        // Default constructor needed for JAXB
+        public GetReportsByProjectPagedRequest() {
+        }
+
+    }
+
+    @Setter
+    @Getter
+    @XmlRootElement(name = "getReportsByStatusPagedRequest")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class GetReportsByStatusPagedRequest {
+        private String status;
+
+        // Token from a previous page; omit for the first page
+        private String pageToken;
+        private int pageSize;
+
+        // Default constructor needed for JAXB
+        public GetReportsByStatusPagedRequest() {
+        }
+
+    }
+
+    @Getter
+    @XmlRootElement(name = "reportPageResponse")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class ReportPageSoapResponse {
+        @XmlElementWrapper(name = "reports")
+        @XmlElement(name = "report")
+        private List<DailyReportSoapResponse> reports = new ArrayList<>();
+
+        // Absent on the last page
+        @Setter
+        private String nextPageToken;
+
+        // Default constructor needed for JAXB
+        public ReportPageSoapResponse() {
+        }
+
+        public void setReports(List<DailyReportSoapResponse> reports) {
+            this.reports = reports != null ? reports : new ArrayList<>();
+        }
+
+    }
+
     @Getter
     @XmlRootElement(name = "addActivityRequest")
     @XmlAccessorType(XmlAccessType.FIELD)
@@ -4,9 +4,11 @@ import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.dto.ActivityEntryRequest;
 import com.se498.dailyreporting.dto.DailyReportRequest;
 import com.se498.dailyreporting.service.DailyReportingService;
+import com.se498.dailyreporting.service.ReportSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -87,24 +89,17 @@ public class DailyReportViewController {
     @GetMapping("/{reportId}")
     public String viewReport(@PathVariable String reportId, Model model) {
         try {
-            Optional<DailyReport> reportOpt = reportingService.getReport(reportId);
+            Optional<ReportSummary> summaryOpt = reportingService.getReportSummary(reportId);
 
-            if (reportOpt.isPresent()) {
-                DailyReport report = reportOpt.get();
+            if (summaryOpt.isPresent()) {
+                // Report, activities and metrics all come from a single read
+                ReportSummary summary = summaryOpt.get();
+                DailyReport report = summary.report();
                 model.addAttribute("report", report);
-
-                // Get activities for the report
-                List<ActivityEntry> activities = reportingService.getActivitiesByReport(reportId);
-                model.addAttribute("activities", activities);
-
-                // Calculate report metrics
-                double progress = reportingService.calculateReportProgress(reportId);
-                boolean isComplete = reportingService.isReportComplete(reportId);
-                long totalDuration = reportingService.getTotalActivityDurationMinutes(reportId);
-
-                model.addAttribute("progress", progress);
-                model.addAttribute("isComplete", isComplete);
-                model.addAttribute("totalDuration", totalDuration);
+                model.addAttribute("activities", summary.activities());
+                model.addAttribute("progress", summary.progress());
+                model.addAttribute("isComplete", summary.complete());
+                model.addAttribute("totalDuration", summary.totalDurationMinutes());
                 model.addAttribute("pageTitle", "Report: " + report.getProjectId() + " - " + report.getReportDate());
 
                 return "dailyreport/view";
@@ -310,7 +305,7 @@ public class DailyReportViewController {
 
             // Create activity from request
             ActivityEntry activity = new ActivityEntry();
-            activity.setId(UUID.randomUUID().toString());
+            activity.setId(TimeOrderedId.next());
             activity.setReportId(reportId);
             activity.setDescription(request.getDescription());
             activity.setCategory(request.getCategory());
@@ -0,0 +1,85 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.dto.ReportEventResponse;
+import com.se498.dailyreporting.service.InProcessReportEventSink;
+import com.se498.dailyreporting.service.ReportEvent;
+import com.se498.dailyreporting.service.ReportEventOutbox;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Change feed for downstream systems: read the report event stream incrementally instead of polling
+ * the report lists
+ */
+@RestController
+@RequestMapping("/reports/v2/events")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Report Events", description = "APIs for following changes to daily reports")
+public class ReportEventController {
+
+    @Autowired
+    private final ReportEventOutbox eventOutbox;
+
+    @Autowired
+    private final InProcessReportEventSink liveEvents;
+
+    @Value("${reporting.outbox.stream-timeout-ms:1800000}")
+    private long streamTimeoutMillis;
+
+    @Value("${reporting.outbox.max-replay:10000}")
+    private int maxReplay;
+
+    // Replays read the outbox off the request thread, one virtual thread per stream
+    private final ExecutorService replayExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("report-event-replay-", 0).factory());
+
+    @GetMapping
+    @Operation(summary = "Get report events after a stream position")
+    public ResponseEntity<List<ReportEventResponse>> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        List<ReportEventResponse> events = eventOutbox.eventsAfter(after, limit).stream()
+                .map(this::mapToEventResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream report events after a stream position as Server-Sent Events")
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long after,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+
+        // A reconnecting EventSource sends the last id it received; without either, follow live events only
+        long position = lastEventId != null ? lastEventId : after != null ? after : eventOutbox.lastPosition();
+        log.info("Opening report event stream after position {}", position);
+        return ReportEventStreamer.start(eventOutbox, liveEvents, this::mapToEventResponse, replayExecutor,
+                position, Math.max(1, maxReplay), streamTimeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        replayExecutor.shutdownNow();
+    }
+
+    private ReportEventResponse mapToEventResponse(ReportEvent event) {
+        return new ReportEventResponse(event.position(), event.id(), event.type().name(), event.reportId(),
+                event.activityId(), event.actor(), event.occurredAt());
+    }
+}
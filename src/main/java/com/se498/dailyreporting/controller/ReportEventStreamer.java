@@ -0,0 +1,147 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.dto.ReportEventResponse;
+import com.se498.dailyreporting.service.InProcessReportEventSink;
+import com.se498.dailyreporting.service.ReportEvent;
+import com.se498.dailyreporting.service.ReportEventOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Tails the report event stream over Server-Sent Events
+ * The listener is registered before the stored events are replayed, and live events that arrive
+ * during the replay are held back until it finishes. Every event is sent once, in position order,
+ * with the position as the SSE id so a reconnecting client resumes through Last-Event-ID.
+ * The replay runs on the given executor once the emitter is handed back, and stops after maxReplay
+ * events; the stream then ends and the client reconnects from the last id it received
+ */
+@Slf4j
+final class ReportEventStreamer {
+
+    private static final int REPLAY_PAGE_SIZE = ReportEventOutbox.MAX_READ_SIZE;
+
+    private final SseEmitter emitter;
+    private final Function<ReportEvent, ReportEventResponse> mapper;
+    private final List<ReportEvent> heldBack = new ArrayList<>();
+
+    private long lastSent;
+    private boolean replaying = true;
+    private boolean closed;
+    private Runnable unsubscribe = () -> { };
+
+    private ReportEventStreamer(SseEmitter emitter, Function<ReportEvent, ReportEventResponse> mapper, long after) {
+        this.emitter = emitter;
+        this.mapper = mapper;
+        this.lastSent = after;
+    }
+
+    /**
+     * Replay events after a position and then follow live events until the client disconnects
+     *
+     * @param after Last position the client has seen
+     * @param maxReplay Most stored events to replay on this connection
+     * @param timeoutMillis How long the connection may stay open
+     */
+    static SseEmitter start(ReportEventOutbox outbox,
+                            InProcessReportEventSink liveEvents,
+                            Function<ReportEvent, ReportEventResponse> mapper,
+                            Executor replayExecutor,
+                            long after,
+                            int maxReplay,
+                            long timeoutMillis) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ReportEventStreamer streamer = new ReportEventStreamer(emitter, mapper, after);
+        emitter.onCompletion(streamer::close);
+        emitter.onTimeout(streamer::close);
+        emitter.onError(error -> streamer.close());
+
+        streamer.unsubscribe = liveEvents.subscribe(streamer::onLiveEvent);
+        replayExecutor.execute(() -> streamer.replay(outbox, maxReplay));
+        return emitter;
+    }
+
+    private void replay(ReportEventOutbox outbox, int maxReplay) {
+        int replayed = 0;
+        List<ReportEvent> page;
+        try {
+            do {
+                int size = Math.min(REPLAY_PAGE_SIZE, maxReplay - replayed);
+                page = outbox.eventsAfter(currentPosition(), size);
+                page.forEach(this::send);
+                replayed += page.size();
+                if (page.size() == size && replayed >= maxReplay) {
+                    log.debug("Report event replay stopped after {} events at position {}", replayed,
+                            currentPosition());
+                    complete();
+                    return;
+                }
+            } while (page.size() == REPLAY_PAGE_SIZE && !isClosed());
+        } catch (RuntimeException e) {
+            log.warn("Report event replay failed after position {}: {}", currentPosition(), e.getMessage());
+            synchronized (this) {
+                close();
+                emitter.completeWithError(e);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            replaying = false;
+            heldBack.forEach(this::send);
+            heldBack.clear();
+        }
+    }
+
+    private synchronized void onLiveEvent(ReportEvent event) {
+        if (replaying) {
+            heldBack.add(event);
+        } else {
+            send(event);
+        }
+    }
+
+    private synchronized void send(ReportEvent event) {
+        if (closed || event.position() <= lastSent) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.position()))
+                    .name(event.type().name())
+                    .data(mapper.apply(event)));
+            lastSent = event.position();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Report event stream closed at position {}: {}", lastSent, e.getMessage());
+            close();
+        }
+    }
+
+    private synchronized long currentPosition() {
+        return lastSent;
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private synchronized void complete() {
+        if (!closed) {
+            close();
+            emitter.complete();
+        }
+    }
+
+    private synchronized void close() {
+        if (!closed) {
+            closed = true;
+            heldBack.clear();
+            unsubscribe.run();
+        }
+    }
+}
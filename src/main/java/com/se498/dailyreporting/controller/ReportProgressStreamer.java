@@ -0,0 +1,75 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.dto.ReportProgressResponse;
+import com.se498.dailyreporting.service.ReportProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Sends a report's live progress over Server-Sent Events, one "progress" event per update
+ * The subscription is cancelled as soon as the client goes away or the connection times out
+ */
+@Slf4j
+final class ReportProgressStreamer {
+
+    private final SseEmitter emitter;
+    private final Function<ReportProgress, ReportProgressResponse> mapper;
+
+    private Disposable subscription;
+    private boolean closed;
+
+    private ReportProgressStreamer(SseEmitter emitter, Function<ReportProgress, ReportProgressResponse> mapper) {
+        this.emitter = emitter;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param timeoutMillis How long the connection may stay open; the client reconnects after that
+     */
+    static SseEmitter start(Flux<ReportProgress> updates,
+                            Function<ReportProgress, ReportProgressResponse> mapper,
+                            long timeoutMillis) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ReportProgressStreamer streamer = new ReportProgressStreamer(emitter, mapper);
+        emitter.onCompletion(streamer::close);
+        emitter.onTimeout(streamer::close);
+        emitter.onError(error -> streamer.close());
+
+        Disposable subscription = updates.subscribe(streamer::send, emitter::completeWithError, emitter::complete);
+        streamer.subscribed(subscription);
+        return emitter;
+    }
+
+    private synchronized void subscribed(Disposable subscription) {
+        this.subscription = subscription;
+        if (closed) {
+            subscription.dispose();
+        }
+    }
+
+    private synchronized void send(ReportProgress update) {
+        if (closed) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(mapper.apply(update)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Progress stream for report {} closed: {}", update.reportId(), e.getMessage());
+            close();
+        }
+    }
+
+    private synchronized void close() {
+        if (!closed) {
+            closed = true;
+            if (subscription != null) {
+                subscription.dispose();
+            }
+        }
+    }
+}
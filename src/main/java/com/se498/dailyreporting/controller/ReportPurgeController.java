@@ -0,0 +1,80 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.dto.ReportPurgeResponse;
+import com.se498.dailyreporting.service.ReportPurge;
+import com.se498.dailyreporting.service.ReportPurgeJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Removes old reports in the background; the purge is accepted at once and its progress polled
+ * Purges are for admins only
+ */
+@RestController
+@RequestMapping("/reports/v2/purges")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Report Purges", description = "APIs for deleting old daily reports in bulk")
+public class ReportPurgeController {
+
+    @Autowired
+    private final ReportPurgeJob purgeJob;
+
+    @PostMapping
+    @Operation(summary = "Start deleting the approved and rejected reports dated within a range, in throttled " +
+            "batches; force also deletes drafts and submitted reports")
+    public ResponseEntity<ReportPurgeResponse> startPurge(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean force,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        ReportPurge purge;
+        try {
+            purge = purgeJob.submit(startDate, endDate, force, userDetails.getUsername());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.accepted().body(mapToPurgeResponse(purge));
+    }
+
+    @GetMapping("/{purgeId}")
+    @Operation(summary = "Get the progress of a purge")
+    public ResponseEntity<ReportPurgeResponse> getPurge(
+            @PathVariable String purgeId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return purgeJob.find(purgeId)
+                .map(purge -> ResponseEntity.ok(mapToPurgeResponse(purge)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private boolean isAdmin(UserDetails userDetails) {
+        return userDetails != null
+                && userDetails.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    private ReportPurgeResponse mapToPurgeResponse(ReportPurge purge) {
+        return new ReportPurgeResponse(purge.id(), purge.startDate(), purge.endDate(), purge.force(),
+                purge.requestedBy(),
+                purge.state().name(), purge.purgedCount(), purge.submittedAt(), purge.finishedAt(), purge.error());
+    }
+}
@@ -0,0 +1,65 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.dto.ReportSearchHitResponse;
+import com.se498.dailyreporting.dto.ReportSearchResponse;
+import com.se498.dailyreporting.dto.SearchHighlightResponse;
+import com.se498.dailyreporting.service.ReportSearchHit;
+import com.se498.dailyreporting.service.ReportSearchPage;
+import com.se498.dailyreporting.service.ReportSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Full-text search over report notes and activities
+ */
+@RestController
+@RequestMapping("/reports/v2/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Report Search", description = "APIs for searching daily reports by text")
+public class ReportSearchController {
+
+    @Autowired
+    private final ReportSearchService searchService;
+
+    @GetMapping
+    @Operation(summary = "Search report notes and activity descriptions, categories and personnel")
+    public ResponseEntity<ReportSearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int pageSize) {
+
+        ReportSearchPage results;
+        try {
+            results = searchService.search(q, projectId, page, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(mapToSearchResponse(results));
+    }
+
+    @PostMapping("/reindex")
+    @Operation(summary = "Rebuild the search index from the reports in the background")
+    public ResponseEntity<Void> reindex() {
+        searchService.startReindex();
+        return ResponseEntity.accepted().build();
+    }
+
+    private ReportSearchResponse mapToSearchResponse(ReportSearchPage results) {
+        return new ReportSearchResponse(results.hits().stream().map(this::mapToHitResponse).toList(),
+                results.totalHits(), results.page(), results.pageSize(), results.hasNext());
+    }
+
+    private ReportSearchHitResponse mapToHitResponse(ReportSearchHit hit) {
+        return new ReportSearchHitResponse(hit.reportId(), hit.projectId(), hit.reportDate(), hit.status().name(),
+                hit.score(), hit.highlights().stream()
+                        .map(highlight -> new SearchHighlightResponse(highlight.field(), highlight.fragment()))
+                        .toList());
+    }
+}
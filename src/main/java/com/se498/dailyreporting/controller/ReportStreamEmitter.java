@@ -0,0 +1,103 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.dto.grpc.GrpcMapper;
+import com.se498.dailyreporting.grpc.DailyReportResponse;
+import com.se498.dailyreporting.service.ReportPage;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Sends reports on a server-streaming call, one DailyReportResponse per message
+ * Reports are read one keyset page at a time and a page is only fetched once the client can accept
+ * more messages, so a slow client holds back the database reads instead of filling the heap
+ */
+@Slf4j
+final class ReportStreamEmitter implements Runnable {
+
+    private final ServerCallStreamObserver<DailyReportResponse> observer;
+    private final Function<String, ReportPage> pageLoader;
+    private final GrpcMapper mapper;
+
+    private Iterator<DailyReport> current = Collections.emptyIterator();
+    private String nextPageToken;
+    private boolean started;
+    private volatile boolean done;
+
+    private ReportStreamEmitter(ServerCallStreamObserver<DailyReportResponse> observer,
+                                Function<String, ReportPage> pageLoader,
+                                GrpcMapper mapper,
+                                String pageToken) {
+        this.observer = observer;
+        this.pageLoader = pageLoader;
+        this.mapper = mapper;
+        this.nextPageToken = pageToken == null || pageToken.isEmpty() ? null : pageToken;
+    }
+
+    /**
+     * Start streaming; messages are sent from the call's onReady callbacks
+     *
+     * @param responseObserver Observer of a server-streaming call
+     * @param pageLoader Loads the page after the given token, or the first page for null
+     * @param mapper Converts reports to messages
+     * @param pageToken Token to resume from, or empty to start at the first report
+     */
+    static void start(StreamObserver<DailyReportResponse> responseObserver,
+                      Function<String, ReportPage> pageLoader,
+                      GrpcMapper mapper,
+                      String pageToken) {
+        ServerCallStreamObserver<DailyReportResponse> observer =
+                (ServerCallStreamObserver<DailyReportResponse>) responseObserver;
+        ReportStreamEmitter emitter = new ReportStreamEmitter(observer, pageLoader, mapper, pageToken);
+        observer.setOnCancelHandler(() -> emitter.done = true);
+        observer.setOnReadyHandler(emitter);
+    }
+
+    /**
+     * Send as many reports as the transport accepts; called again by gRPC whenever it is ready for more
+     */
+    @Override
+    public void run() {
+        try {
+            while (!done) {
+                if (started && !current.hasNext() && nextPageToken == null) {
+                    done = true;
+                    observer.onCompleted();
+                    return;
+                }
+                if (!observer.isReady()) {
+                    return;
+                }
+                if (!current.hasNext()) {
+                    ReportPage page = pageLoader.apply(nextPageToken);
+                    started = true;
+                    nextPageToken = page.nextPageToken();
+                    current = page.reports().iterator();
+                    continue;
+                }
+                observer.onNext(mapper.toGrpcResponse(current.next()));
+            }
+        } catch (IllegalArgumentException e) {
+            done = true;
+            observer.onError(
+                    Status.INVALID_ARGUMENT
+                            .withDescription(e.getMessage())
+                            .asRuntimeException()
+            );
+        } catch (Exception e) {
+            done = true;
+            log.error("Error streaming reports: {}", e.getMessage(), e);
+            observer.onError(
+                    Status.INTERNAL
+                            .withDescription("Error streaming reports: " + e.getMessage())
+                            .asRuntimeException()
+            );
+        }
+    }
+}
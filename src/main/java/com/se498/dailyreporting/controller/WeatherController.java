@@ -3,7 +3,14 @@ package com.se498.dailyreporting.controller;
 import com.se498.dailyreporting.domain.bo.Location;
 import com.se498.dailyreporting.domain.bo.WeatherRecord;
 import com.se498.dailyreporting.dto.*;
+import com.se498.dailyreporting.service.AssessmentJsonWriter;
+import com.se498.dailyreporting.service.GetComprehensiveAssessmentCommand;
+import com.se498.dailyreporting.service.StrategyComparisonResult;
+import com.se498.dailyreporting.service.WeatherCommandBus;
 import com.se498.dailyreporting.service.WeatherReportingService;
+import com.se498.dailyreporting.service.WeatherServiceImpl;
+import com.se498.dailyreporting.service.WeatherStrategyFactory.StrategyType;
+import com.se498.dailyreporting.service.converter.BulkTemperatureConversionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +18,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PastOrPresent;
@@ -24,9 +33,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +57,10 @@ public class WeatherController {
     private final WeatherReportingService weatherService;
     @Autowired
     private final WeatherMapper mapper;
+    @Autowired
+    private final BulkTemperatureConversionService bulkConversionService;
+    @Autowired
+    private final WeatherCommandBus commandBus;
 
     /**
      * Get current weather for a location
@@ -275,6 +292,78 @@ public class WeatherController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get a comprehensive assessment for a location
+     */
+    @GetMapping("/assessment")
+    @Operation(summary = "Get comprehensive weather assessment",
+            description = "Assesses current conditions with the given strategy and streams the structured result as JSON, " +
+                    "or as a human-readable report when format=text")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getAssessment(
+            @Parameter(description = "City name (required if zip not provided)")
+            @RequestParam(required = false) String city,
+
+            @Parameter(description = "Zip/Postal code (required if city not provided)")
+            @RequestParam(required = false) String zip,
+
+            @Parameter(description = "Country code")
+            @RequestParam(required = false, defaultValue = "US") String country,
+
+            @Parameter(description = "State or province")
+            @RequestParam(required = false) String stateOrProvince,
+
+            @Parameter(description = "Assessment strategy")
+            @RequestParam(required = false, defaultValue = "STANDARD") StrategyType strategy,
+
+            @Parameter(description = "Response format: json or text")
+            @RequestParam(required = false, defaultValue = "json") String format) {
+
+        WeatherRecord record = weatherService.getCurrentWeather(resolveLocation(city, zip, country, stateOrProvince));
+        return commandBus.assess(new GetComprehensiveAssessmentCommand(record, strategy))
+                .thenApply(result -> {
+                    if ("text".equalsIgnoreCase(format)) {
+                        return textResponse(result.toText());
+                    }
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(out -> AssessmentJsonWriter.write(result, out));
+                });
+    }
+
+    /**
+     * Compare all assessment strategies for a location
+     */
+    @GetMapping("/assessment/compare")
+    @Operation(summary = "Compare assessment strategies",
+            description = "Assesses current conditions with every strategy and streams the comparison as JSON, " +
+                    "or as a human-readable report when format=text")
+    public ResponseEntity<StreamingResponseBody> compareAssessmentStrategies(
+            @Parameter(description = "City name (required if zip not provided)")
+            @RequestParam(required = false) String city,
+
+            @Parameter(description = "Zip/Postal code (required if city not provided)")
+            @RequestParam(required = false) String zip,
+
+            @Parameter(description = "Country code")
+            @RequestParam(required = false, defaultValue = "US") String country,
+
+            @Parameter(description = "State or province")
+            @RequestParam(required = false) String stateOrProvince,
+
+            @Parameter(description = "Response format: json or text")
+            @RequestParam(required = false, defaultValue = "json") String format) {
+
+        WeatherRecord record = weatherService.getCurrentWeather(resolveLocation(city, zip, country, stateOrProvince));
+        StrategyComparisonResult result = WeatherServiceImpl.getInstance().compareStrategiesStructured(record);
+
+        if ("text".equalsIgnoreCase(format)) {
+            return textResponse(result.toText());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> AssessmentJsonWriter.write(result, out));
+    }
+
     // Rest of the controller remains unchanged...
 
     /**
@@ -311,6 +400,56 @@ public class WeatherController {
         return ResponseEntity.ok(fahrenheit);
     }
 
+    /**
+     * Convert a batch of temperatures sent as a JSON array
+     */
+    @PostMapping(value = "/convert/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk temperature conversion (JSON)",
+            description = "Converts an array of temperatures with any available conversion strategy")
+    public ResponseEntity<double[]> convertBulk(
+            @Parameter(description = "Conversion strategy, e.g. 'Celsius to Fahrenheit' or 'Celsius to Kelvin'")
+            @RequestParam(required = false, defaultValue = "celsius to fahrenheit") String strategy,
+            @RequestBody double[] values) {
+
+        return ResponseEntity.ok(bulkConversionService.convertInPlace(values, strategy));
+    }
+
+    /**
+     * Convert a streamed CSV body of temperatures
+     */
+    @PostMapping(value = "/convert/bulk", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Operation(summary = "Bulk temperature conversion (CSV)",
+            description = "Streams a CSV body of temperatures through a conversion strategy and streams the converted CSV back")
+    public void convertBulkCsv(
+            @Parameter(description = "Conversion strategy, e.g. 'Celsius to Fahrenheit' or 'Celsius to Kelvin'")
+            @RequestParam(required = false, defaultValue = "celsius to fahrenheit") String strategy,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        // Resolve up front so an unknown strategy fails before the response is committed
+        bulkConversionService.resolveStrategy(strategy);
+        response.setContentType("text/csv");
+        long converted = bulkConversionService.convertCsv(request.getInputStream(), response.getOutputStream(), strategy);
+        log.debug("Bulk CSV conversion converted {} values", converted);
+    }
+
+    /**
+     * Convert a streamed binary body of temperatures
+     */
+    @PostMapping(value = "/convert/bulk", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Bulk temperature conversion (binary)",
+            description = "Streams big-endian IEEE 754 doubles through a conversion strategy and streams the converted doubles back")
+    public void convertBulkBinary(
+            @Parameter(description = "Conversion strategy, e.g. 'Celsius to Fahrenheit' or 'Celsius to Kelvin'")
+            @RequestParam(required = false, defaultValue = "celsius to fahrenheit") String strategy,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        bulkConversionService.resolveStrategy(strategy);
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        long converted = bulkConversionService.convertBinary(request.getInputStream(), response.getOutputStream(), strategy);
+        log.debug("Bulk binary conversion converted {} values", converted);
+    }
+
     /**
      * Get service status
      */
@@ -320,4 +459,22 @@ public class WeatherController {
     public ResponseEntity<String> getServiceStatus() {
         return ResponseEntity.ok("Weather Service is operational");
     }
+
+    private Location resolveLocation(String city, String zip, String country, String stateOrProvince) {
+        // Validate that either city or zip is provided
+        if (!StringUtils.hasText(city) && !StringUtils.hasText(zip)) {
+            throw new IllegalArgumentException("Either city or zip must be provided");
+        }
+        if (StringUtils.hasText(zip)) {
+            return Location.fromZipCode(zip, country);
+        }
+        return new Location(city, country, stateOrProvince);
+    }
+
+    private ResponseEntity<StreamingResponseBody> textResponse(String text) {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(out -> out.write(body));
+    }
 }
\ No newline at end of file
@@ -2,10 +2,15 @@ package com.se498.dailyreporting.domain.bo;
 
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -14,11 +19,16 @@ import java.util.Set;
 
 @Entity
 @Table(name = "activity_entries")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ActivityEntry.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class ActivityEntry {
+public class ActivityEntry implements Persistable<String> {
+
+    public static final String CACHE_REGION = "activity-entry";
+    public static final String PERSONNEL_CACHE_REGION = "activity-personnel";
 
     @Id
     @Column(name = "id", columnDefinition = "VARCHAR(36)")
@@ -48,6 +58,8 @@ public class ActivityEntry {
             joinColumns = @JoinColumn(name = "activity_id")
     )
     @Column(name = "personnel_id")
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PERSONNEL_CACHE_REGION)
     private Set<String> personnel = new HashSet<>();
 
     @Enumerated(EnumType.STRING)
@@ -69,6 +81,18 @@ public class ActivityEntry {
     @Column(name = "updated_by")
     private String updatedBy;
 
+    // IDs are assigned by the application, so track newness explicitly to let saves insert without a SELECT
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    // updatedAt as last read or written, so an update that sets its own time keeps it
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime storedUpdatedAt;
+
     /**
      * Calculate the duration of this activity
      *
@@ -127,11 +151,29 @@ public class ActivityEntry {
     }
 
     /**
-     * Pre-update hook
+     * Mark as stored once inserted, loaded or updated
+     */
+    @PostPersist
+    @PostLoad
+    @PostUpdate
+    protected void markPersisted() {
+        this.persisted = true;
+        this.storedUpdatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * Stamps the update time unless the caller set one, such as when a buffered change was made
      */
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        if (updatedAt == null || updatedAt.equals(storedUpdatedAt)) {
+            updatedAt = LocalDateTime.now();
+        }
     }
 
     /**
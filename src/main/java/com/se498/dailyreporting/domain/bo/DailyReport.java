@@ -3,10 +3,13 @@ package com.se498.dailyreporting.domain.bo;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,12 +22,17 @@ import java.util.List;
                 @UniqueConstraint(name = "uk_project_date",
                         columnNames = {"project_id", "report_date"})
         })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DailyReport.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class DailyReport {
 
+    public static final String CACHE_REGION = "daily-report";
+    public static final String ACTIVITIES_CACHE_REGION = "daily-report-activities";
+
     @Id
     @Column(name = "id", columnDefinition = "VARCHAR(36)")
     private String id;
@@ -43,6 +51,7 @@ public class DailyReport {
     private String notes;
 
     @OneToMany(mappedBy = "reportId", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ACTIVITIES_CACHE_REGION)
     private List<ActivityEntry> activities = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -57,6 +66,19 @@ public class DailyReport {
     @Column(name = "updated_by")
     private String updatedBy;
 
+    /**
+     * Optimistic lock version; null until the report is first persisted
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // updatedAt as last read or written, so an update that sets its own time keeps it
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime storedUpdatedAt;
+
     public DailyReport(String id, String projectId, LocalDate reportDate) {
         this.id = id;
         this.projectId = projectId;
@@ -137,10 +159,22 @@ public class DailyReport {
     }
 
     /**
-     * Pre-update hook
+     * Remember the stored update time once inserted, loaded or updated
+     */
+    @PostPersist
+    @PostLoad
+    @PostUpdate
+    protected void rememberUpdatedAt() {
+        this.storedUpdatedAt = updatedAt;
+    }
+
+    /**
+     * Stamps the update time unless the caller set one, such as when a buffered change was made
      */
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        if (updatedAt == null || updatedAt.equals(storedUpdatedAt)) {
+            updatedAt = LocalDateTime.now();
+        }
     }
 }
@@ -0,0 +1,85 @@
+package com.se498.dailyreporting.domain.bo;
+
+import com.se498.dailyreporting.domain.vo.ReportEventType;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report change waiting in the outbox, or already relayed if it has a position
+ */
+@Entity
+@Table(name = "report_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", columnDefinition = "VARCHAR(36)")
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ReportEventType eventType;
+
+    @Column(name = "report_id", nullable = false)
+    private String reportId;
+
+    @Column(name = "activity_id")
+    private String activityId;
+
+    @Column(name = "actor")
+    private String actor;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * Place in the published stream; null until relayed
+     */
+    @Column(name = "stream_position")
+    private Long position;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public OutboxEvent(ReportEventType eventType, String reportId, String activityId, String actor) {
+        this.id = TimeOrderedId.next();
+        this.eventType = eventType;
+        this.reportId = reportId;
+        this.activityId = activityId;
+        this.actor = actor;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark as relayed at the given stream position
+     */
+    public void publish(long position, LocalDateTime publishedAt) {
+        this.position = position;
+        this.publishedAt = publishedAt;
+    }
+
+    /**
+     * Mark as stored once inserted or loaded
+     */
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
@@ -0,0 +1,66 @@
+package com.se498.dailyreporting.domain.bo;
+
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Dashboard totals of one report, one row per project and report date
+ * Rows are maintained with set-based statements by ProjectDailyRollupRefresh and only read through JPA
+ */
+@Entity
+@Immutable
+@Table(name = "project_daily_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProjectDailyRollup {
+
+    // Unique like (project_id, report_date), and a single column
+    @Id
+    @Column(name = "report_id", columnDefinition = "VARCHAR(36)")
+    private String reportId;
+
+    @Column(name = "project_id", nullable = false)
+    private String projectId;
+
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReportStatus status;
+
+    @Column(name = "activity_count", nullable = false)
+    private int activityCount;
+
+    /**
+     * Activities with status COMPLETED or progress of 100%
+     */
+    @Column(name = "completed_activity_count", nullable = false)
+    private int completedActivityCount;
+
+    @Column(name = "progress_sum", nullable = false)
+    private double progressSum;
+
+    /**
+     * Sum of activity durations in whole minutes, truncating each activity like Duration.toMinutes
+     */
+    @Column(name = "activity_minutes", nullable = false)
+    private long activityMinutes;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    /**
+     * Same rules as DailyReport.calculateProgress
+     */
+    public double calculateProgress() {
+        return activityCount == 0 ? 0.0 : progressSum / activityCount;
+    }
+}
@@ -0,0 +1,90 @@
+package com.se498.dailyreporting.domain.bo;
+
+import com.se498.dailyreporting.domain.vo.RejectionReason;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status transition of a daily report
+ * Events are only ever inserted, so a report's history is never rewritten
+ */
+@Entity
+@Immutable
+@Table(name = "report_status_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReportStatusEvent implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", columnDefinition = "VARCHAR(36)")
+    private String id;
+
+    @Column(name = "report_id", nullable = false)
+    private String reportId;
+
+    /**
+     * Status before the transition; null for the event that creates the report
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ReportStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ReportStatus toStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason_code")
+    private RejectionReason reasonCode;
+
+    @Column(name = "reason_text", length = 2000)
+    private String reasonText;
+
+    @Column(name = "actor", nullable = false)
+    private String actor;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public ReportStatusEvent(String reportId, ReportStatus fromStatus, ReportStatus toStatus, String actor) {
+        this(reportId, fromStatus, toStatus, null, null, actor);
+    }
+
+    public ReportStatusEvent(String reportId, ReportStatus fromStatus, ReportStatus toStatus,
+                             RejectionReason reasonCode, String reasonText, String actor) {
+        this.id = TimeOrderedId.next();
+        this.reportId = reportId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.reasonCode = reasonCode;
+        this.reasonText = reasonText;
+        this.actor = actor;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark as stored once inserted or loaded
+     */
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
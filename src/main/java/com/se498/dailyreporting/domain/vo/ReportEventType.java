@@ -0,0 +1,17 @@
+package com.se498.dailyreporting.domain.vo;
+
+/**
+ * Kinds of change published on the report event stream
+ */
+public enum ReportEventType {
+    REPORT_CREATED,
+    REPORT_UPDATED,
+    REPORT_SUBMITTED,
+    REPORT_APPROVED,
+    REPORT_REJECTED,
+    REPORT_DELETED,
+    REPORT_ARCHIVED,
+    ACTIVITY_ADDED,
+    ACTIVITY_UPDATED,
+    ACTIVITY_DELETED
+}
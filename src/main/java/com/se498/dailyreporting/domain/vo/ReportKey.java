@@ -0,0 +1,9 @@
+package com.se498.dailyreporting.domain.vo;
+
+import java.time.LocalDate;
+
+/**
+ * Natural key of a daily report: a project has at most one report per date (uk_project_date)
+ */
+public record ReportKey(String projectId, LocalDate reportDate) {
+}
@@ -0,0 +1,26 @@
+package com.se498.dailyreporting.domain.vo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of a dashboard time series
+ */
+public enum RollupPeriod {
+    DAY,
+    // Weeks start on Monday
+    WEEK,
+    MONTH;
+
+    /**
+     * First day of the period containing a date
+     */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.se498.dailyreporting.domain.vo;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generator for time-ordered UUIDs (version 7, RFC 9562)
+ * The first 48 bits hold the Unix time in milliseconds and the next 12 bits a counter, so ids created
+ * later sort after earlier ones, both as UUIDs and as strings. New rows land at the right-hand edge of
+ * the primary key index instead of on random pages, and the ids still fit the existing VARCHAR(36) columns
+ */
+public final class TimeOrderedId {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static long lastMillis;
+    private static int counter;
+
+    private TimeOrderedId() {
+    }
+
+    /**
+     * New id in the canonical 36 character form
+     */
+    public static String next() {
+        long millis;
+        int sequence;
+        synchronized (TimeOrderedId.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                // Start each millisecond at a random point in the lower half, leaving room to count up
+                lastMillis = now;
+                counter = RANDOM.nextInt(MAX_COUNTER / 2);
+            } else if (counter < MAX_COUNTER) {
+                // Same millisecond, or the clock went back: count up from the last id
+                counter++;
+            } else {
+                // Counter exhausted: borrow the next millisecond to stay ordered
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+
+        long mostSigBits = (millis << 16) | (0x7L << 12) | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /**
+     * Creation time embedded in a time-ordered id, in Unix milliseconds
+     *
+     * @throws IllegalArgumentException if the id is not a version 7 UUID
+     */
+    public static long timestampOf(String id) {
+        UUID uuid = UUID.fromString(id);
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a time-ordered id: " + id);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
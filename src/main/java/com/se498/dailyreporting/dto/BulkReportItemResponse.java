@@ -0,0 +1,17 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReportItemResponse {
+    private String projectId;
+    private LocalDate reportDate;
+    private String reportId;
+    private boolean created;
+}
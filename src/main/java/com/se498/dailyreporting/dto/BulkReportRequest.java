@@ -0,0 +1,24 @@
+package com.se498.dailyreporting.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for creating DRAFT reports for many project/date pairs at once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReportRequest {
+    @NotEmpty(message = "At least one report is required")
+    @Size(max = 10000, message = "At most 10000 reports can be created per request")
+    @Valid
+    private List<ReportKeyRequest> reports = new ArrayList<>();
+}
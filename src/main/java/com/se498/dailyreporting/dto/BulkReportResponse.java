@@ -0,0 +1,18 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReportResponse {
+    private int createdCount;
+    private int existingCount;
+    private List<String> createdIds;
+    private List<String> existingIds;
+    private List<BulkReportItemResponse> reports;
+}
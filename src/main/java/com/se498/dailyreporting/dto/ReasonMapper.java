@@ -58,17 +58,4 @@ public class ReasonMapper {
                 .filter(reason -> reason.getDescription().equalsIgnoreCase(description))
                 .findFirst();
     }
-
-    /**
-     * Format the full rejection reason text, handling the special case for "OTHER"
-     * @param reason The rejection reason
-     * @param customDetails Optional custom details for "OTHER" reason
-     * @return The formatted rejection reason text
-     */
-    public String formatRejectionReason(RejectionReason reason, String customDetails) {
-        if (reason == RejectionReason.OTHER && customDetails != null && !customDetails.isEmpty()) {
-            return reason.getDescription() + ": " + customDetails;
-        }
-        return reason.getDescription();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.se498.dailyreporting.dto;
+
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.service.ReportPage;
+
+import java.util.List;
+
+/**
+ * Relay-style connection over a page of reports, as exposed through GraphQL
+ */
+public record ReportConnection(List<Edge> edges, PageInfo pageInfo) {
+
+    public record Edge(DailyReport node, String cursor) {
+    }
+
+    public record PageInfo(boolean hasNextPage, String endCursor) {
+    }
+
+    /**
+     * Build a connection from a page; each edge's cursor resumes the listing after its report
+     */
+    public static ReportConnection from(ReportPage page) {
+        List<Edge> edges = page.reports().stream()
+                .map(report -> new Edge(report, ReportPage.tokenAfter(report)))
+                .toList();
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new ReportConnection(edges, new PageInfo(page.hasNext(), endCursor));
+    }
+}
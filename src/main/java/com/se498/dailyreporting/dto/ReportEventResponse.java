@@ -0,0 +1,20 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportEventResponse {
+    private long position;
+    private String id;
+    private String type;
+    private String reportId;
+    private String activityId;
+    private String actor;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,15 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportHistoryResponse {
+    private List<ReportStatusEventResponse> events;
+    private String nextPageToken;
+}
@@ -0,0 +1,20 @@
+package com.se498.dailyreporting.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportKeyRequest {
+    @NotBlank(message = "Project ID is required")
+    private String projectId;
+
+    @NotNull(message = "Report date is required")
+    private LocalDate reportDate;
+}
@@ -0,0 +1,21 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportProgressResponse {
+    private String reportId;
+    private String status;
+    private double progress;
+    private boolean complete;
+    private int activityCount;
+    private int completedActivityCount;
+    private String updatedBy;
+    private LocalDateTime updatedAt;
+}
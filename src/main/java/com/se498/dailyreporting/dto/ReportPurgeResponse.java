@@ -0,0 +1,24 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportPurgeResponse {
+    private String id;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private boolean force;
+    private String requestedBy;
+    private String state;
+    private int purgedCount;
+    private LocalDateTime submittedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
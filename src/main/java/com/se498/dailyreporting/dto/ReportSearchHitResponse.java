@@ -0,0 +1,20 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSearchHitResponse {
+    private String reportId;
+    private String projectId;
+    private LocalDate reportDate;
+    private String status;
+    private float score;
+    private List<SearchHighlightResponse> highlights;
+}
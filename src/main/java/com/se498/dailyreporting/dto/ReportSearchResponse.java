@@ -0,0 +1,18 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSearchResponse {
+    private List<ReportSearchHitResponse> hits;
+    private long totalHits;
+    private int page;
+    private int pageSize;
+    private boolean hasNext;
+}
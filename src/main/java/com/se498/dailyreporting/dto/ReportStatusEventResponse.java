@@ -0,0 +1,21 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportStatusEventResponse {
+    private String id;
+    private String reportId;
+    private String fromStatus;
+    private String toStatus;
+    private RejectionReasonResponse reason;
+    private String details;
+    private String actor;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,16 @@
+package com.se498.dailyreporting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSummaryResponse {
+    private DailyReportResponse report;
+    private double progress;
+    private boolean complete;
+    private long totalDurationMinutes;
+    private int activityCount;
+}
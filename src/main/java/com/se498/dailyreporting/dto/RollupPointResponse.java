@@ -0,0 +1,22 @@
+package com.se498.dailyreporting.dto;
+
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupPointResponse {
+    private LocalDate periodStart;
+    private int reportCount;
+    private Map<ReportStatus, Integer> reportsByStatus;
+    private int activityCount;
+    private int completedActivityCount;
+    private double averageProgress;
+    private double activityHours;
+}
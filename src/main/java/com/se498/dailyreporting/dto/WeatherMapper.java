@@ -3,15 +3,22 @@ package com.se498.dailyreporting.dto;
 
 import com.se498.dailyreporting.domain.bo.Location;
 import com.se498.dailyreporting.domain.bo.WeatherRecord;
+import com.se498.dailyreporting.service.converter.MeasurementUnit;
+import com.se498.dailyreporting.service.converter.UnitConversionGraph;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.function.DoubleUnaryOperator;
+
 /**
  * Mapper for converting between domain and DTO objects
  */
 @Component
 public class WeatherMapper {
 
+    private static final DoubleUnaryOperator FAHRENHEIT_TO_CELSIUS =
+            UnitConversionGraph.getInstance().operator(MeasurementUnit.FAHRENHEIT, MeasurementUnit.CELSIUS);
+
     /**
      * Maps a domain WeatherRecord to a response DTO
      *
@@ -87,6 +94,6 @@ public class WeatherMapper {
      * @return Temperature in Celsius
      */
     public double convertFToC(double fahrenheit) {
-        return (fahrenheit - 32) * 5 / 9;
+        return FAHRENHEIT_TO_CELSIUS.applyAsDouble(fahrenheit);
     }
 }
\ No newline at end of file
@@ -5,8 +5,12 @@ import com.google.protobuf.Timestamp;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import com.se498.dailyreporting.domain.vo.ReportKey;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
 import com.se498.dailyreporting.grpc.*;
+import com.se498.dailyreporting.service.BulkReportResult;
+import com.se498.dailyreporting.service.ReportPage;
+import com.se498.dailyreporting.service.ReportSummary;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -158,6 +162,47 @@ public class GrpcMapper {
         return activity;
     }
 
+    /**
+     * Convert a ReportSummary to a gRPC ReportSummaryResponse
+     */
+    public ReportSummaryResponse toGrpcSummaryResponse(ReportSummary summary) {
+        return ReportSummaryResponse.newBuilder()
+                .setReport(toGrpcResponse(summary.report()))
+                .setProgress(summary.progress())
+                .setComplete(summary.complete())
+                .setTotalDurationMinutes(summary.totalDurationMinutes())
+                .setActivityCount(summary.activityCount())
+                .build();
+    }
+
+    /**
+     * Convert a gRPC CreateReportsRequest to the project/date pairs to create
+     */
+    public List<ReportKey> fromGrpcCreateReportsRequest(CreateReportsRequest request) {
+        return request.getReportsList().stream()
+                .map(report -> new ReportKey(report.getProjectId(),
+                        report.hasReportDate() ? fromGrpcDate(report.getReportDate()) : null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a BulkReportResult to a gRPC CreateReportsResponse
+     */
+    public CreateReportsResponse toGrpcCreateReportsResponse(BulkReportResult result) {
+        CreateReportsResponse.Builder builder = CreateReportsResponse.newBuilder()
+                .setCreatedCount(result.createdCount())
+                .setExistingCount(result.existingCount());
+
+        result.reports().forEach(item -> builder.addResults(CreateReportsResult.newBuilder()
+                .setProjectId(item.key().projectId())
+                .setReportDate(toGrpcDate(item.key().reportDate()))
+                .setReportId(item.reportId())
+                .setCreated(item.created())
+                .build()));
+
+        return builder.build();
+    }
+
     /**
      * Convert a list of DailyReports to a gRPC ReportListResponse
      */
@@ -171,6 +216,19 @@ public class GrpcMapper {
         return builder.build();
     }
 
+    /**
+     * Convert a page of DailyReports to a gRPC ReportListResponse carrying the next page token
+     */
+    public ReportListResponse toGrpcReportListResponse(ReportPage page) {
+        ReportListResponse.Builder builder = toGrpcReportListResponse(page.reports()).toBuilder();
+
+        if (page.hasNext()) {
+            builder.setNextPageToken(page.nextPageToken());
+        }
+
+        return builder.build();
+    }
+
     /**
      * Convert a list of ActivityEntries to a gRPC ActivityListResponse
      */
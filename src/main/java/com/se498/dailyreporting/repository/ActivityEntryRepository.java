@@ -3,11 +3,13 @@ package com.se498.dailyreporting.repository;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,7 +19,21 @@ public interface ActivityEntryRepository extends JpaRepository<ActivityEntry, St
 
     List<ActivityEntry> findByStatus(ActivityStatus status);
 
-    void deleteByReportId(String reportId);
+    /**
+     * Delete a report's activities in one statement; their personnel go with them through the foreign key
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ActivityEntry a WHERE a.reportId = :reportId")
+    void deleteByReportId(@Param("reportId") String reportId);
+
+    /**
+     * Delete the activities of many reports in one statement
+     *
+     * @return Number of activities deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ActivityEntry a WHERE a.reportId IN :reportIds")
+    int deleteByReportIdIn(@Param("reportIds") Collection<String> reportIds);
 
     @Query("SELECT a FROM ActivityEntry a WHERE a.startTime >= :startTime AND a.endTime <= :endTime")
     List<ActivityEntry> findByTimeRange(
@@ -29,6 +45,42 @@ public interface ActivityEntryRepository extends JpaRepository<ActivityEntry, St
             @Param("reportId") String reportId,
             @Param("category") String category);
 
-    @Query("SELECT COUNT(a) FROM ActivityEntry a WHERE a.reportId = :reportId AND a.status = 'COMPLETED'")
-    long countCompletedActivitiesByReportId(@Param("reportId") String reportId);
-}
\ No newline at end of file
+    @Query("SELECT COALESCE(AVG(a.progress), 0.0) FROM ActivityEntry a WHERE a.reportId = :reportId")
+    double averageProgressByReportId(@Param("reportId") String reportId);
+
+    @Query("SELECT COUNT(a) AS total, " +
+            "COALESCE(SUM(CASE WHEN a.status <> 'COMPLETED' AND a.progress < 100 THEN 1 ELSE 0 END), 0) AS incomplete " +
+            "FROM ActivityEntry a WHERE a.reportId = :reportId")
+    CompletionCounts countCompletionByReportId(@Param("reportId") String reportId);
+
+    /**
+     * Sum of activity durations in whole minutes, truncating each activity like Duration.toMinutes
+     */
+    @Query("SELECT COALESCE(SUM(FLOOR(((a.endTime - a.startTime) BY SECOND) / 60)), 0) " +
+            "FROM ActivityEntry a WHERE a.reportId = :reportId")
+    long sumDurationMinutesByReportId(@Param("reportId") String reportId);
+
+    /**
+     * Activity rows for the given reports, without loading entities
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.ActivityRow(a.id, a.reportId, a.description, " +
+            "a.category, a.startTime, a.endTime, a.progress, a.status, a.notes, a.createdAt, a.createdBy, " +
+            "a.updatedAt, a.updatedBy) FROM ActivityEntry a WHERE a.reportId IN :reportIds ORDER BY a.startTime")
+    List<ActivityRow> findRowsByReportIdIn(@Param("reportIds") Collection<String> reportIds);
+
+    /**
+     * Personnel rows for the given activities, without loading entities
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.PersonnelRow(a.id, p) " +
+            "FROM ActivityEntry a JOIN a.personnel p WHERE a.id IN :activityIds")
+    List<PersonnelRow> findPersonnelRowsByActivityIdIn(@Param("activityIds") Collection<String> activityIds);
+
+    /**
+     * Activity totals for a report; complete means status COMPLETED or progress of 100%
+     */
+    interface CompletionCounts {
+        long getTotal();
+
+        long getIncomplete();
+    }
+}
@@ -0,0 +1,50 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, read-only projection of an activity_entries row
+ * Selected with a constructor expression, so nothing is added to the persistence context
+ */
+public record ActivityRow(String id,
+                          String reportId,
+                          String description,
+                          String category,
+                          LocalDateTime startTime,
+                          LocalDateTime endTime,
+                          double progress,
+                          ActivityStatus status,
+                          String notes,
+                          LocalDateTime createdAt,
+                          String createdBy,
+                          LocalDateTime updatedAt,
+                          String updatedBy) {
+
+    /**
+     * Same rules as ActivityEntry.calculateDuration
+     */
+    public Duration duration() {
+        if (startTime != null && endTime != null) {
+            return Duration.between(startTime, endTime);
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Same rules as ActivityEntry.isComplete
+     */
+    public boolean complete() {
+        return status == ActivityStatus.COMPLETED || progress >= 100.0;
+    }
+
+    /**
+     * Copy of this row with a different progress and status, e.g. to show a buffered update
+     */
+    public ActivityRow withProgress(double progress, ActivityStatus status, String updatedBy, LocalDateTime updatedAt) {
+        return new ActivityRow(id, reportId, description, category, startTime, endTime, progress, status,
+                notes, createdAt, createdBy, updatedAt, updatedBy);
+    }
+}
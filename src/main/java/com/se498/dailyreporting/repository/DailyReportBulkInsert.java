@@ -0,0 +1,22 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.vo.ReportKey;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Set-based report writes that Spring Data cannot derive
+ */
+public interface DailyReportBulkInsert {
+
+    /**
+     * Insert a DRAFT report for every key that has none yet
+     * Keys that already have a report are skipped by uk_project_date inside the statement, without a
+     * prior lookup per key. Keys must be distinct
+     *
+     * @param newIds ID to give the report for each key, if it is created
+     * @return Number of reports inserted
+     */
+    int insertDraftsIfAbsent(Map<ReportKey, String> newIds, String createdBy, LocalDateTime createdAt);
+}
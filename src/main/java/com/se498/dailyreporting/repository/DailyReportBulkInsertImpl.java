@@ -0,0 +1,109 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.vo.ReportKey;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts reports with a standard SQL MERGE, one statement per chunk of keys
+ * A concurrent insert of the same key can still slip in between the MERGE's match and its insert. The
+ * chunk then fails on uk_project_date; it is rolled back to a savepoint and merged again, and the retry
+ * skips the keys the other transaction took. The statement runs over JDBC so the failure does not mark
+ * the transaction for rollback, and only the cached report list queries are evicted afterwards; cached
+ * reports and activity lists cannot be affected by new rows
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DailyReportBulkInsertImpl implements DailyReportBulkInsert {
+
+    // Three parameters per key keeps each statement well under driver parameter limits
+    static final int MERGE_CHUNK_SIZE = 100;
+
+    private static final int MAX_MERGE_ATTEMPTS = 3;
+
+    // SQLState class for integrity constraint violations
+    private static final String CONSTRAINT_VIOLATION = "23";
+
+    @Autowired
+    private final EntityManager entityManager;
+
+    @Autowired
+    private final ReportCache reportCache;
+
+    @Override
+    public int insertDraftsIfAbsent(Map<ReportKey, String> newIds, String createdBy, LocalDateTime createdAt) {
+        if (newIds.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<ReportKey, String>> entries = new ArrayList<>(newIds.entrySet());
+
+        // Native statements flush the session first; this one bypasses Hibernate, so flush here
+        entityManager.flush();
+        int inserted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            int merged = 0;
+            for (int start = 0; start < entries.size(); start += MERGE_CHUNK_SIZE) {
+                List<Map.Entry<ReportKey, String>> chunk =
+                        entries.subList(start, Math.min(start + MERGE_CHUNK_SIZE, entries.size()));
+                merged += mergeChunk(connection, chunk, createdBy, createdAt);
+            }
+            return merged;
+        });
+        reportCache.evictReportLists();
+        return inserted;
+    }
+
+    private int mergeChunk(Connection connection, List<Map.Entry<ReportKey, String>> chunk,
+                           String createdBy, LocalDateTime createdAt) throws SQLException {
+        for (int attempt = 1; ; attempt++) {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(mergeSql(chunk.size()))) {
+                int index = 1;
+                for (Map.Entry<ReportKey, String> entry : chunk) {
+                    statement.setString(index++, entry.getValue());
+                    statement.setString(index++, entry.getKey().projectId());
+                    statement.setObject(index++, entry.getKey().reportDate());
+                }
+                statement.setString(index++, ReportStatus.DRAFT.name());
+                statement.setObject(index++, createdAt);
+                statement.setString(index, createdBy);
+                int merged = statement.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return merged;
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (attempt == MAX_MERGE_ATTEMPTS || e.getSQLState() == null
+                        || !e.getSQLState().startsWith(CONSTRAINT_VIOLATION)) {
+                    throw e;
+                }
+                log.debug("Report merge lost a race on attempt {}, retrying: {}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    private static String mergeSql(int rows) {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            source.append(i == 0 ? "SELECT " : " UNION ALL SELECT ")
+                    .append("CAST(? AS VARCHAR(36)) AS id, ")
+                    .append("CAST(? AS VARCHAR(255)) AS project_id, ")
+                    .append("CAST(? AS DATE) AS report_date");
+        }
+        return "MERGE INTO daily_reports t USING (" + source + ") s " +
+                "ON (t.project_id = s.project_id AND t.report_date = s.report_date) " +
+                "WHEN NOT MATCHED THEN INSERT (id, project_id, report_date, status, created_at, created_by, version) " +
+                "VALUES (s.id, s.project_id, s.report_date, ?, ?, ?, 0)";
+    }
+}
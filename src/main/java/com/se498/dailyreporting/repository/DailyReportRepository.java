@@ -2,26 +2,45 @@ package com.se498.dailyreporting.repository;
 
 import com.se498.dailyreporting.domain.bo.DailyReport;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 @Repository
-public interface DailyReportRepository extends JpaRepository<DailyReport, String> {
+public interface DailyReportRepository extends JpaRepository<DailyReport, String>, DailyReportBulkInsert,
+        DailyReportTransitions {
+
+    String LIST_QUERY_CACHE_REGION = "daily-report-lists";
 
     /**
      * Find all reports for a project
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_QUERY_CACHE_REGION)
+    })
     List<DailyReport> findByProjectId(String projectId);
 
     /**
      * Find all reports by status
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_QUERY_CACHE_REGION)
+    })
     List<DailyReport> findByStatus(ReportStatus status);
 
     /**
@@ -40,6 +59,37 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, String
      */
     Optional<DailyReport> findByProjectIdAndReportDate(String projectId, LocalDate reportDate);
 
+    /**
+     * IDs of the reports for any of the projects on any of the dates, as [id, projectId, reportDate]
+     * Callers pick out the project/date pairs they asked for
+     */
+    @Query("SELECT r.id, r.projectId, r.reportDate FROM DailyReport r " +
+            "WHERE r.projectId IN :projectIds AND r.reportDate IN :reportDates")
+    List<Object[]> findIdsByProjectIdInAndReportDateIn(
+            @Param("projectIds") Collection<String> projectIds,
+            @Param("reportDates") Collection<LocalDate> reportDates);
+
+    /**
+     * IDs of the reports dated within a range and in one of the given statuses, oldest first
+     */
+    @Query("SELECT r.id FROM DailyReport r WHERE r.reportDate BETWEEN :startDate AND :endDate " +
+            "AND r.status IN :statuses ORDER BY r.reportDate, r.id")
+    List<String> findIdsByReportDateBetweenAndStatusIn(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("statuses") Collection<ReportStatus> statuses,
+            Limit limit);
+
+    /**
+     * IDs of the reports with a status dated before a day, oldest first
+     */
+    @Query("SELECT r.id FROM DailyReport r WHERE r.status = :status AND r.reportDate < :before " +
+            "ORDER BY r.reportDate, r.id")
+    List<String> findIdsByStatusAndReportDateBefore(
+            @Param("status") ReportStatus status,
+            @Param("before") LocalDate before,
+            Limit limit);
+
     /**
      * Count reports by status
      */
@@ -58,9 +108,127 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, String
             "WHERE r.id = :reportId")
     Optional<DailyReport> findByIdWithActivities(@Param("reportId") String reportId);
 
+    /**
+     * Find all reports for a project, fetching their activities in the same query
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_QUERY_CACHE_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM DailyReport r LEFT JOIN FETCH r.activities " +
+            "WHERE r.projectId = :projectId")
+    List<DailyReport> findByProjectIdWithActivities(@Param("projectId") String projectId);
+
+    /**
+     * Find reports by project and date range, fetching their activities in the same query
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT r FROM DailyReport r LEFT JOIN FETCH r.activities " +
+            "WHERE r.projectId = :projectId " +
+            "AND r.reportDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY r.reportDate DESC")
+    List<DailyReport> findByProjectIdAndDateRangeWithActivities(
+            @Param("projectId") String projectId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Find all reports by status, fetching their activities in the same query
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LIST_QUERY_CACHE_REGION),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM DailyReport r LEFT JOIN FETCH r.activities " +
+            "WHERE r.status = :status")
+    List<DailyReport> findByStatusWithActivities(@Param("status") ReportStatus status);
+
+    /**
+     * Keyset-paged reports for a project, newest first
+     */
+    Window<DailyReport> findByProjectIdOrderByReportDateDescIdDesc(
+            String projectId, ScrollPosition position, Limit limit);
+
+    /**
+     * Keyset-paged reports for a project within a date range, newest first
+     */
+    Window<DailyReport> findByProjectIdAndReportDateBetweenOrderByReportDateDescIdDesc(
+            String projectId, LocalDate startDate, LocalDate endDate, ScrollPosition position, Limit limit);
+
+    /**
+     * Keyset-paged reports with a status, newest first
+     */
+    Window<DailyReport> findByStatusOrderByReportDateDescIdDesc(
+            ReportStatus status, ScrollPosition position, Limit limit);
+
+    /**
+     * Report rows for a project, newest first, without loading entities
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.ReportRow(r.id, r.projectId, r.reportDate, r.status, " +
+            "r.notes, r.createdAt, r.createdBy, r.updatedAt, r.updatedBy) FROM DailyReport r " +
+            "WHERE r.projectId = :projectId ORDER BY r.reportDate DESC")
+    List<ReportRow> findRowsByProjectId(@Param("projectId") String projectId);
+
+    /**
+     * Report rows for a project within a date range, newest first, without loading entities
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.ReportRow(r.id, r.projectId, r.reportDate, r.status, " +
+            "r.notes, r.createdAt, r.createdBy, r.updatedAt, r.updatedBy) FROM DailyReport r " +
+            "WHERE r.projectId = :projectId AND r.reportDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY r.reportDate DESC")
+    List<ReportRow> findRowsByProjectIdAndDateRange(
+            @Param("projectId") String projectId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Report rows by ID, without loading entities
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.ReportRow(r.id, r.projectId, r.reportDate, r.status, " +
+            "r.notes, r.createdAt, r.createdBy, r.updatedAt, r.updatedBy) FROM DailyReport r WHERE r.id IN :ids")
+    List<ReportRow> findRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Report rows in ID order after a given ID, without loading entities; walks every report in batches
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.ReportRow(r.id, r.projectId, r.reportDate, r.status, " +
+            "r.notes, r.createdAt, r.createdBy, r.updatedAt, r.updatedBy) FROM DailyReport r " +
+            "WHERE r.id > :after ORDER BY r.id")
+    List<ReportRow> findRowsByIdGreaterThan(@Param("after") String after, Limit limit);
+
+    /**
+     * Report rows with a status, without loading entities
+     */
+    @Query("SELECT new com.se498.dailyreporting.repository.ReportRow(r.id, r.projectId, r.reportDate, r.status, " +
+            "r.notes, r.createdAt, r.createdBy, r.updatedAt, r.updatedBy) FROM DailyReport r " +
+            "WHERE r.status = :status")
+    List<ReportRow> findRowsByStatus(@Param("status") ReportStatus status);
+
     @Query("SELECT COUNT(r) FROM DailyReport r WHERE r.projectId = :projectId " +
             "AND r.status = :status")
     long countByProjectIdAndStatus(
             @Param("projectId") String projectId,
             @Param("status") ReportStatus status);
+
+    /**
+     * Delete a report if it is in one of the given statuses; its activities go with it through the foreign key
+     *
+     * @return Number of reports deleted; 0 if the report is missing or in another status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyReport r WHERE r.id = :id AND r.status IN :statuses")
+    int deleteByIdAndStatusIn(
+            @Param("id") String id,
+            @Param("statuses") Collection<ReportStatus> statuses);
+
+    /**
+     * Delete reports in one statement, whatever their status
+     *
+     * @return Number of reports deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyReport r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
 }
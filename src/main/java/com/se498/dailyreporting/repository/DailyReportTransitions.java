@@ -0,0 +1,23 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Report status transitions as single conditional UPDATEs
+ */
+public interface DailyReportTransitions {
+
+    /**
+     * Move a report to a new status if it is still in the expected status
+     * The status check is part of the UPDATE, so of several concurrent transitions only one matches the row.
+     * The report's cached entry and any loaded copy of it are dropped, so later reads see the new status
+     *
+     * @param requireActivities Only move the report if it has at least one activity
+     * @return Number of reports updated; 0 if the report is missing, no longer in the expected status or,
+     *         with requireActivities, has no activities
+     */
+    int transitionStatus(String id, ReportStatus from, ReportStatus to, boolean requireActivities,
+                         String updatedBy, LocalDateTime updatedAt);
+}
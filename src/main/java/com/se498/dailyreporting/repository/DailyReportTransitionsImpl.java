@@ -0,0 +1,60 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+
+/**
+ * Runs the transition UPDATE over JDBC
+ * A JPQL or native bulk UPDATE makes Hibernate drop the whole daily-report region and clear the session;
+ * this statement bypasses Hibernate, so only the transitioned report and the cached report lists, which
+ * may filter by status, are evicted
+ */
+@RequiredArgsConstructor
+public class DailyReportTransitionsImpl implements DailyReportTransitions {
+
+    private static final String TRANSITION_SQL = "UPDATE daily_reports " +
+            "SET status = ?, updated_by = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND status = ?";
+
+    private static final String HAS_ACTIVITIES =
+            " AND EXISTS (SELECT 1 FROM activity_entries a WHERE a.report_id = daily_reports.id)";
+
+    @Autowired
+    private final EntityManager entityManager;
+
+    @Autowired
+    private final ReportCache reportCache;
+
+    @Override
+    public int transitionStatus(String id, ReportStatus from, ReportStatus to, boolean requireActivities,
+                                String updatedBy, LocalDateTime updatedAt) {
+        String sql = requireActivities ? TRANSITION_SQL + HAS_ACTIVITIES : TRANSITION_SQL;
+
+        // The statement bypasses Hibernate, so pending changes are flushed first
+        entityManager.flush();
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, to.name());
+                statement.setString(2, updatedBy);
+                statement.setObject(3, updatedAt);
+                statement.setString(4, id);
+                statement.setString(5, from.name());
+                return statement.executeUpdate();
+            }
+        });
+        if (updated > 0) {
+            // A loaded copy still holds the old status and version; the next read loads the row again
+            entityManager.detach(entityManager.getReference(DailyReport.class, id));
+            reportCache.evictReport(id);
+            reportCache.evictReportLists();
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,54 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String> {
+
+    /**
+     * Events not yet relayed, oldest first
+     */
+    List<OutboxEvent> findByPositionIsNullOrderByIdAsc(Limit limit);
+
+    /**
+     * Relayed events after a stream position, in stream order
+     */
+    List<OutboxEvent> findByPositionGreaterThanOrderByPositionAsc(long position, Limit limit);
+
+    /**
+     * Position of the last relayed event
+     */
+    @Query("SELECT MAX(e.position) FROM OutboxEvent e")
+    Optional<Long> findMaxPosition();
+
+    /**
+     * Position of the first relayed event still stored
+     */
+    @Query("SELECT MIN(e.position) FROM OutboxEvent e")
+    Optional<Long> findMinPosition();
+
+    /**
+     * Position of the last event relayed before a cutoff
+     */
+    @Query("SELECT MAX(e.position) FROM OutboxEvent e WHERE e.publishedAt < :before")
+    Optional<Long> findMaxPositionPublishedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Delete the relayed events in a position range
+     *
+     * @return Number of events deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.position BETWEEN :first AND :last")
+    int deleteByPositionBetween(@Param("first") long first, @Param("last") long last);
+}
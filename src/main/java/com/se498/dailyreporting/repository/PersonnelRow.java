@@ -0,0 +1,7 @@
+package com.se498.dailyreporting.repository;
+
+/**
+ * One activity_personnel row
+ */
+public record PersonnelRow(String activityId, String personnelId) {
+}
@@ -0,0 +1,25 @@
+package com.se498.dailyreporting.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Set-based rollup writes that Spring Data cannot derive
+ */
+public interface ProjectDailyRollupRefresh {
+
+    /**
+     * Recompute the rollup rows of some reports from the active tables or the archive
+     * Reports found in neither lose their row. Safe to repeat
+     *
+     * @return Number of rows written
+     */
+    int refresh(Collection<String> reportIds, LocalDateTime refreshedAt);
+
+    /**
+     * Recompute every rollup row
+     *
+     * @return Number of rows written
+     */
+    int rebuild(LocalDateTime refreshedAt);
+}
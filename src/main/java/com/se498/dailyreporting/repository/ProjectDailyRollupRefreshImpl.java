@@ -0,0 +1,91 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.ProjectDailyRollup;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Recomputes rollup rows with a standard SQL MERGE over the aggregated reports
+ * The archive is merged before the active tables, so if a project and date has both an archived and an
+ * active report, the active one wins. Statements are registered against ProjectDailyRollup only, so they
+ * leave the second-level cache alone
+ */
+@RequiredArgsConstructor
+public class ProjectDailyRollupRefreshImpl implements ProjectDailyRollupRefresh {
+
+    static final int REFRESH_CHUNK_SIZE = 500;
+
+    @Autowired
+    private final EntityManager entityManager;
+
+    @Override
+    public int refresh(Collection<String> reportIds, LocalDateTime refreshedAt) {
+        List<String> ids = new ArrayList<>(reportIds);
+        int written = 0;
+        for (int start = 0; start < ids.size(); start += REFRESH_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(start, Math.min(start + REFRESH_CHUNK_SIZE, ids.size()));
+            rollupStatement("DELETE FROM project_daily_rollups WHERE report_id IN (:reportIds)")
+                    .setParameter("reportIds", chunk)
+                    .executeUpdate();
+            written += rollupStatement(mergeSql("daily_reports_archive", "activity_entries_archive", true))
+                    .setParameter("reportIds", chunk)
+                    .setParameter("refreshedAt", refreshedAt)
+                    .executeUpdate();
+            written += rollupStatement(mergeSql("daily_reports", "activity_entries", true))
+                    .setParameter("reportIds", chunk)
+                    .setParameter("refreshedAt", refreshedAt)
+                    .executeUpdate();
+        }
+        return written;
+    }
+
+    @Override
+    public int rebuild(LocalDateTime refreshedAt) {
+        rollupStatement("DELETE FROM project_daily_rollups").executeUpdate();
+        int written = rollupStatement(mergeSql("daily_reports_archive", "activity_entries_archive", false))
+                .setParameter("refreshedAt", refreshedAt)
+                .executeUpdate();
+        written += rollupStatement(mergeSql("daily_reports", "activity_entries", false))
+                .setParameter("refreshedAt", refreshedAt)
+                .executeUpdate();
+        return written;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private NativeQuery rollupStatement(String sql) {
+        // Aggregates are read straight from the tables, so pending changes must be there first
+        entityManager.flush();
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ProjectDailyRollup.class);
+    }
+
+    private static String mergeSql(String reportTable, String activityTable, boolean byReportId) {
+        String source = "SELECT r.project_id, r.report_date, r.id AS report_id, r.status, " +
+                "COUNT(a.id) AS activity_count, " +
+                "COALESCE(SUM(CASE WHEN a.status = 'COMPLETED' OR a.progress >= 100 THEN 1 ELSE 0 END), 0) " +
+                "AS completed_activity_count, " +
+                "COALESCE(SUM(a.progress), 0) AS progress_sum, " +
+                "COALESCE(SUM(CAST(FLOOR(TIMESTAMPDIFF(SECOND, a.start_time, a.end_time) / 60.0) AS BIGINT)), 0) " +
+                "AS activity_minutes " +
+                "FROM " + reportTable + " r LEFT JOIN " + activityTable + " a ON a.report_id = r.id " +
+                (byReportId ? "WHERE r.id IN (:reportIds) " : "") +
+                "GROUP BY r.id, r.project_id, r.report_date, r.status";
+        return "MERGE INTO project_daily_rollups t USING (" + source + ") s " +
+                "ON (t.project_id = s.project_id AND t.report_date = s.report_date) " +
+                "WHEN MATCHED THEN UPDATE SET report_id = s.report_id, status = s.status, " +
+                "activity_count = s.activity_count, completed_activity_count = s.completed_activity_count, " +
+                "progress_sum = s.progress_sum, activity_minutes = s.activity_minutes, refreshed_at = :refreshedAt " +
+                "WHEN NOT MATCHED THEN INSERT (project_id, report_date, report_id, status, activity_count, " +
+                "completed_activity_count, progress_sum, activity_minutes, refreshed_at) " +
+                "VALUES (s.project_id, s.report_date, s.report_id, s.status, s.activity_count, " +
+                "s.completed_activity_count, s.progress_sum, s.activity_minutes, :refreshedAt)";
+    }
+}
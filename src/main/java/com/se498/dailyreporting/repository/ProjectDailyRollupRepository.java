@@ -0,0 +1,19 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.ProjectDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectDailyRollupRepository
+        extends JpaRepository<ProjectDailyRollup, String>, ProjectDailyRollupRefresh {
+
+    /**
+     * Rollup rows of a project within a date range, oldest first
+     */
+    List<ProjectDailyRollup> findByProjectIdAndReportDateBetweenOrderByReportDateAsc(
+            String projectId, LocalDate startDate, LocalDate endDate);
+}
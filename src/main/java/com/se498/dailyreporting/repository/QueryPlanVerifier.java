@@ -0,0 +1,196 @@
+package com.se498.dailyreporting.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that the SQL behind each repository query finds its rows through an index
+ * Each query is run through EXPLAIN and rejected if the plan reads a whole table; an index that narrows the
+ * rows passes even when the rows themselves still have to be read. Planners pick scans for tiny tables, so the
+ * check is meant for a database seeded with realistic data; it runs at startup when
+ * reporting.schema.verify-query-plans is true
+ * The SQL is kept by hand next to the names of the repository methods it stands for; a test checks that every
+ * name still matches a method
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryPlanVerifier {
+
+    /**
+     * SQL equivalents of the repository queries, with sample parameters
+     */
+    static final Map<String, String> REPOSITORY_QUERIES = new LinkedHashMap<>();
+
+    static {
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByProjectId",
+                "SELECT * FROM daily_reports WHERE project_id = 'project'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByStatus",
+                "SELECT * FROM daily_reports WHERE status = 'DRAFT'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByProjectIdAndDateRange",
+                "SELECT * FROM daily_reports WHERE project_id = 'project' " +
+                        "AND report_date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31' ORDER BY report_date DESC");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByProjectIdAndReportDate",
+                "SELECT * FROM daily_reports WHERE project_id = 'project' AND report_date = DATE '2024-01-01'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findIdsByProjectIdInAndReportDateIn",
+                "SELECT id, project_id, report_date FROM daily_reports WHERE project_id IN ('project', 'other') " +
+                        "AND report_date IN (DATE '2024-01-01', DATE '2024-01-02')");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findIdsByReportDateBetweenAndStatusIn",
+                "SELECT id FROM daily_reports WHERE report_date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31' " +
+                        "AND status IN ('APPROVED', 'REJECTED') ORDER BY report_date, id LIMIT 500");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findIdsByStatusAndReportDateBefore",
+                "SELECT id FROM daily_reports WHERE status = 'APPROVED' AND report_date < DATE '2024-01-01' " +
+                        "ORDER BY report_date, id LIMIT 500");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findRowsByIdGreaterThan",
+                "SELECT * FROM daily_reports WHERE id > 'report' ORDER BY id LIMIT 500");
+        REPOSITORY_QUERIES.put("DailyReportRepository.countByStatus",
+                "SELECT status, COUNT(*) FROM daily_reports GROUP BY status");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findRecentReportsByUser",
+                "SELECT * FROM daily_reports WHERE created_by = 'user' ORDER BY created_at DESC LIMIT 10");
+        REPOSITORY_QUERIES.put("DailyReportRepository.countByProjectIdAndStatus",
+                "SELECT COUNT(*) FROM daily_reports WHERE project_id = 'project' AND status = 'DRAFT'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByIdWithActivities",
+                "SELECT * FROM daily_reports r LEFT JOIN activity_entries a ON a.report_id = r.id " +
+                        "WHERE r.id = 'report'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByProjectIdWithActivities",
+                "SELECT * FROM daily_reports r LEFT JOIN activity_entries a ON a.report_id = r.id " +
+                        "WHERE r.project_id = 'project'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByStatusWithActivities",
+                "SELECT * FROM daily_reports r LEFT JOIN activity_entries a ON a.report_id = r.id " +
+                        "WHERE r.status = 'DRAFT'");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByProjectIdOrderByReportDateDescIdDesc",
+                "SELECT * FROM daily_reports WHERE project_id = 'project' " +
+                        "AND (report_date < DATE '2024-01-15' OR (report_date = DATE '2024-01-15' AND id < 'report')) " +
+                        "ORDER BY report_date DESC, id DESC LIMIT 51");
+        REPOSITORY_QUERIES.put("DailyReportRepository.findByStatusOrderByReportDateDescIdDesc",
+                "SELECT * FROM daily_reports WHERE status = 'DRAFT' " +
+                        "AND (report_date < DATE '2024-01-15' OR (report_date = DATE '2024-01-15' AND id < 'report')) " +
+                        "ORDER BY report_date DESC, id DESC LIMIT 51");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.findByReportId",
+                "SELECT * FROM activity_entries WHERE report_id = 'report'");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.findByReportIdAndCategory",
+                "SELECT * FROM activity_entries WHERE report_id = 'report' AND category = 'category'");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.findByStatus",
+                "SELECT * FROM activity_entries WHERE status = 'COMPLETED'");
+        // Seeks on start_time; every matching row is still read, as SELECT * needs columns the index lacks
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.findByTimeRange",
+                "SELECT * FROM activity_entries WHERE start_time >= TIMESTAMP '2024-01-01 00:00:00' " +
+                        "AND end_time <= TIMESTAMP '2024-01-02 00:00:00'");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.averageProgressByReportId",
+                "SELECT AVG(progress) FROM activity_entries WHERE report_id = 'report'");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.countCompletionByReportId",
+                "SELECT COUNT(*), SUM(CASE WHEN status <> 'COMPLETED' AND progress < 100 THEN 1 ELSE 0 END) " +
+                        "FROM activity_entries WHERE report_id = 'report'");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.sumDurationMinutesByReportId",
+                "SELECT SUM(FLOOR(EXTRACT(EPOCH FROM end_time - start_time) / 60)) " +
+                        "FROM activity_entries WHERE report_id = 'report'");
+        REPOSITORY_QUERIES.put("ActivityEntryRepository.findRowsByReportIdIn",
+                "SELECT * FROM activity_entries WHERE report_id IN ('report-1', 'report-2') ORDER BY start_time");
+        REPOSITORY_QUERIES.put("ReportStatusEventRepository.findByReportIdOrderByIdAsc",
+                "SELECT * FROM report_status_events WHERE report_id = 'report' AND id > 'event' ORDER BY id LIMIT 51");
+        REPOSITORY_QUERIES.put("ReportStatusEventRepository.countTransitionsSince",
+                "SELECT to_status, COUNT(*) FROM report_status_events " +
+                        "WHERE occurred_at >= TIMESTAMP '2024-01-01 00:00:00' GROUP BY to_status");
+        REPOSITORY_QUERIES.put("ReportStatusEventRepository.countByReasonSince",
+                "SELECT reason_code, COUNT(*) FROM report_status_events WHERE to_status = 'REJECTED' " +
+                        "AND occurred_at >= TIMESTAMP '2024-01-01 00:00:00' GROUP BY reason_code");
+        REPOSITORY_QUERIES.put("OutboxEventRepository.findByPositionIsNullOrderByIdAsc",
+                "SELECT * FROM report_outbox WHERE stream_position IS NULL ORDER BY id LIMIT 200");
+        REPOSITORY_QUERIES.put("OutboxEventRepository.findByPositionGreaterThanOrderByPositionAsc",
+                "SELECT * FROM report_outbox WHERE stream_position > 100 ORDER BY stream_position LIMIT 100");
+        REPOSITORY_QUERIES.put("OutboxEventRepository.findMaxPosition",
+                "SELECT MAX(stream_position) FROM report_outbox");
+        REPOSITORY_QUERIES.put("OutboxEventRepository.findMinPosition",
+                "SELECT MIN(stream_position) FROM report_outbox");
+        REPOSITORY_QUERIES.put("OutboxEventRepository.findMaxPositionPublishedBefore",
+                "SELECT MAX(stream_position) FROM report_outbox WHERE published_at < TIMESTAMP '2024-01-01 00:00:00'");
+        REPOSITORY_QUERIES.put("OutboxEventRepository.deleteByPositionBetween",
+                "SELECT id FROM report_outbox WHERE stream_position BETWEEN 1 AND 1000");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findReport",
+                "SELECT * FROM daily_reports_archive WHERE id = 'report'");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findActivities",
+                "SELECT * FROM activity_entries_archive a " +
+                        "LEFT JOIN activity_personnel_archive p ON p.activity_id = a.id " +
+                        "WHERE a.report_id = 'report' ORDER BY a.start_time, a.id");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findRowsByIdGreaterThan",
+                "SELECT * FROM daily_reports_archive WHERE id > 'report' ORDER BY id LIMIT 500");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findActivityRowsByReportIdIn",
+                "SELECT * FROM activity_entries_archive WHERE report_id IN ('report', 'other') ORDER BY start_time");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findPersonnelRowsByActivityIdIn",
+                "SELECT * FROM activity_personnel_archive WHERE activity_id IN ('activity', 'other')");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findIdsByKeys",
+                "SELECT id, project_id, report_date FROM daily_reports_archive " +
+                        "WHERE project_id IN ('project', 'other') " +
+                        "AND report_date IN (DATE '2024-01-01', DATE '2024-01-02')");
+        REPOSITORY_QUERIES.put("ReportArchiveRepository.findIdsByReportDateBetween",
+                "SELECT id FROM daily_reports_archive " +
+                        "WHERE report_date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31' " +
+                        "AND status IN ('APPROVED', 'REJECTED') ORDER BY report_date, id LIMIT 500");
+        REPOSITORY_QUERIES.put("ProjectDailyRollupRepository.findByProjectIdAndReportDateBetweenOrderByReportDateAsc",
+                "SELECT * FROM project_daily_rollups WHERE project_id = 'project' " +
+                        "AND report_date BETWEEN DATE '2024-01-01' AND DATE '2024-03-31' ORDER BY report_date");
+        REPOSITORY_QUERIES.put("ActivityEntry.personnel",
+                "SELECT * FROM activity_personnel WHERE activity_id IN ('activity-1', 'activity-2')");
+    }
+
+    @Autowired
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reporting.schema.verify-query-plans:false}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        if (enabled) {
+            verify();
+            log.info("Verified query plans for {} repository queries", REPOSITORY_QUERIES.size());
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if any repository query reads a whole table
+     */
+    public void verify() {
+        List<String> fullScans = findFullScans();
+        if (!fullScans.isEmpty()) {
+            throw new IllegalStateException("Repository queries without a usable index:\n"
+                    + String.join("\n", fullScans));
+        }
+    }
+
+    /**
+     * @return Name and plan of each repository query whose plan reads a whole table
+     */
+    public List<String> findFullScans() {
+        List<String> fullScans = new ArrayList<>();
+        REPOSITORY_QUERIES.forEach((name, sql) -> {
+            String plan = planFor(sql);
+            if (isFullScan(plan)) {
+                fullScans.add(name + ": " + plan);
+            }
+        });
+        return fullScans;
+    }
+
+    String planFor(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    /**
+     * H2 marks a full scan as TABLE.tableScan, PostgreSQL as Seq Scan
+     */
+    static boolean isFullScan(String plan) {
+        return plan.contains(".tableScan") || plan.contains("Seq Scan");
+    }
+}
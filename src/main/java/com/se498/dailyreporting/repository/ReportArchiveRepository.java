@@ -0,0 +1,339 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import com.se498.dailyreporting.domain.vo.ReportKey;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Archive tier for reports that are no longer worked on
+ * The archive tables mirror daily_reports, activity_entries and activity_personnel and have no entities of their
+ * own: reports are copied in with INSERT ... SELECT and read back as detached DailyReports. Every statement is
+ * registered against the archive tables only, so archiving leaves the second-level cache alone
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportArchiveRepository {
+
+    private static final String[] ARCHIVE_TABLES =
+            {"daily_reports_archive", "activity_entries_archive", "activity_personnel_archive"};
+
+    @Autowired
+    private final EntityManager entityManager;
+
+    /**
+     * Copy reports with their activities and personnel into the archive; the caller deletes the originals
+     *
+     * @return Number of reports copied
+     */
+    public int copyToArchive(Collection<String> reportIds, LocalDateTime archivedAt) {
+        // The copies are read straight from the tables, so pending changes must be there first
+        entityManager.flush();
+
+        int copied = archiveStatement(
+                "INSERT INTO daily_reports_archive (id, project_id, report_date, status, notes, created_at, " +
+                        "created_by, updated_at, updated_by, version, archived_at) " +
+                        "SELECT id, project_id, report_date, status, notes, created_at, created_by, updated_at, " +
+                        "updated_by, version, :archivedAt FROM daily_reports WHERE id IN (:reportIds)")
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("reportIds", reportIds)
+                .executeUpdate();
+        archiveStatement(
+                "INSERT INTO activity_entries_archive (id, report_id, description, category, start_time, end_time, " +
+                        "progress, status, notes, created_at, created_by, updated_at, updated_by) " +
+                        "SELECT id, report_id, description, category, start_time, end_time, progress, status, notes, " +
+                        "created_at, created_by, updated_at, updated_by FROM activity_entries " +
+                        "WHERE report_id IN (:reportIds)")
+                .setParameter("reportIds", reportIds)
+                .executeUpdate();
+        archiveStatement(
+                "INSERT INTO activity_personnel_archive (activity_id, personnel_id) " +
+                        "SELECT p.activity_id, p.personnel_id FROM activity_personnel p " +
+                        "JOIN activity_entries a ON a.id = p.activity_id WHERE a.report_id IN (:reportIds)")
+                .setParameter("reportIds", reportIds)
+                .executeUpdate();
+        return copied;
+    }
+
+    /**
+     * IDs of the archived reports dated within a range and in one of the given statuses, oldest first
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> findIdsByReportDateBetween(LocalDate startDate, LocalDate endDate,
+                                                   Collection<ReportStatus> statuses, int limit) {
+        return archiveStatement(
+                "SELECT id FROM daily_reports_archive WHERE report_date BETWEEN :startDate AND :endDate " +
+                        "AND status IN (:statuses) ORDER BY report_date, id")
+                .addScalar("id", String.class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("statuses", statuses.stream().map(ReportStatus::name).toList())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Delete archived reports; their activities and personnel go with them through the foreign keys
+     *
+     * @return Number of reports deleted
+     */
+    public int deleteByIdIn(Collection<String> reportIds) {
+        if (reportIds.isEmpty()) {
+            return 0;
+        }
+        return archiveStatement("DELETE FROM daily_reports_archive WHERE id IN (:reportIds)")
+                .setParameter("reportIds", reportIds)
+                .executeUpdate();
+    }
+
+    /**
+     * IDs of the archived reports among some project/date pairs
+     * A pair that has an archived report is taken: no active report may be created for it
+     */
+    @SuppressWarnings("unchecked")
+    public Map<ReportKey, String> findIdsByKeys(Collection<ReportKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = archiveStatement(
+                "SELECT id, project_id, report_date FROM daily_reports_archive " +
+                        "WHERE project_id IN (:projectIds) AND report_date IN (:reportDates)")
+                .addScalar("id", String.class)
+                .addScalar("project_id", String.class)
+                .addScalar("report_date", LocalDate.class)
+                .setParameter("projectIds", keys.stream().map(ReportKey::projectId).distinct().toList())
+                .setParameter("reportDates", keys.stream().map(ReportKey::reportDate).distinct().toList())
+                .getResultList();
+
+        // The IN lists cover every combination; keep the pairs that were asked for
+        Map<ReportKey, String> ids = new HashMap<>();
+        for (Object[] row : rows) {
+            ReportKey key = new ReportKey((String) row[1], (LocalDate) row[2]);
+            if (keys.contains(key)) {
+                ids.put(key, (String) row[0]);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Archived report rows by ID
+     */
+    @SuppressWarnings("unchecked")
+    public List<ReportRow> findRowsByIdIn(Collection<String> reportIds) {
+        if (reportIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = reportRowStatement("WHERE id IN (:reportIds)")
+                .setParameter("reportIds", reportIds)
+                .getResultList();
+        return rows.stream().map(ReportArchiveRepository::toReportRow).toList();
+    }
+
+    /**
+     * Archived report rows in ID order after a given ID; walks the whole archive in batches
+     */
+    @SuppressWarnings("unchecked")
+    public List<ReportRow> findRowsByIdGreaterThan(String after, int limit) {
+        List<Object[]> rows = reportRowStatement("WHERE id > :after ORDER BY id")
+                .setParameter("after", after)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream().map(ReportArchiveRepository::toReportRow).toList();
+    }
+
+    /**
+     * Activity rows of some archived reports
+     */
+    @SuppressWarnings("unchecked")
+    public List<ActivityRow> findActivityRowsByReportIdIn(Collection<String> reportIds) {
+        if (reportIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = archiveStatement(
+                "SELECT id, report_id, description, category, start_time, end_time, progress, status, notes, " +
+                        "created_at, created_by, updated_at, updated_by FROM activity_entries_archive " +
+                        "WHERE report_id IN (:reportIds) ORDER BY start_time")
+                .addScalar("id", String.class)
+                .addScalar("report_id", String.class)
+                .addScalar("description", String.class)
+                .addScalar("category", String.class)
+                .addScalar("start_time", LocalDateTime.class)
+                .addScalar("end_time", LocalDateTime.class)
+                .addScalar("progress", Double.class)
+                .addScalar("status", String.class)
+                .addScalar("notes", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("created_by", String.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("updated_by", String.class)
+                .setParameter("reportIds", reportIds)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ActivityRow((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+                        (LocalDateTime) row[4], (LocalDateTime) row[5], (Double) row[6],
+                        ActivityStatus.valueOf((String) row[7]), (String) row[8], (LocalDateTime) row[9],
+                        (String) row[10], (LocalDateTime) row[11], (String) row[12]))
+                .toList();
+    }
+
+    /**
+     * Personnel rows of some archived activities
+     */
+    @SuppressWarnings("unchecked")
+    public List<PersonnelRow> findPersonnelRowsByActivityIdIn(Collection<String> activityIds) {
+        if (activityIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = archiveStatement(
+                "SELECT activity_id, personnel_id FROM activity_personnel_archive WHERE activity_id IN (:activityIds)")
+                .addScalar("activity_id", String.class)
+                .addScalar("personnel_id", String.class)
+                .setParameter("activityIds", activityIds)
+                .getResultList();
+        return rows.stream().map(row -> new PersonnelRow((String) row[0], (String) row[1])).toList();
+    }
+
+    /**
+     * Find an archived report with its activities and personnel
+     * The report is detached: changes to it are never written anywhere
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<DailyReport> findReport(String reportId) {
+        List<Object[]> reports = archiveStatement(
+                "SELECT id, project_id, report_date, status, notes, created_at, created_by, updated_at, " +
+                        "updated_by, version FROM daily_reports_archive WHERE id = :reportId")
+                .addScalar("id", String.class)
+                .addScalar("project_id", String.class)
+                .addScalar("report_date", LocalDate.class)
+                .addScalar("status", String.class)
+                .addScalar("notes", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("created_by", String.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("updated_by", String.class)
+                .addScalar("version", Long.class)
+                .setParameter("reportId", reportId)
+                .getResultList();
+        if (reports.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = reports.get(0);
+        DailyReport report = new DailyReport();
+        report.setId((String) row[0]);
+        report.setProjectId((String) row[1]);
+        report.setReportDate((LocalDate) row[2]);
+        report.setStatus(ReportStatus.valueOf((String) row[3]));
+        report.setNotes((String) row[4]);
+        report.setCreatedAt((LocalDateTime) row[5]);
+        report.setCreatedBy((String) row[6]);
+        report.setUpdatedAt((LocalDateTime) row[7]);
+        report.setUpdatedBy((String) row[8]);
+        report.setVersion((Long) row[9]);
+        report.getActivities().addAll(findActivities(reportId));
+        return Optional.of(report);
+    }
+
+    /**
+     * Activities of an archived report with their personnel, one row per person
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<ActivityEntry> findActivities(String reportId) {
+        List<Object[]> rows = archiveStatement(
+                "SELECT a.id, a.report_id, a.description, a.category, a.start_time, a.end_time, a.progress, " +
+                        "a.status, a.notes, a.created_at, a.created_by, a.updated_at, a.updated_by, p.personnel_id " +
+                        "FROM activity_entries_archive a " +
+                        "LEFT JOIN activity_personnel_archive p ON p.activity_id = a.id " +
+                        "WHERE a.report_id = :reportId ORDER BY a.start_time, a.id")
+                .addScalar("id", String.class)
+                .addScalar("report_id", String.class)
+                .addScalar("description", String.class)
+                .addScalar("category", String.class)
+                .addScalar("start_time", LocalDateTime.class)
+                .addScalar("end_time", LocalDateTime.class)
+                .addScalar("progress", Double.class)
+                .addScalar("status", String.class)
+                .addScalar("notes", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("created_by", String.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("updated_by", String.class)
+                .addScalar("personnel_id", String.class)
+                .setParameter("reportId", reportId)
+                .getResultList();
+
+        Map<String, ActivityEntry> activities = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            ActivityEntry activity = activities.computeIfAbsent((String) row[0], id -> {
+                ActivityEntry entry = new ActivityEntry();
+                entry.setId(id);
+                entry.setReportId((String) row[1]);
+                entry.setDescription((String) row[2]);
+                entry.setCategory((String) row[3]);
+                entry.setStartTime((LocalDateTime) row[4]);
+                entry.setEndTime((LocalDateTime) row[5]);
+                entry.setProgress((Double) row[6]);
+                entry.setStatus(ActivityStatus.valueOf((String) row[7]));
+                entry.setNotes((String) row[8]);
+                entry.setCreatedAt((LocalDateTime) row[9]);
+                entry.setCreatedBy((String) row[10]);
+                entry.setUpdatedAt((LocalDateTime) row[11]);
+                entry.setUpdatedBy((String) row[12]);
+                entry.setPersonnel(new HashSet<>());
+                return entry;
+            });
+            if (row[13] != null) {
+                activity.getPersonnel().add((String) row[13]);
+            }
+        }
+        return activities.values();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private NativeQuery reportRowStatement(String condition) {
+        return archiveStatement(
+                "SELECT id, project_id, report_date, status, notes, created_at, created_by, updated_at, " +
+                        "updated_by FROM daily_reports_archive " + condition)
+                .addScalar("id", String.class)
+                .addScalar("project_id", String.class)
+                .addScalar("report_date", LocalDate.class)
+                .addScalar("status", String.class)
+                .addScalar("notes", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("created_by", String.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("updated_by", String.class);
+    }
+
+    private static ReportRow toReportRow(Object[] row) {
+        return new ReportRow((String) row[0], (String) row[1], (LocalDate) row[2],
+                ReportStatus.valueOf((String) row[3]), (String) row[4], (LocalDateTime) row[5], (String) row[6],
+                (LocalDateTime) row[7], (String) row[8]);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private NativeQuery archiveStatement(String sql) {
+        NativeQuery query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        for (String table : ARCHIVE_TABLES) {
+            query.addSynchronizedQuerySpace(table);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,71 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Targeted evictions from the report regions of the second-level cache
+ * DailyReport.activities is mapped by the plain reportId column rather than by an association, so Hibernate
+ * cannot tell which cached activity list an activity write affects; writers name the reports instead.
+ * Writes that bypass Hibernate evict the reports they change and the cached report lists themselves.
+ * Entries are dropped at once, so the writing transaction reads its own changes, and again once it completes,
+ * in case a concurrent reader cached the old state in between
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportCache {
+
+    static final String ACTIVITIES_ROLE = DailyReport.class.getName() + ".activities";
+
+    @Autowired
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Drop the cached activity lists of some reports
+     */
+    public void evictActivities(Collection<String> reportIds) {
+        Set<String> ids = new LinkedHashSet<>(reportIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        evictNowAndAfterCompletion(cache -> ids.forEach(id -> cache.evictCollectionData(ACTIVITIES_ROLE, id)));
+    }
+
+    /**
+     * Drop the cached entry of one report
+     */
+    public void evictReport(String reportId) {
+        evictNowAndAfterCompletion(cache -> cache.evictEntityData(DailyReport.class, reportId));
+    }
+
+    /**
+     * Drop the cached report list query results
+     */
+    public void evictReportLists() {
+        evictNowAndAfterCompletion(cache -> cache.evictQueryRegion(DailyReportRepository.LIST_QUERY_CACHE_REGION));
+    }
+
+    private void evictNowAndAfterCompletion(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, read-only projection of a daily_reports row
+ * Selected with a constructor expression, so nothing is added to the persistence context
+ */
+public record ReportRow(String id,
+                        String projectId,
+                        LocalDate reportDate,
+                        ReportStatus status,
+                        String notes,
+                        LocalDateTime createdAt,
+                        String createdBy,
+                        LocalDateTime updatedAt,
+                        String updatedBy) {
+}
@@ -0,0 +1,36 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportStatusEventRepository extends JpaRepository<ReportStatusEvent, String> {
+
+    /**
+     * One window of a report's history, oldest first, seeking on the time-ordered ID
+     */
+    Window<ReportStatusEvent> findByReportIdOrderByIdAsc(String reportId, ScrollPosition position, Limit limit);
+
+    /**
+     * Number of transitions into each status since a point in time
+     */
+    @Query("SELECT e.toStatus, COUNT(e) FROM ReportStatusEvent e WHERE e.occurredAt >= :since GROUP BY e.toStatus")
+    List<Object[]> countTransitionsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Number of rejections for each reason code since a point in time
+     */
+    @Query("SELECT e.reasonCode, COUNT(e) FROM ReportStatusEvent e " +
+            "WHERE e.toStatus = :status AND e.occurredAt >= :since GROUP BY e.reasonCode")
+    List<Object[]> countByReasonSince(@Param("status") ReportStatus status, @Param("since") LocalDateTime since);
+}
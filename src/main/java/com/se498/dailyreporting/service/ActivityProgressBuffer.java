@@ -0,0 +1,97 @@
+package com.se498.dailyreporting.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for activity progress updates
+ * Updates are coalesced per activity, so only the latest value for each activity is written when
+ * the buffer is flushed. Entries stay visible to readers until the flush that wrote them commits
+ */
+@Component
+public class ActivityProgressBuffer {
+
+    private final Map<String, PendingProgress> pending = new ConcurrentHashMap<>();
+    private final Map<String, PendingProgress> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * A buffered progress value
+     *
+     * @param activityId Activity to update
+     * @param reportId Report the activity belongs to
+     * @param progress Latest progress value
+     * @param updatedBy User who made the latest update
+     * @param updatedAt Time of the latest update
+     */
+    public record PendingProgress(String activityId, String reportId, double progress,
+                                  String updatedBy, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * Buffer a value, replacing any earlier value for the same activity
+     */
+    public void put(PendingProgress progress) {
+        pending.put(progress.activityId(), progress);
+    }
+
+    /**
+     * Latest buffered value for an activity, including one that is being flushed
+     */
+    public Optional<PendingProgress> find(String activityId) {
+        PendingProgress progress = pending.get(activityId);
+        return Optional.ofNullable(progress != null ? progress : inFlight.get(activityId));
+    }
+
+    public boolean hasPending(String reportId) {
+        return pending.values().stream().anyMatch(progress -> progress.reportId().equals(reportId))
+                || inFlight.values().stream().anyMatch(progress -> progress.reportId().equals(reportId));
+    }
+
+    /**
+     * Drop the buffered value for an activity, e.g. after it was written synchronously
+     */
+    public void discard(String activityId) {
+        pending.remove(activityId);
+        inFlight.remove(activityId);
+    }
+
+    /**
+     * Take every buffered value for writing; they remain readable until released or restored
+     */
+    List<PendingProgress> drain() {
+        List<PendingProgress> drained = new ArrayList<>();
+        for (String activityId : pending.keySet()) {
+            PendingProgress progress = pending.remove(activityId);
+            if (progress != null) {
+                inFlight.put(activityId, progress);
+                drained.add(progress);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Forget values whose write has committed
+     */
+    void release(Collection<PendingProgress> written) {
+        written.forEach(progress -> inFlight.remove(progress.activityId(), progress));
+    }
+
+    /**
+     * Return values whose write failed to the buffer, unless a newer value has arrived since
+     */
+    void restore(Collection<PendingProgress> failed) {
+        failed.forEach(progress -> {
+            if (inFlight.remove(progress.activityId(), progress)) {
+                pending.putIfAbsent(progress.activityId(), progress);
+            }
+        });
+    }
+}
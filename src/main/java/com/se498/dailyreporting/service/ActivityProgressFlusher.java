@@ -0,0 +1,31 @@
+package com.se498.dailyreporting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically writes buffered activity progress; the window is reporting.progress-buffer.flush-interval-ms
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityProgressFlusher {
+
+    @Autowired
+    private final DailyReportingService reportingService;
+
+    @Scheduled(fixedDelayString = "${reporting.progress-buffer.flush-interval-ms:2000}")
+    public void flush() {
+        try {
+            int written = reportingService.flushBufferedProgress();
+            if (written > 0) {
+                log.debug("Flushed {} buffered progress updates", written);
+            }
+        } catch (Exception e) {
+            log.error("Error flushing buffered progress: {}", e.getMessage(), e);
+        }
+    }
+}
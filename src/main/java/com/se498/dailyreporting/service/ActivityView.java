@@ -0,0 +1,14 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.repository.ActivityRow;
+
+import java.util.Set;
+
+/**
+ * Read-only activity assembled from projection rows, for responses that never modify it
+ *
+ * @param activity The activity's columns
+ * @param personnel Personnel assigned to the activity
+ */
+public record ActivityView(ActivityRow activity, Set<String> personnel) {
+}
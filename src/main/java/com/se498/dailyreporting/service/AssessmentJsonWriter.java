@@ -0,0 +1,107 @@
+package com.se498.dailyreporting.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams structured assessment results as JSON straight to an output stream
+ * Fields are written token by token, so no intermediate String or tree is built
+ */
+public final class AssessmentJsonWriter {
+
+    // JsonFactory is thread-safe and caches its symbol tables and buffers
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    private AssessmentJsonWriter() {
+    }
+
+    /**
+     * Writes a single assessment as a JSON object
+     * @param result The assessment to write
+     * @param out The stream to write to; it is flushed but not closed
+     */
+    public static void write(AssessmentResult result, OutputStream out) throws IOException {
+        try (JsonGenerator json = open(out)) {
+            writeAssessment(result, json);
+        }
+    }
+
+    /**
+     * Writes a strategy comparison as a JSON object
+     * @param result The comparison to write
+     * @param out The stream to write to; it is flushed but not closed
+     */
+    public static void write(StrategyComparisonResult result, OutputStream out) throws IOException {
+        try (JsonGenerator json = open(out)) {
+            json.writeStartObject();
+            json.writeStringField("location", result.location());
+            json.writeArrayFieldStart("strategies");
+            for (StrategyComparisonResult.StrategyOutcome outcome : result.outcomes()) {
+                json.writeStartObject();
+                json.writeStringField("strategyType", outcome.strategyType().name());
+                json.writeStringField("strategyName", outcome.strategyName());
+                json.writeBooleanField("dangerous", outcome.dangerous());
+                json.writeBooleanField("goodForOutdoor", outcome.goodForOutdoor());
+                json.writeNumberField("comfortRating", outcome.comfortRating());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static JsonGenerator open(OutputStream out) throws IOException {
+        JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        // Leave the response stream open for the servlet container
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return json;
+    }
+
+    private static void writeAssessment(AssessmentResult result, JsonGenerator json) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("strategyName", result.strategyName());
+        json.writeStringField("location", result.location());
+        json.writeStringField("recordedAt",
+                result.recordedAt() != null ? result.recordedAt().toString() : null);
+        json.writeBooleanField("dangerous", result.dangerous());
+        json.writeBooleanField("goodForOutdoor", result.goodForOutdoor());
+        json.writeNumberField("comfortRating", result.comfortRating());
+        json.writeStringField("comfortLabel", result.comfortLabel());
+        json.writeStringField("description", result.description());
+
+        AssessmentResult.RawWeatherData raw = result.raw();
+        json.writeObjectFieldStart("raw");
+        writeNullableNumber(json, "temperatureF", raw.temperatureF());
+        writeNullableNumber(json, "temperatureC", raw.temperatureC());
+        if (raw.humidity() != null) {
+            json.writeNumberField("humidity", raw.humidity());
+        } else {
+            json.writeNullField("humidity");
+        }
+        writeNullableNumber(json, "windSpeedMph", raw.windSpeedMph());
+        writeNullableNumber(json, "windSpeedKph", raw.windSpeedKph());
+        json.writeNumberField("heatIndexF", raw.heatIndexF());
+        json.writeNumberField("windChillF", raw.windChillF());
+        json.writeNumberField("feelsLikeF", raw.feelsLikeF());
+        if (raw.uvIndex() != null) {
+            json.writeNumberField("uvIndex", raw.uvIndex());
+        } else {
+            json.writeNullField("uvIndex");
+        }
+        json.writeEndObject();
+
+        json.writeEndObject();
+    }
+
+    private static void writeNullableNumber(JsonGenerator json, String field, Double value) throws IOException {
+        if (value != null) {
+            json.writeNumberField(field, value.doubleValue());
+        } else {
+            json.writeNullField(field);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.WeatherRecord;
+
+import java.time.LocalDateTime;
+
+/**
+ * Structured result of a comprehensive weather assessment
+ * Holds the raw values only; the human-readable report is rendered on demand via {@link #toText()}
+ *
+ * @param strategyName Name of the strategy that produced the assessment
+ * @param location Location the weather record belongs to
+ * @param recordedAt When the weather was recorded
+ * @param dangerous Whether the strategy considers the conditions dangerous
+ * @param goodForOutdoor Whether the strategy considers the conditions good for outdoor activities
+ * @param comfortRating Comfort rating from 1 to 10
+ * @param description Strategy-specific description of the conditions
+ * @param raw Raw weather data the assessment was based on
+ */
+public record AssessmentResult(
+        String strategyName,
+        String location,
+        LocalDateTime recordedAt,
+        boolean dangerous,
+        boolean goodForOutdoor,
+        int comfortRating,
+        String description,
+        RawWeatherData raw) {
+
+    /**
+     * Raw weather values backing an assessment, in imperial units with metric companions
+     */
+    public record RawWeatherData(
+            Double temperatureF,
+            Double temperatureC,
+            Integer humidity,
+            Double windSpeedMph,
+            Double windSpeedKph,
+            double heatIndexF,
+            double windChillF,
+            double feelsLikeF,
+            Integer uvIndex) {
+
+        public static RawWeatherData from(WeatherRecord record) {
+            return new RawWeatherData(
+                    record.getTemperature() != null ? record.getTemperature().getFahrenheit() : null,
+                    record.getTemperature() != null ? record.getTemperature().getCelsius() : null,
+                    record.getHumidity() != null ? record.getHumidity().getPercentage() : null,
+                    record.getWindSpeed() != null ? record.getWindSpeed().getMph() : null,
+                    record.getWindSpeed() != null ? record.getWindSpeed().getKph() : null,
+                    record.getHeatIndex(),
+                    record.getWindChill(),
+                    record.getFeelsLikeTemperature(),
+                    record.getUvIndex());
+        }
+    }
+
+    /**
+     * Builds the comprehensive assessment of a weather record with a single strategy
+     * @param record The weather record to assess
+     * @param strategy The strategy to assess with
+     * @return The structured assessment
+     */
+    public static AssessmentResult of(WeatherRecord record, WeatherAssessmentStrategy strategy) {
+        return new AssessmentResult(
+                strategy.getStrategyName(),
+                String.valueOf(record.getLocation()),
+                record.getRecordedAt(),
+                strategy.isDangerous(record),
+                strategy.isGoodForOutdoor(record),
+                strategy.getComfortRating(record),
+                strategy.getWeatherDescription(record),
+                RawWeatherData.from(record));
+    }
+
+    /**
+     * Qualitative label for the comfort rating
+     * @return Excellent, Good, Moderate, Poor or Very Poor
+     */
+    public String comfortLabel() {
+        if (comfortRating >= 9) {
+            return "Excellent";
+        } else if (comfortRating >= 7) {
+            return "Good";
+        } else if (comfortRating >= 5) {
+            return "Moderate";
+        } else if (comfortRating >= 3) {
+            return "Poor";
+        }
+        return "Very Poor";
+    }
+
+    /**
+     * Renders the assessment as the human-readable comprehensive report
+     * @return The formatted report
+     */
+    public String toText() {
+        StringBuilder result = new StringBuilder(768);
+        result.append("COMPREHENSIVE WEATHER ASSESSMENT\n");
+        result.append("=================================\n");
+        result.append("Using strategy: ").append(strategyName).append("\n");
+        result.append("Location: ").append(location).append("\n");
+        result.append("Time: ").append(recordedAt).append("\n\n");
+
+        result.append("Danger assessment (").append(strategyName).append("): ")
+                .append(dangerous ? "DANGEROUS CONDITIONS DETECTED" : "No dangerous conditions detected")
+                .append("\n");
+        result.append("Outdoor activity assessment (").append(strategyName).append("): ")
+                .append(goodForOutdoor ? "Conditions are favorable for outdoor activities"
+                        : "Conditions are NOT favorable for outdoor activities")
+                .append("\n");
+        result.append("Comfort rating (").append(strategyName).append("): ")
+                .append(comfortRating).append("/10 - ").append(comfortLabel()).append("\n");
+        result.append("Weather description (").append(strategyName).append("): ")
+                .append(description).append("\n\n");
+
+        // Add raw data
+        result.append("Raw Weather Data:\n");
+        result.append("- Temperature: ");
+        if (raw.temperatureF() == null) {
+            result.append("null");
+        } else {
+            appendOneDecimal(result, raw.temperatureF()).append("°F (");
+            appendOneDecimal(result, raw.temperatureC()).append("°C)");
+        }
+        result.append("\n");
+        result.append("- Humidity: ");
+        if (raw.humidity() == null) {
+            result.append("null");
+        } else {
+            result.append(raw.humidity()).append("%");
+        }
+        result.append("\n");
+        result.append("- Wind Speed: ");
+        if (raw.windSpeedMph() == null) {
+            result.append("null");
+        } else {
+            appendOneDecimal(result, raw.windSpeedMph()).append(" mph (");
+            appendOneDecimal(result, raw.windSpeedKph()).append(" km/h)");
+        }
+        result.append(" mph\n");
+        appendOneDecimal(result.append("- Heat Index: "), raw.heatIndexF()).append("°F\n");
+        appendOneDecimal(result.append("- Wind Chill: "), raw.windChillF()).append("°F\n");
+        appendOneDecimal(result.append("- Feels Like: "), raw.feelsLikeF()).append("°F\n");
+        result.append("- UV Index: ").append(raw.uvIndex()).append("\n");
+
+        return result.toString();
+    }
+
+    /**
+     * Appends a value rounded half-up to one decimal place without going through a Formatter
+     */
+    static StringBuilder appendOneDecimal(StringBuilder target, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return target.append(value);
+        }
+        long tenths = Math.round(Math.abs(value) * 10);
+        // Sign bit check keeps "-0.0" for small negatives, as %.1f does
+        if (Double.doubleToRawLongBits(value) < 0) {
+            target.append('-');
+        }
+        return target.append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
@@ -0,0 +1,32 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+
+import java.util.List;
+
+/**
+ * Outcome of adding a batch of activities to one report
+ *
+ * @param reportId Report the activities were added to
+ * @param added Activities that were stored, in input order
+ * @param errors Activities that were rejected, identified by their position in the input
+ */
+public record BulkActivityResult(String reportId, List<ActivityEntry> added, List<ItemError> errors) {
+
+    /**
+     * A rejected activity
+     *
+     * @param index Position of the activity in the submitted list
+     * @param message Why it was rejected
+     */
+    public record ItemError(int index, String message) {
+    }
+
+    public int addedCount() {
+        return added.size();
+    }
+
+    public int failedCount() {
+        return errors.size();
+    }
+}
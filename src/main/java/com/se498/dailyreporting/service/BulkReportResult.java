@@ -0,0 +1,39 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.vo.ReportKey;
+
+import java.util.List;
+
+/**
+ * Outcome of creating reports for many project/date pairs
+ *
+ * @param reports One entry per distinct pair, in input order
+ */
+public record BulkReportResult(List<Item> reports) {
+
+    /**
+     * The report for one project/date pair
+     *
+     * @param key Project and date
+     * @param reportId The new report, or the one that already existed
+     * @param created Whether this call created the report
+     */
+    public record Item(ReportKey key, String reportId, boolean created) {
+    }
+
+    public List<String> createdIds() {
+        return reports.stream().filter(Item::created).map(Item::reportId).toList();
+    }
+
+    public List<String> existingIds() {
+        return reports.stream().filter(item -> !item.created()).map(Item::reportId).toList();
+    }
+
+    public int createdCount() {
+        return (int) reports.stream().filter(Item::created).count();
+    }
+
+    public int existingCount() {
+        return reports.size() - createdCount();
+    }
+}
@@ -2,39 +2,120 @@ package com.se498.dailyreporting.service;
 
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.RejectionReason;
+import com.se498.dailyreporting.domain.vo.ReportKey;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.RollupPeriod;
+
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface DailyReportingService {
     // Daily Report Operations
     DailyReport createReport(String projectId, LocalDate reportDate, String createdBy);
+
+    /**
+     * Create DRAFT reports for many project/date pairs in one transaction
+     * Pairs that already have a report are left alone and reported as existing, so the call can be repeated
+     *
+     * @throws IllegalArgumentException if a pair has no project ID or no date
+     */
+    BulkReportResult createReports(List<ReportKey> reports, String createdBy);
+
     DailyReport updateReport(String reportId, String notes, String updatedBy);
     DailyReport submitReport(String reportId, String submittedBy);
     DailyReport approveReport(String reportId, String approvedBy);
     DailyReport rejectReport(String reportId, String reason, String rejectedBy);
+    DailyReport rejectReport(String reportId, RejectionReason reason, String details, String rejectedBy);
+    ReportHistoryPage getReportHistory(String reportId, String pageToken, int pageSize);
+
+    /**
+     * Find a report by ID, looking in the archive if it is not active
+     * Archived reports are detached copies and cannot be changed
+     */
     Optional<DailyReport> getReport(String reportId);
 
     List<DailyReport> getReportsByProject(String projectId);
     List<DailyReport> getReportsByDateRange(String projectId, LocalDate startDate, LocalDate endDate);
     List<DailyReport> getReportsByStatus(ReportStatus status);
+    List<ReportView> getReportViewsByProject(String projectId);
+    List<ReportView> getReportViewsByDateRange(String projectId, LocalDate startDate, LocalDate endDate);
+    List<ReportView> getReportViewsByStatus(ReportStatus status);
+    ReportPage pageReportsByProject(String projectId, String pageToken, int pageSize);
+    ReportPage pageReportsByDateRange(String projectId, LocalDate startDate, LocalDate endDate,
+                                      String pageToken, int pageSize);
+    ReportPage pageReportsByStatus(ReportStatus status, String pageToken, int pageSize);
     void deleteReport(String reportId);
 
+    /**
+     * Delete the oldest finished (approved or rejected) reports dated within a range, at most limit of them in one
+     * transaction. Active reports go first, then archived ones.
+     * Call repeatedly until nothing is returned; ReportPurgeJob does this in the background
+     *
+     * @param force Also delete drafts and reports awaiting approval
+     * @return IDs of the deleted reports
+     * @throws IllegalArgumentException if a date is missing, the range is reversed or the limit is below 1
+     */
+    List<String> purgeReports(LocalDate startDate, LocalDate endDate, boolean force, int limit, String purgedBy);
+
+    /**
+     * Move the oldest approved reports dated before a day into the archive, at most limit of them in one transaction
+     * Call repeatedly until it returns 0; ReportArchiver does this on a schedule
+     *
+     * @return Number of reports archived
+     * @throws IllegalArgumentException if the day is missing or the limit is below 1
+     */
+    int archiveReports(LocalDate reportedBefore, int limit);
+
     // Activity Operations
     ActivityEntry addActivityToReport(String reportId, ActivityEntry activity);
+    BulkActivityResult addActivities(String reportId, List<ActivityEntry> activities);
     ActivityEntry updateActivity(String activityId, ActivityEntry updatedActivity);
     ActivityEntry updateActivityProgress(String activityId, double progress, String updatedBy);
+    void bufferActivityProgress(String activityId, double progress, String updatedBy);
+    int flushBufferedProgress();
     Optional<ActivityEntry> getActivity(String activityId);
 
     List<ActivityEntry> getActivitiesByReport(String reportId);
+    List<ActivityView> getActivityViewsByReport(String reportId);
     void deleteActivity(String activityId);
 
     // Report Analytics
     double calculateReportProgress(String reportId);
     boolean isReportComplete(String reportId);
     long getTotalActivityDurationMinutes(String reportId);
+    Optional<ReportSummary> getReportSummary(String reportId);
+    Map<ReportStatus, Long> countTransitionsSince(LocalDateTime since);
+    Map<RejectionReason, Long> countRejectionsByReasonSince(LocalDateTime since);
+
+    /**
+     * Dashboard totals of a project per period, oldest first, read from the rollups in one range scan
+     * Rollups follow the report event stream, so they trail writes by up to a relay interval.
+     * Periods without reports are left out
+     *
+     * @throws IllegalArgumentException if the project, a date or the period is missing, or the range is reversed
+     */
+    List<RollupPoint> getProjectTimeSeries(String projectId, LocalDate startDate, LocalDate endDate,
+                                           RollupPeriod period);
+
+    /**
+     * Recompute every rollup from the reports, e.g. after a backfill
+     *
+     * @return Number of rollup rows written
+     */
+    int rebuildRollups();
+
+    /**
+     * Follow a report's progress and status as they change, starting with their current values
+     *
+     * @throws IllegalArgumentException if the report does not exist
+     */
+    Flux<ReportProgress> watchReportProgress(String reportId);
 
     Optional<DailyReport> findByIdWithActivities(String reportId);
 }
\ No newline at end of file
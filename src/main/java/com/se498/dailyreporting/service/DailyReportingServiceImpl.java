@@ -3,53 +3,168 @@ package com.se498.dailyreporting.service;
 import com.se498.dailyreporting.domain.bo.ActivityEntry;
 import com.se498.dailyreporting.domain.vo.ActivityStatus;
 import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.bo.ProjectDailyRollup;
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import com.se498.dailyreporting.domain.vo.RejectionReason;
+import com.se498.dailyreporting.domain.vo.ReportKey;
+import com.se498.dailyreporting.domain.vo.ReportEventType;
 import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.RollupPeriod;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
 import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.ActivityRow;
 import com.se498.dailyreporting.repository.DailyReportRepository;
+import com.se498.dailyreporting.repository.ProjectDailyRollupRepository;
+import com.se498.dailyreporting.repository.ReportArchiveRepository;
+import com.se498.dailyreporting.repository.ReportCache;
+import com.se498.dailyreporting.repository.ReportRow;
+import com.se498.dailyreporting.repository.ReportStatusEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DailyReportingServiceImpl implements DailyReportingService {
 
+    private static final List<ReportStatus> SUBMITTABLE_STATUSES = List.of(ReportStatus.DRAFT, ReportStatus.REJECTED);
+    private static final List<ReportStatus> EDITABLE_STATUSES = List.of(ReportStatus.DRAFT, ReportStatus.REJECTED);
+    // Reports still being worked on are only purged when the caller forces it
+    private static final List<ReportStatus> PURGEABLE_STATUSES = List.of(ReportStatus.APPROVED, ReportStatus.REJECTED);
+
     @Autowired
     private final DailyReportRepository reportRepository;
     @Autowired
     private final ActivityEntryRepository activityRepository;
+    @Autowired
+    private final ActivityProgressBuffer progressBuffer;
+
+    @Autowired
+    private final ReportStatusEventRepository statusEventRepository;
+
+    @Autowired
+    private final ReportEventOutbox eventOutbox;
+
+    @Autowired
+    private final ReportProgressBus progressBus;
+
+    @Autowired
+    private final ReportArchiveRepository archiveRepository;
+
+    @Autowired
+    private final ProjectDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private final ReportCache reportCache;
 
     @Override
     @Transactional
     public DailyReport createReport(String projectId, LocalDate reportDate, String createdBy) {
         log.info("Creating daily report for project {}, date {}", projectId, reportDate);
 
-        // Check if report already exists for this project and date
+        // Check if report already exists for this project and date, including archived reports
         Optional<DailyReport> existingReport = reportRepository.findByProjectIdAndReportDate(projectId, reportDate);
-        if (existingReport.isPresent()) {
+        if (existingReport.isPresent()
+                || !archiveRepository.findIdsByKeys(Set.of(new ReportKey(projectId, reportDate))).isEmpty()) {
             log.warn("Report already exists for project {} on date {}", projectId, reportDate);
             throw new IllegalStateException("A report already exists for this project and date");
         }
 
         // Create new report
         DailyReport report = new DailyReport(
-                UUID.randomUUID().toString(),
+                TimeOrderedId.next(),
                 projectId,
                 reportDate
         );
         report.setCreatedBy(createdBy);
         report.setCreatedAt(LocalDateTime.now());
 
-        return reportRepository.save(report);
+        DailyReport saved = reportRepository.save(report);
+        statusEventRepository.save(new ReportStatusEvent(saved.getId(), null, ReportStatus.DRAFT, createdBy));
+        eventOutbox.record(ReportEventType.REPORT_CREATED, saved.getId(), createdBy);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public BulkReportResult createReports(List<ReportKey> reports, String createdBy) {
+        log.info("Creating up to {} daily reports", reports.size());
+
+        Set<ReportKey> keys = new LinkedHashSet<>();
+        for (ReportKey key : reports) {
+            if (key == null || key.projectId() == null || key.projectId().isBlank() || key.reportDate() == null) {
+                throw new IllegalArgumentException("Every report needs a project ID and a report date");
+            }
+            keys.add(key);
+        }
+
+        // Archived reports still own their pair, so those pairs are neither inserted nor looked up again
+        Map<ReportKey, String> ids = new HashMap<>();
+        for (List<ReportKey> chunk : InClauseChunks.of(new ArrayList<>(keys))) {
+            ids.putAll(archiveRepository.findIdsByKeys(Set.copyOf(chunk)));
+        }
+
+        Map<ReportKey, String> newIds = new LinkedHashMap<>();
+        keys.stream().filter(key -> !ids.containsKey(key)).forEach(key -> newIds.put(key, TimeOrderedId.next()));
+
+        // Pairs that already have a report are skipped by uk_project_date in the insert itself
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = reportRepository.insertDraftsIfAbsent(newIds, createdBy, now);
+
+        for (List<ReportKey> chunk : InClauseChunks.of(new ArrayList<>(newIds.keySet()))) {
+            Set<String> projectIds = chunk.stream().map(ReportKey::projectId).collect(Collectors.toSet());
+            Set<LocalDate> reportDates = chunk.stream().map(ReportKey::reportDate).collect(Collectors.toSet());
+            for (Object[] row : reportRepository.findIdsByProjectIdInAndReportDateIn(projectIds, reportDates)) {
+                ReportKey key = new ReportKey((String) row[1], (LocalDate) row[2]);
+                if (newIds.containsKey(key)) {
+                    ids.put(key, (String) row[0]);
+                }
+            }
+        }
+
+        List<BulkReportResult.Item> items = new ArrayList<>();
+        List<ReportStatusEvent> statusEvents = new ArrayList<>();
+        for (ReportKey key : keys) {
+            String reportId = ids.get(key);
+            if (reportId == null) {
+                throw new IllegalStateException("Report was neither created nor found for project "
+                        + key.projectId() + " on " + key.reportDate());
+            }
+            boolean created = reportId.equals(newIds.get(key));
+            items.add(new BulkReportResult.Item(key, reportId, created));
+            if (created) {
+                statusEvents.add(new ReportStatusEvent(reportId, null, ReportStatus.DRAFT, createdBy));
+                eventOutbox.record(ReportEventType.REPORT_CREATED, reportId, createdBy);
+            }
+        }
+        statusEventRepository.saveAll(statusEvents);
+
+        log.info("Created {} daily reports, {} already existed", inserted, keys.size() - inserted);
+        return new BulkReportResult(items);
     }
 
     @Override
@@ -67,6 +182,7 @@ public class DailyReportingServiceImpl implements DailyReportingService {
         report.setUpdatedBy(updatedBy);
         report.setUpdatedAt(LocalDateTime.now());
 
+        eventOutbox.record(ReportEventType.REPORT_UPDATED, reportId, updatedBy);
         return reportRepository.save(report);
     }
 
@@ -75,25 +191,35 @@ public class DailyReportingServiceImpl implements DailyReportingService {
     public DailyReport submitReport(String reportId, String submittedBy) {
         log.info("Submitting daily report {} for approval", reportId);
 
-        DailyReport report = getReportOrThrow(reportId);
-
-        // Validate report can be submitted
-        if (report.getStatus() != ReportStatus.DRAFT && report.getStatus() != ReportStatus.REJECTED) {
-            throw new IllegalStateException(
-                    "Cannot submit report in " + report.getStatus() + " state");
+        // Status and activity checks are part of the UPDATE, so concurrent submits cannot both succeed
+        ReportStatus from = null;
+        for (ReportStatus candidate : SUBMITTABLE_STATUSES) {
+            if (reportRepository.transitionStatus(reportId, candidate, ReportStatus.SUBMITTED, true,
+                    submittedBy, LocalDateTime.now()) > 0) {
+                from = candidate;
+                break;
+            }
         }
-
-        // Validate report has activities
-        if (report.getActivities() == null || report.getActivities().isEmpty()) {
+        if (from == null) {
+            DailyReport report = getReportOrThrow(reportId);
+            if (!SUBMITTABLE_STATUSES.contains(report.getStatus())) {
+                throw transitionRejected(report, "submit");
+            }
             throw new IllegalStateException("Cannot submit a report with no activities");
         }
+        statusEventRepository.save(new ReportStatusEvent(reportId, from, ReportStatus.SUBMITTED, submittedBy));
+        eventOutbox.record(ReportEventType.REPORT_SUBMITTED, reportId, submittedBy);
+
+        // Buffered progress is written now; the report cannot take it once submitted
+        if (progressBuffer.hasPending(reportId)) {
+            activityRepository.findByReportId(reportId).forEach(activity -> {
+                withBufferedProgress(activity);
+                progressBuffer.discard(activity.getId());
+            });
+            reportCache.evictActivities(List.of(reportId));
+        }
 
-        // Update status to submitted
-        report.setStatus(ReportStatus.SUBMITTED);
-        report.setUpdatedBy(submittedBy);
-        report.setUpdatedAt(LocalDateTime.now());
-
-        return reportRepository.save(report);
+        return published(getTransitionedReport(reportId));
     }
 
     @Override
@@ -101,79 +227,129 @@ public class DailyReportingServiceImpl implements DailyReportingService {
     public DailyReport approveReport(String reportId, String approvedBy) {
         log.info("Approving daily report {}", reportId);
 
-        DailyReport report = getReportOrThrow(reportId);
-
-        // Validate report can be approved
-        if (report.getStatus() != ReportStatus.SUBMITTED) {
-            throw new IllegalStateException(
-                    "Cannot approve report in " + report.getStatus() + " state");
+        if (reportRepository.transitionStatus(reportId, ReportStatus.SUBMITTED, ReportStatus.APPROVED, false,
+                approvedBy, LocalDateTime.now()) == 0) {
+            throw transitionRejected(getReportOrThrow(reportId), "approve");
         }
+        statusEventRepository.save(new ReportStatusEvent(
+                reportId, ReportStatus.SUBMITTED, ReportStatus.APPROVED, approvedBy));
+        eventOutbox.record(ReportEventType.REPORT_APPROVED, reportId, approvedBy);
 
-        // Update status to approved
-        report.setStatus(ReportStatus.APPROVED);
-        report.setUpdatedBy(approvedBy);
-        report.setUpdatedAt(LocalDateTime.now());
-
-        return reportRepository.save(report);
+        return published(getTransitionedReport(reportId));
     }
 
     @Override
     @Transactional
     public DailyReport rejectReport(String reportId, String reason, String rejectedBy) {
-        log.info("Rejecting daily report {}: {}", reportId, reason);
+        return rejectReport(reportId, RejectionReason.OTHER, reason, rejectedBy);
+    }
 
-        DailyReport report = getReportOrThrow(reportId);
+    @Override
+    @Transactional
+    public DailyReport rejectReport(String reportId, RejectionReason reason, String details, String rejectedBy) {
+        log.info("Rejecting daily report {}: {} {}", reportId, reason, details);
 
-        // Validate report can be rejected
-        if (report.getStatus() != ReportStatus.SUBMITTED) {
-            throw new IllegalStateException(
-                    "Cannot reject report in " + report.getStatus() + " state");
+        // The reason goes to the status history; notes stay owned by the report's author
+        if (reportRepository.transitionStatus(reportId, ReportStatus.SUBMITTED, ReportStatus.REJECTED, false,
+                rejectedBy, LocalDateTime.now()) == 0) {
+            throw transitionRejected(getReportOrThrow(reportId), "reject");
         }
+        statusEventRepository.save(new ReportStatusEvent(
+                reportId, ReportStatus.SUBMITTED, ReportStatus.REJECTED, reason, details, rejectedBy));
+        eventOutbox.record(ReportEventType.REPORT_REJECTED, reportId, rejectedBy);
 
-        // Update status to rejected
-        report.setStatus(ReportStatus.REJECTED);
-
-        // Add rejection reason to notes
-        String notes = report.getNotes();
-        if (notes == null) {
-            notes = "";
-        }
+        return published(getTransitionedReport(reportId));
+    }
 
-        notes += "\nREJECTION REASON: " + reason;
-        report.setNotes(notes);
+    @Override
+    @Transactional(readOnly = true)
+    public ReportHistoryPage getReportHistory(String reportId, String pageToken, int pageSize) {
+        log.info("Fetching status history for report {}", reportId);
 
-        report.setUpdatedBy(rejectedBy);
-        report.setUpdatedAt(LocalDateTime.now());
+        Window<ReportStatusEvent> window = statusEventRepository.findByReportIdOrderByIdAsc(
+                reportId, ReportHistoryPage.position(pageToken), Limit.of(ReportPage.pageSize(pageSize)));
+        List<ReportStatusEvent> events = window.getContent();
 
-        return reportRepository.save(report);
+        String nextPageToken = window.hasNext() && !events.isEmpty()
+                ? ReportHistoryPage.tokenAfter(events.get(events.size() - 1))
+                : null;
+        return new ReportHistoryPage(events, nextPageToken);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<DailyReport> getReport(String reportId) {
         log.info("Fetching daily report {}", reportId);
-        return reportRepository.findByIdWithActivities(reportId);
+        return readReport(reportId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DailyReport> getReportsByProject(String projectId) {
         log.info("Fetching reports for project {}", projectId);
-        return reportRepository.findByProjectId(projectId);
+        return withBufferedProgress(withPersonnel(reportRepository.findByProjectIdWithActivities(projectId)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DailyReport> getReportsByDateRange(String projectId, LocalDate startDate, LocalDate endDate) {
         log.info("Fetching reports for project {} between {} and {}", projectId, startDate, endDate);
-        return reportRepository.findByProjectIdAndDateRange(projectId, startDate, endDate);
+        return withBufferedProgress(withPersonnel(
+                reportRepository.findByProjectIdAndDateRangeWithActivities(projectId, startDate, endDate)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DailyReport> getReportsByStatus(ReportStatus status) {
         log.info("Fetching reports with status {}", status);
-        return reportRepository.findByStatus(status);
+        return withBufferedProgress(withPersonnel(reportRepository.findByStatusWithActivities(status)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportView> getReportViewsByProject(String projectId) {
+        log.info("Fetching report views for project {}", projectId);
+        return toViews(reportRepository.findRowsByProjectId(projectId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportView> getReportViewsByDateRange(String projectId, LocalDate startDate, LocalDate endDate) {
+        log.info("Fetching report views for project {} between {} and {}", projectId, startDate, endDate);
+        return toViews(reportRepository.findRowsByProjectIdAndDateRange(projectId, startDate, endDate));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportView> getReportViewsByStatus(ReportStatus status) {
+        log.info("Fetching report views with status {}", status);
+        return toViews(reportRepository.findRowsByStatus(status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReportPage pageReportsByProject(String projectId, String pageToken, int pageSize) {
+        log.info("Fetching page of reports for project {}", projectId);
+        return toPage(reportRepository.findByProjectIdOrderByReportDateDescIdDesc(
+                projectId, ReportPage.position(pageToken), Limit.of(ReportPage.pageSize(pageSize))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReportPage pageReportsByDateRange(String projectId, LocalDate startDate, LocalDate endDate,
+                                             String pageToken, int pageSize) {
+        log.info("Fetching page of reports for project {} between {} and {}", projectId, startDate, endDate);
+        return toPage(reportRepository.findByProjectIdAndReportDateBetweenOrderByReportDateDescIdDesc(
+                projectId, startDate, endDate, ReportPage.position(pageToken),
+                Limit.of(ReportPage.pageSize(pageSize))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReportPage pageReportsByStatus(ReportStatus status, String pageToken, int pageSize) {
+        log.info("Fetching page of reports with status {}", status);
+        return toPage(reportRepository.findByStatusOrderByReportDateDescIdDesc(
+                status, ReportPage.position(pageToken), Limit.of(ReportPage.pageSize(pageSize))));
     }
 
     @Override
@@ -186,11 +362,75 @@ public class DailyReportingServiceImpl implements DailyReportingService {
         // Validate report can be deleted
         validateReportIsEditable(report);
 
-        // Delete activities first
+        // Set-based deletes: no activity is loaded, and the database removes their personnel
         activityRepository.deleteByReportId(reportId);
 
-        // Delete report
-        reportRepository.deleteById(reportId);
+        // Still conditional, in case the report was submitted since it was read
+        if (reportRepository.deleteByIdAndStatusIn(reportId, EDITABLE_STATUSES) == 0) {
+            throw transitionRejected(reportId, "modify");
+        }
+        eventOutbox.record(ReportEventType.REPORT_DELETED, reportId, null);
+    }
+
+    @Override
+    @Transactional
+    public List<String> purgeReports(LocalDate startDate, LocalDate endDate, boolean force, int limit,
+                                     String purgedBy) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("A date range with the start on or before the end is required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+
+        List<ReportStatus> statuses = force ? List.of(ReportStatus.values()) : PURGEABLE_STATUSES;
+        List<String> activeIds = reportRepository.findIdsByReportDateBetweenAndStatusIn(
+                startDate, endDate, statuses, Limit.of(limit));
+        // Once the active reports in the range are gone, the batch is filled from the archive
+        List<String> archivedIds = activeIds.size() < limit
+                ? archiveRepository.findIdsByReportDateBetween(startDate, endDate, statuses, limit - activeIds.size())
+                : List.of();
+        if (activeIds.isEmpty() && archivedIds.isEmpty()) {
+            return List.of();
+        }
+        log.info("Purging {} active and {} archived reports dated {} to {}, forced: {}",
+                activeIds.size(), archivedIds.size(), startDate, endDate, force);
+
+        if (!activeIds.isEmpty()) {
+            activityRepository.deleteByReportIdIn(activeIds);
+            reportRepository.deleteByIdIn(activeIds);
+        }
+        archiveRepository.deleteByIdIn(archivedIds);
+
+        List<String> reportIds = new ArrayList<>(activeIds);
+        reportIds.addAll(archivedIds);
+        reportIds.forEach(reportId -> eventOutbox.record(ReportEventType.REPORT_DELETED, reportId, purgedBy));
+        return reportIds;
+    }
+
+    @Override
+    @Transactional
+    public int archiveReports(LocalDate reportedBefore, int limit) {
+        if (reportedBefore == null) {
+            throw new IllegalArgumentException("Archive cutoff date is required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+
+        List<String> reportIds = reportRepository.findIdsByStatusAndReportDateBefore(
+                ReportStatus.APPROVED, reportedBefore, Limit.of(limit));
+        if (reportIds.isEmpty()) {
+            return 0;
+        }
+        log.info("Archiving {} approved reports dated before {}", reportIds.size(), reportedBefore);
+
+        // Copy, then remove from the active tables; both happen or neither does
+        int archived = archiveRepository.copyToArchive(reportIds, LocalDateTime.now());
+        activityRepository.deleteByReportIdIn(reportIds);
+        reportRepository.deleteByIdIn(reportIds);
+        reportIds.forEach(reportId -> eventOutbox.record(ReportEventType.REPORT_ARCHIVED, reportId, null));
+        return archived;
     }
 
     @Override
@@ -208,7 +448,7 @@ public class DailyReportingServiceImpl implements DailyReportingService {
 
         // Generate ID if not provided
         if (activity.getId() == null || activity.getId().isEmpty()) {
-            activity.setId(UUID.randomUUID().toString());
+            activity.setId(TimeOrderedId.next());
         }
 
         // Set created timestamp if not set
@@ -227,10 +467,82 @@ public class DailyReportingServiceImpl implements DailyReportingService {
         // Add to report
         report.addActivity(savedActivity);
         reportRepository.save(report);
+        reportCache.evictActivities(List.of(reportId));
 
+        eventOutbox.record(ReportEventType.ACTIVITY_ADDED, reportId, savedActivity.getId(),
+                savedActivity.getCreatedBy());
+        progressBus.publish(report);
         return savedActivity;
     }
 
+    @Override
+    @Transactional
+    public BulkActivityResult addActivities(String reportId, List<ActivityEntry> activities) {
+        log.info("Adding {} activities to report {}", activities.size(), reportId);
+
+        // Validate the report once for the whole batch
+        DailyReport report = getReportOrThrow(reportId);
+        validateReportIsEditable(report);
+
+        List<ActivityEntry> accepted = new ArrayList<>();
+        List<BulkActivityResult.ItemError> errors = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Client-supplied IDs are checked in one query rather than failing the batch on insert
+        Set<String> usedIds = new HashSet<>();
+        List<String> suppliedIds = activities.stream()
+                .filter(activity -> activity != null && activity.getId() != null && !activity.getId().isEmpty())
+                .map(ActivityEntry::getId)
+                .toList();
+        if (!suppliedIds.isEmpty()) {
+            activityRepository.findAllById(suppliedIds).forEach(existing -> usedIds.add(existing.getId()));
+        }
+
+        for (int i = 0; i < activities.size(); i++) {
+            ActivityEntry activity = activities.get(i);
+            String problem = validateNewActivity(activity);
+            if (problem == null && activity.getId() != null && !activity.getId().isEmpty()
+                    && !usedIds.add(activity.getId())) {
+                problem = "Activity ID already exists: " + activity.getId();
+            }
+            if (problem != null) {
+                errors.add(new BulkActivityResult.ItemError(i, problem));
+                continue;
+            }
+
+            activity.setReportId(reportId);
+            if (activity.getId() == null || activity.getId().isEmpty()) {
+                activity.setId(TimeOrderedId.next());
+            }
+            if (activity.getCreatedAt() == null) {
+                activity.setCreatedAt(now);
+            }
+            if (activity.getStatus() == null) {
+                activity.setStatus(ActivityStatus.PLANNED);
+            }
+            accepted.add(activity);
+        }
+
+        // New activities are inserted without a prior SELECT and flushed as JDBC batches;
+        // the report's activity collection is left unloaded
+        List<ActivityEntry> added = activityRepository.saveAll(accepted);
+
+        if (!added.isEmpty()) {
+            report.setUpdatedAt(now);
+            reportRepository.save(report);
+            reportCache.evictActivities(List.of(reportId));
+        }
+        added.forEach(activity -> eventOutbox.record(
+                ReportEventType.ACTIVITY_ADDED, reportId, activity.getId(), activity.getCreatedBy()));
+        if (!added.isEmpty() && progressBus.isWatched(reportId)) {
+            // The collection was never loaded; flush so loading it now includes the new activities
+            activityRepository.flush();
+            progressBus.publish(report);
+        }
+
+        return new BulkActivityResult(reportId, added, errors);
+    }
+
     @Override
     @Transactional
     public ActivityEntry updateActivity(String activityId, ActivityEntry updatedActivity) {
@@ -259,7 +571,15 @@ public class DailyReportingServiceImpl implements DailyReportingService {
         // Update timestamp
         activity.setUpdatedAt(LocalDateTime.now());
 
-        return activityRepository.save(activity);
+        // The new progress replaces anything still buffered for this activity
+        progressBuffer.discard(activityId);
+
+        eventOutbox.record(ReportEventType.ACTIVITY_UPDATED, activity.getReportId(), activityId,
+                updatedActivity.getUpdatedBy());
+        ActivityEntry saved = activityRepository.save(activity);
+        reportCache.evictActivities(List.of(report.getId()));
+        progressBus.publish(report);
+        return saved;
     }
 
     @Override
@@ -280,42 +600,132 @@ public class DailyReportingServiceImpl implements DailyReportingService {
         validateReportIsEditable(report);
 
         // Update progress and status
-        activity.setProgress(progress);
-
-        // Update status based on progress
-        if (progress == 0) {
-            activity.setStatus(ActivityStatus.PLANNED);
-        } else if (progress < 100) {
-            activity.setStatus(ActivityStatus.IN_PROGRESS);
-        } else {
-            activity.setStatus(ActivityStatus.COMPLETED);
-        }
+        applyProgress(activity, progress);
 
         // Update timestamp
         activity.setUpdatedAt(LocalDateTime.now());
 
         ActivityEntry updatedActivity = activityRepository.save(activity);
+        progressBuffer.discard(activityId);
+        reportCache.evictActivities(List.of(report.getId()));
 
         // Update report
         report.setUpdatedBy(updatedBy);
         report.setUpdatedAt(LocalDateTime.now());
         reportRepository.save(report);
 
+        eventOutbox.record(ReportEventType.ACTIVITY_UPDATED, report.getId(), activityId, updatedBy);
+        progressBus.publish(report);
         return updatedActivity;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void bufferActivityProgress(String activityId, double progress, String updatedBy) {
+        log.debug("Buffering progress for activity {} at {}%", activityId, progress);
+
+        if (progress < 0 || progress > 100) {
+            throw new IllegalArgumentException("Progress must be between 0 and 100");
+        }
+
+        // Only the first update in a window reads the database; later ones replace the buffered value
+        Optional<ActivityProgressBuffer.PendingProgress> buffered = progressBuffer.find(activityId);
+        String reportId;
+        if (buffered.isPresent()) {
+            reportId = buffered.get().reportId();
+        } else {
+            reportId = getActivityOrThrow(activityId).getReportId();
+            validateReportIsEditable(getReportOrThrow(reportId));
+        }
+
+        progressBuffer.put(new ActivityProgressBuffer.PendingProgress(
+                activityId, reportId, progress, updatedBy, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    public int flushBufferedProgress() {
+        List<ActivityProgressBuffer.PendingProgress> batch = progressBuffer.drain();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Readers keep seeing the buffered values until this write commits; a rollback puts them back
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    progressBuffer.release(batch);
+                } else {
+                    progressBuffer.restore(batch);
+                }
+            }
+        });
+
+        Map<String, ActivityProgressBuffer.PendingProgress> byActivity = batch.stream()
+                .collect(Collectors.toMap(ActivityProgressBuffer.PendingProgress::activityId, Function.identity()));
+        Map<String, DailyReport> reports = reportRepository.findAllById(
+                        batch.stream().map(ActivityProgressBuffer.PendingProgress::reportId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(DailyReport::getId, Function.identity()));
+
+        // Dirty activities are flushed as one batched UPDATE, followed by one update per touched report
+        Map<String, ActivityProgressBuffer.PendingProgress> latestByReport = new HashMap<>();
+        int written = 0;
+        for (ActivityEntry activity : activityRepository.findAllById(byActivity.keySet())) {
+            ActivityProgressBuffer.PendingProgress pending = byActivity.get(activity.getId());
+            DailyReport report = reports.get(activity.getReportId());
+            if (report == null || !isEditable(report)) {
+                log.warn("Dropping buffered progress for activity {}: report is no longer editable", activity.getId());
+                continue;
+            }
+            applyProgress(activity, pending.progress());
+            activity.setUpdatedBy(pending.updatedBy());
+            activity.setUpdatedAt(pending.updatedAt());
+            eventOutbox.record(ReportEventType.ACTIVITY_UPDATED, report.getId(), activity.getId(),
+                    pending.updatedBy());
+            written++;
+            latestByReport.merge(report.getId(), pending,
+                    (current, candidate) -> candidate.updatedAt().isAfter(current.updatedAt()) ? candidate : current);
+        }
+
+        reportCache.evictActivities(latestByReport.keySet());
+        latestByReport.forEach((reportId, latest) -> {
+            DailyReport report = reports.get(reportId);
+            report.setUpdatedBy(latest.updatedBy());
+            report.setUpdatedAt(latest.updatedAt());
+            progressBus.publish(report);
+        });
+
+        log.info("Wrote {} buffered progress updates across {} reports", written, latestByReport.size());
+        return written;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<ActivityEntry> getActivity(String activityId) {
         log.info("Fetching activity {}", activityId);
-        return activityRepository.findById(activityId);
+        return activityRepository.findById(activityId).map(this::withBufferedProgress);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ActivityEntry> getActivitiesByReport(String reportId) {
         log.info("Fetching activities for report {}", reportId);
-        return activityRepository.findByReportId(reportId);
+        List<ActivityEntry> activities = activityRepository.findByReportId(reportId);
+        if (activities.isEmpty()) {
+            return archiveRepository.findReport(reportId).map(DailyReport::getActivities).orElse(activities);
+        }
+        activities.forEach(this::withBufferedProgress);
+        return activities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActivityView> getActivityViewsByReport(String reportId) {
+        log.info("Fetching activity views for report {}", reportId);
+        List<ActivityView> views = activityViews(List.of(reportId));
+        return views.isEmpty() ? archivedActivityViews(reportId) : views;
     }
 
     @Override
@@ -336,6 +746,10 @@ public class DailyReportingServiceImpl implements DailyReportingService {
 
         // Delete activity
         activityRepository.deleteById(activityId);
+        progressBuffer.discard(activityId);
+        reportCache.evictActivities(List.of(report.getId()));
+        eventOutbox.record(ReportEventType.ACTIVITY_DELETED, report.getId(), activityId, null);
+        progressBus.publish(report);
     }
 
     @Override
@@ -343,8 +757,15 @@ public class DailyReportingServiceImpl implements DailyReportingService {
     public double calculateReportProgress(String reportId) {
         log.info("Calculating progress for report {}", reportId);
 
-        DailyReport report = getReportOrThrow(reportId);
-        return report.calculateProgress();
+        // Buffered values are not in the database yet, so those reports are calculated in memory
+        if (progressBuffer.hasPending(reportId)) {
+            return withBufferedProgress(getReportOrThrow(reportId)).calculateProgress();
+        }
+
+        if (!reportRepository.existsById(reportId)) {
+            return getArchivedReportOrThrow(reportId).calculateProgress();
+        }
+        return activityRepository.averageProgressByReportId(reportId);
     }
 
     @Override
@@ -352,8 +773,15 @@ public class DailyReportingServiceImpl implements DailyReportingService {
     public boolean isReportComplete(String reportId) {
         log.info("Checking if report {} is complete", reportId);
 
-        DailyReport report = getReportOrThrow(reportId);
-        return report.isComplete();
+        if (progressBuffer.hasPending(reportId)) {
+            return withBufferedProgress(getReportOrThrow(reportId)).isComplete();
+        }
+
+        if (!reportRepository.existsById(reportId)) {
+            return getArchivedReportOrThrow(reportId).isComplete();
+        }
+        ActivityEntryRepository.CompletionCounts counts = activityRepository.countCompletionByReportId(reportId);
+        return counts.getTotal() > 0 && counts.getIncomplete() == 0;
     }
 
     @Override
@@ -361,12 +789,23 @@ public class DailyReportingServiceImpl implements DailyReportingService {
     public long getTotalActivityDurationMinutes(String reportId) {
         log.info("Calculating total activity duration for report {}", reportId);
 
-        List<ActivityEntry> activities = activityRepository.findByReportId(reportId);
+        long minutes = activityRepository.sumDurationMinutesByReportId(reportId);
+        if (minutes > 0) {
+            return minutes;
+        }
+        // Archived activities have left activity_entries; only a zero sum can belong to an archived report
+        return archiveRepository.findReport(reportId)
+                .map(report -> ReportSummary.of(report).totalDurationMinutes())
+                .orElse(0L);
+    }
 
-        return activities.stream()
-                .map(ActivityEntry::calculateDuration)
-                .mapToLong(duration -> duration.toMinutes())
-                .sum();
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReportSummary> getReportSummary(String reportId) {
+        log.info("Building summary for report {}", reportId);
+
+        // The analytics are derived from the loaded activities rather than queried separately
+        return readReport(reportId).map(ReportSummary::of);
     }
 
     // Helper methods
@@ -376,23 +815,285 @@ public class DailyReportingServiceImpl implements DailyReportingService {
                 .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
     }
 
+    /**
+     * Read a report by ID: an active report with buffered progress laid over it, or else an archived one
+     */
+    private Optional<DailyReport> readReport(String reportId) {
+        return loadReport(reportId)
+                .map(this::withBufferedProgress)
+                .or(() -> archiveRepository.findReport(reportId));
+    }
+
+    private DailyReport getArchivedReportOrThrow(String reportId) {
+        return archiveRepository.findReport(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
+    }
+
+    /**
+     * Load a report with its activities and personnel by ID, so a warm second-level cache answers
+     * the whole read without touching the database
+     */
+    private Optional<DailyReport> loadReport(String reportId) {
+        return reportRepository.findById(reportId).map(this::withPersonnel);
+    }
+
+    private DailyReport getTransitionedReport(String reportId) {
+        return loadReport(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
+    }
+
+    private DailyReport published(DailyReport report) {
+        progressBus.publish(report);
+        return report;
+    }
+
+    /**
+     * Explain why a conditional status update matched no report
+     */
+    private IllegalStateException transitionRejected(DailyReport report, String action) {
+        return new IllegalStateException("Cannot " + action + " report in " + report.getStatus() + " state");
+    }
+
+    private void requireReportExists(String reportId) {
+        if (!reportRepository.existsById(reportId)) {
+            throw new IllegalArgumentException("Report not found: " + reportId);
+        }
+    }
+
+    private ReportPage toPage(Window<DailyReport> window) {
+        List<DailyReport> reports = withBufferedProgress(withPersonnel(window.getContent()));
+        String nextPageToken = window.hasNext() && !reports.isEmpty()
+                ? ReportPage.tokenAfter(reports.get(reports.size() - 1))
+                : null;
+        return new ReportPage(reports, nextPageToken);
+    }
+
+    /**
+     * Load personnel while still in the transaction; collections are batch-fetched,
+     * so this costs one query per batch of activities rather than one per activity
+     */
+    private List<DailyReport> withPersonnel(List<DailyReport> reports) {
+        reports.forEach(this::withPersonnel);
+        return reports;
+    }
+
+    private DailyReport withPersonnel(DailyReport report) {
+        report.getActivities().forEach(activity -> Hibernate.initialize(activity.getPersonnel()));
+        return report;
+    }
+
+    private static void applyProgress(ActivityEntry activity, double progress) {
+        activity.setProgress(progress);
+        activity.setStatus(statusFor(progress));
+    }
+
+    /**
+     * Activity status implied by a progress value
+     */
+    private static ActivityStatus statusFor(double progress) {
+        if (progress == 0) {
+            return ActivityStatus.PLANNED;
+        } else if (progress < 100) {
+            return ActivityStatus.IN_PROGRESS;
+        }
+        return ActivityStatus.COMPLETED;
+    }
+
+    /**
+     * Show progress that is still buffered, so a caller reads back its own updates before they are flushed
+     * On read-only transactions the change is never written by dirty checking; submitReport relies on it being written
+     */
+    private ActivityEntry withBufferedProgress(ActivityEntry activity) {
+        progressBuffer.find(activity.getId()).ifPresent(pending -> {
+            applyProgress(activity, pending.progress());
+            activity.setUpdatedBy(pending.updatedBy());
+            activity.setUpdatedAt(pending.updatedAt());
+        });
+        return activity;
+    }
+
+    private DailyReport withBufferedProgress(DailyReport report) {
+        if (progressBuffer.hasPending(report.getId())) {
+            report.getActivities().forEach(this::withBufferedProgress);
+        }
+        return report;
+    }
+
+    private List<DailyReport> withBufferedProgress(List<DailyReport> reports) {
+        reports.forEach(this::withBufferedProgress);
+        return reports;
+    }
+
+    private ActivityRow withBufferedProgress(ActivityRow activity) {
+        return progressBuffer.find(activity.id())
+                .map(pending -> activity.withProgress(pending.progress(), statusFor(pending.progress()),
+                        pending.updatedBy(), pending.updatedAt()))
+                .orElse(activity);
+    }
+
+    /**
+     * Attach activities and personnel to report rows with one query per table
+     */
+    private List<ReportView> toViews(List<ReportRow> reports) {
+        Map<String, List<ActivityView>> activitiesByReport = activityViews(reports.stream().map(ReportRow::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(activity -> activity.activity().reportId()));
+        return reports.stream()
+                .map(report -> new ReportView(report, activitiesByReport.getOrDefault(report.id(), List.of())))
+                .toList();
+    }
+
+    private List<ActivityView> activityViews(List<String> reportIds) {
+        List<ActivityRow> activities = new ArrayList<>();
+        for (List<String> chunk : InClauseChunks.of(reportIds)) {
+            activities.addAll(activityRepository.findRowsByReportIdIn(chunk));
+        }
+
+        Map<String, Set<String>> personnel = new HashMap<>();
+        for (List<String> chunk : InClauseChunks.of(activities.stream().map(ActivityRow::id).toList())) {
+            activityRepository.findPersonnelRowsByActivityIdIn(chunk).forEach(row ->
+                    personnel.computeIfAbsent(row.activityId(), id -> new HashSet<>()).add(row.personnelId()));
+        }
+
+        return activities.stream()
+                .map(activity -> new ActivityView(withBufferedProgress(activity),
+                        personnel.getOrDefault(activity.id(), Set.of())))
+                .toList();
+    }
+
+    private List<ActivityView> archivedActivityViews(String reportId) {
+        List<ActivityRow> activities = archiveRepository.findActivityRowsByReportIdIn(List.of(reportId));
+
+        Map<String, Set<String>> personnel = new HashMap<>();
+        for (List<String> chunk : InClauseChunks.of(activities.stream().map(ActivityRow::id).toList())) {
+            archiveRepository.findPersonnelRowsByActivityIdIn(chunk).forEach(row ->
+                    personnel.computeIfAbsent(row.activityId(), id -> new HashSet<>()).add(row.personnelId()));
+        }
+
+        return activities.stream()
+                .map(activity -> new ActivityView(activity, personnel.getOrDefault(activity.id(), Set.of())))
+                .toList();
+    }
+
     private ActivityEntry getActivityOrThrow(String activityId) {
         return activityRepository.findById(activityId)
                 .orElseThrow(() -> new IllegalArgumentException("Activity not found: " + activityId));
     }
 
+    /**
+     * Check the fields the database requires, so one bad item cannot fail a whole batch
+     *
+     * @return Description of the problem, or null if the activity can be stored
+     */
+    private String validateNewActivity(ActivityEntry activity) {
+        if (activity == null) {
+            return "Activity is missing";
+        }
+        if (activity.getDescription() == null || activity.getDescription().isBlank()) {
+            return "Description is required";
+        }
+        if (activity.getCategory() == null || activity.getCategory().isBlank()) {
+            return "Category is required";
+        }
+        if (activity.getStartTime() == null || activity.getEndTime() == null) {
+            return "Start time and end time are required";
+        }
+        if (activity.getEndTime().isBefore(activity.getStartTime())) {
+            return "End time cannot be before start time";
+        }
+        if (activity.getProgress() < 0 || activity.getProgress() > 100) {
+            return "Progress must be between 0 and 100";
+        }
+        if (activity.getCreatedBy() == null || activity.getCreatedBy().isBlank()) {
+            return "Created by is required";
+        }
+        return null;
+    }
+
     private void validateReportIsEditable(DailyReport report) {
-        if (report.getStatus() == ReportStatus.SUBMITTED ||
-                report.getStatus() == ReportStatus.APPROVED) {
+        if (!isEditable(report)) {
             throw new IllegalStateException(
                     "Cannot modify report in " + report.getStatus() + " state");
         }
     }
 
+    private boolean isEditable(DailyReport report) {
+        return report.getStatus() != ReportStatus.SUBMITTED &&
+                report.getStatus() != ReportStatus.APPROVED;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ReportStatus, Long> countTransitionsSince(LocalDateTime since) {
+        Map<ReportStatus, Long> counts = new EnumMap<>(ReportStatus.class);
+        for (Object[] row : statusEventRepository.countTransitionsSince(since)) {
+            counts.put((ReportStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<RejectionReason, Long> countRejectionsByReasonSince(LocalDateTime since) {
+        Map<RejectionReason, Long> counts = new EnumMap<>(RejectionReason.class);
+        for (Object[] row : statusEventRepository.countByReasonSince(ReportStatus.REJECTED, since)) {
+            // Rejections recorded without a code count as OTHER
+            RejectionReason reason = row[0] == null ? RejectionReason.OTHER : (RejectionReason) row[0];
+            counts.merge(reason, (Long) row[1], Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RollupPoint> getProjectTimeSeries(String projectId, LocalDate startDate, LocalDate endDate,
+                                                  RollupPeriod period) {
+        if (projectId == null || projectId.isBlank()) {
+            throw new IllegalArgumentException("Project ID is required");
+        }
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("A date range with the start on or before the end is required");
+        }
+        if (period == null) {
+            throw new IllegalArgumentException("Rollup period is required");
+        }
+        log.info("Fetching {} rollups for project {} between {} and {}", period, projectId, startDate, endDate);
+
+        // Rows come back in date order, so periods are grouped in order too
+        Map<LocalDate, List<ProjectDailyRollup>> byPeriod = rollupRepository
+                .findByProjectIdAndReportDateBetweenOrderByReportDateAsc(projectId, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(row -> period.startOf(row.getReportDate()),
+                        LinkedHashMap::new, Collectors.toList()));
+        return byPeriod.entrySet().stream()
+                .map(entry -> RollupPoint.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int rebuildRollups() {
+        log.info("Rebuilding report rollups");
+        return rollupRepository.rebuild(LocalDateTime.now());
+    }
+
+    @Override
+    public Flux<ReportProgress> watchReportProgress(String reportId) {
+        log.info("Watching progress of report {}", reportId);
+        requireReportExists(reportId);
+
+        // Not @Transactional: a Flux return type would ask for a reactive transaction manager.
+        // The current state is read when the subscription starts, in the repository's own transaction,
+        // with buffered progress laid over it as every other read does
+        return progressBus.watch(reportId, () -> reportRepository.findByIdWithActivities(reportId)
+                .map(this::withBufferedProgress)
+                .map(ReportProgress::of)
+                .orElse(null));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<DailyReport> findByIdWithActivities(String reportId) {
         log.info("Fetching daily report with activities for ID: {}", reportId);
-        return reportRepository.findByIdWithActivities(reportId);
+        return readReport(reportId);
     }
 }
\ No newline at end of file
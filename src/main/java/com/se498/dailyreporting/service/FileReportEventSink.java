@@ -0,0 +1,78 @@
+package com.se498.dailyreporting.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends relayed events to a local file, one JSON object per line, for testing consumers without a broker
+ * Enabled by setting reporting.outbox.file-sink.path
+ * A batch is only written once the relay's transaction has committed, so the file never holds a position
+ * that is later rolled back and reused
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reporting.outbox.file-sink.path")
+public class FileReportEventSink implements ReportEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileReportEventSink(@Value("${reporting.outbox.file-sink.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<ReportEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>(events.size());
+        for (ReportEvent event : events) {
+            try {
+                lines.add(objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize report event " + event.id(), e);
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        append(lines);
+                    } catch (UncheckedIOException e) {
+                        log.warn("Report events {} to {} were not written: {}", events.get(0).position(),
+                                events.get(events.size() - 1).position(), e.getMessage());
+                    }
+                }
+            });
+        } else {
+            append(lines);
+        }
+    }
+
+    private synchronized void append(List<String> lines) {
+        try {
+            Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append report events to " + path, e);
+        }
+        log.debug("Appended {} report events to {}", lines.size(), path);
+    }
+}
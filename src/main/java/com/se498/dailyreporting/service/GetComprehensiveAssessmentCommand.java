@@ -2,6 +2,8 @@ package com.se498.dailyreporting.service;
 
 import com.se498.dailyreporting.domain.bo.WeatherRecord;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Command to get a comprehensive weather assessment
  */
@@ -19,36 +21,44 @@ public class GetComprehensiveAssessmentCommand implements WeatherServiceCommand
         this.strategy = strategy;
     }
 
+    /**
+     * Produces the structured assessment without rendering any text
+     * @return The structured assessment
+     */
+    public AssessmentResult assess() {
+        return AssessmentResult.of(weatherRecord, strategy);
+    }
+
+    /**
+     * Runs the four sub-assessments as separate commands on the bus, in parallel, and assembles the
+     * structured assessment once all of them have completed
+     * @param bus The bus to run the sub-assessments on
+     * @return Future holding the structured assessment
+     */
+    public CompletableFuture<AssessmentResult> assessAsync(WeatherCommandBus bus) {
+        CompletableFuture<Boolean> dangerous =
+                bus.supply(CheckDangerousWeatherCommand.class, () -> strategy.isDangerous(weatherRecord));
+        CompletableFuture<Boolean> goodForOutdoor =
+                bus.supply(CheckOutdoorConditionsCommand.class, () -> strategy.isGoodForOutdoor(weatherRecord));
+        CompletableFuture<Integer> comfortRating =
+                bus.supply(GetComfortRatingCommand.class, () -> strategy.getComfortRating(weatherRecord));
+        CompletableFuture<String> description =
+                bus.supply(GetWeatherDescriptionCommand.class, () -> strategy.getWeatherDescription(weatherRecord));
+
+        return CompletableFuture.allOf(dangerous, goodForOutdoor, comfortRating, description)
+                .thenApply(ignored -> new AssessmentResult(
+                        strategy.getStrategyName(),
+                        String.valueOf(weatherRecord.getLocation()),
+                        weatherRecord.getRecordedAt(),
+                        dangerous.join(),
+                        goodForOutdoor.join(),
+                        comfortRating.join(),
+                        description.join(),
+                        AssessmentResult.RawWeatherData.from(weatherRecord)));
+    }
+
     @Override
     public String execute() {
-        StringBuilder result = new StringBuilder();
-        result.append("COMPREHENSIVE WEATHER ASSESSMENT\n");
-        result.append("=================================\n");
-        result.append("Using strategy: ").append(strategy.getStrategyName()).append("\n");
-        result.append("Location: ").append(weatherRecord.getLocation()).append("\n");
-        result.append("Time: ").append(weatherRecord.getRecordedAt()).append("\n\n");
-
-        // Execute other commands to get their results
-        WeatherServiceCommand dangerCommand = new CheckDangerousWeatherCommand(weatherRecord, strategy);
-        WeatherServiceCommand outdoorCommand = new CheckOutdoorConditionsCommand(weatherRecord, strategy);
-        WeatherServiceCommand comfortCommand = new GetComfortRatingCommand(weatherRecord, strategy);
-        WeatherServiceCommand descriptionCommand = new GetWeatherDescriptionCommand(weatherRecord, strategy);
-
-        result.append(dangerCommand.execute()).append("\n");
-        result.append(outdoorCommand.execute()).append("\n");
-        result.append(comfortCommand.execute()).append("\n");
-        result.append(descriptionCommand.execute()).append("\n\n");
-
-        // Add raw data
-        result.append("Raw Weather Data:\n");
-        result.append("- Temperature: ").append(weatherRecord.getTemperature()).append("\n");
-        result.append("- Humidity: ").append(weatherRecord.getHumidity()).append("\n");
-        result.append("- Wind Speed: ").append(weatherRecord.getWindSpeed()).append(" mph\n");
-        result.append("- Heat Index: ").append(String.format("%.1f°F", weatherRecord.getHeatIndex())).append("\n");
-        result.append("- Wind Chill: ").append(String.format("%.1f°F", weatherRecord.getWindChill())).append("\n");
-        result.append("- Feels Like: ").append(String.format("%.1f°F", weatherRecord.getFeelsLikeTemperature())).append("\n");
-        result.append("- UV Index: ").append(weatherRecord.getUvIndex()).append("\n");
-
-        return result.toString();
+        return assess().toText();
     }
-}
\ No newline at end of file
+}
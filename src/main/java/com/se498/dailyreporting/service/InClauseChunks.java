@@ -0,0 +1,27 @@
+package com.se498.dailyreporting.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits IDs into IN lists of a bounded size, so lookups by many IDs stay within the driver's parameter limits
+ * and reuse a handful of statement shapes
+ */
+final class InClauseChunks {
+
+    static final int SIZE = 500;
+
+    private InClauseChunks() {
+    }
+
+    /**
+     * Views of consecutive slices of the IDs; an empty list yields no chunks and so no query
+     */
+    static <T> List<List<T>> of(List<T> ids) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += SIZE) {
+            chunks.add(ids.subList(start, Math.min(start + SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,59 @@
+package com.se498.dailyreporting.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hands relayed events to listeners in this JVM, such as open event streams
+ * Listeners only hear about a batch once the relay's transaction has committed, so they never see
+ * a position that is later rolled back and reused
+ */
+@Slf4j
+@Component
+public class InProcessReportEventSink implements ReportEventSink {
+
+    private final List<Consumer<ReportEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return Action that removes the listener again
+     */
+    public Runnable subscribe(Consumer<ReportEvent> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    @Override
+    public void publish(List<ReportEvent> events) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(events);
+                }
+            });
+        } else {
+            dispatch(events);
+        }
+    }
+
+    private void dispatch(List<ReportEvent> events) {
+        for (Consumer<ReportEvent> listener : listeners) {
+            for (ReportEvent event : events) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    log.warn("Report event listener failed on event {}: {}", event.position(), e.getMessage());
+                }
+            }
+        }
+    }
+}
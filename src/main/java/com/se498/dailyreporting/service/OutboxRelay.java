@@ -0,0 +1,36 @@
+package com.se498.dailyreporting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically relays pending outbox events; the interval is reporting.outbox.relay-interval-ms
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    @Autowired
+    private final ReportEventOutbox outbox;
+
+    @Value("${reporting.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${reporting.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        try {
+            // Keep going while batches come back full so a backlog drains in one run
+            int relayed;
+            do {
+                relayed = outbox.relay(batchSize);
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Error relaying report events: {}", e.getMessage(), e);
+        }
+    }
+}
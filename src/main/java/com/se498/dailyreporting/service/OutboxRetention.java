@@ -0,0 +1,42 @@
+package com.se498.dailyreporting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes relayed outbox events once they are older than reporting.outbox.retention-days
+ * Each run deletes a single batch, so a large backlog is worked off over several runs without
+ * holding up the other scheduled jobs
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRetention {
+
+    @Autowired
+    private final ReportEventOutbox outbox;
+
+    @Value("${reporting.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${reporting.outbox.retention-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${reporting.outbox.retention-interval-ms:60000}")
+    public void prune() {
+        try {
+            int pruned = outbox.prune(LocalDateTime.now().minusDays(retentionDays), batchSize);
+            if (pruned > 0) {
+                log.info("Pruned {} report events older than {} days", pruned, retentionDays);
+            }
+        } catch (Exception e) {
+            log.error("Error pruning report events: {}", e.getMessage(), e);
+        }
+    }
+}
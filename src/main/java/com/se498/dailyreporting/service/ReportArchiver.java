@@ -0,0 +1,95 @@
+package com.se498.dailyreporting.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically moves approved reports older than reporting.archive.min-age-days into the archive tables
+ * Each batch commits on its own and is followed by a pause, so a large backlog drains without holding
+ * locks for long. The drain runs on its own thread, leaving the scheduler free for the outbox relay and
+ * the progress flush; a tick that finds the previous drain still running skips. The first run waits a
+ * full interval after startup
+ */
+@Slf4j
+@Component
+public class ReportArchiver {
+
+    private final DailyReportingService reportingService;
+    private final int minAgeDays;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("report-archive").factory());
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public ReportArchiver(DailyReportingService reportingService,
+                          @Value("${reporting.archive.min-age-days:90}") int minAgeDays,
+                          @Value("${reporting.archive.batch-size:500}") int batchSize,
+                          @Value("${reporting.archive.pause-ms:200}") long pauseMillis) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Archive batch size must be at least 1");
+        }
+        this.reportingService = reportingService;
+        this.minAgeDays = minAgeDays;
+        this.batchSize = batchSize;
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${reporting.archive.interval-ms:3600000}",
+            initialDelayString = "${reporting.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!draining.compareAndSet(false, true)) {
+            log.debug("Previous archive run still draining; skipping");
+            return;
+        }
+        LocalDate reportedBefore = LocalDate.now().minusDays(minAgeDays);
+        executor.execute(() -> {
+            try {
+                int archived = archiveBefore(reportedBefore);
+                if (archived > 0) {
+                    log.info("Archived {} approved reports", archived);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error archiving reports: {}", e.getMessage(), e);
+            } finally {
+                draining.set(false);
+            }
+        });
+    }
+
+    /**
+     * Archive every approved report dated before a day, a batch at a time, on the calling thread
+     *
+     * @return Number of reports archived
+     */
+    public int archiveBefore(LocalDate reportedBefore) throws InterruptedException {
+        int total = 0;
+        int archived;
+        do {
+            archived = reportingService.archiveReports(reportedBefore, batchSize);
+            total += archived;
+
+            // A full batch means there may be more; give other work the database before the next one
+            if (archived == batchSize && pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+        } while (archived == batchSize);
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Batches already committed stay archived; the next run picks up the rest
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.OutboxEvent;
+import com.se498.dailyreporting.domain.vo.ReportEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A relayed report change as delivered to sinks and stream consumers
+ *
+ * @param position Gap-free place in the stream; consumers resume after the last position they saw
+ * @param id Event ID, stable across redelivery
+ * @param type Kind of change
+ * @param reportId Report that changed
+ * @param activityId Activity that changed, or null for report-level events
+ * @param actor User who made the change, if known
+ * @param occurredAt When the change was made
+ */
+public record ReportEvent(long position,
+                          String id,
+                          ReportEventType type,
+                          String reportId,
+                          String activityId,
+                          String actor,
+                          LocalDateTime occurredAt) {
+
+    static ReportEvent of(OutboxEvent event) {
+        return new ReportEvent(event.getPosition(), event.getId(), event.getEventType(), event.getReportId(),
+                event.getActivityId(), event.getActor(), event.getOccurredAt());
+    }
+}
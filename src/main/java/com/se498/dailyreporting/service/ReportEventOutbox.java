@@ -0,0 +1,122 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.OutboxEvent;
+import com.se498.dailyreporting.domain.vo.ReportEventType;
+import com.se498.dailyreporting.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Transactional outbox for report changes
+ * Writes record an event in their own transaction, so an event exists exactly when its change
+ * committed. The relay later numbers pending events in order and passes them to every ReportEventSink;
+ * consumers tail the numbered stream instead of polling the report lists
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportEventOutbox {
+
+    public static final int MAX_READ_SIZE = 500;
+
+    @Autowired
+    private final OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private final List<ReportEventSink> sinks;
+
+    /**
+     * Add an event to the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ReportEventType type, String reportId, String activityId, String actor) {
+        outboxRepository.save(new OutboxEvent(type, reportId, activityId, actor));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ReportEventType type, String reportId, String actor) {
+        record(type, reportId, null, actor);
+    }
+
+    /**
+     * Number up to batchSize pending events and publish them to every sink
+     *
+     * @return Number of events relayed
+     */
+    @Transactional
+    public int relay(int batchSize) {
+        List<OutboxEvent> pending = outboxRepository.findByPositionIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // A second relay numbering the same range fails on uk_report_outbox_position and retries later
+        long position = outboxRepository.findMaxPosition().orElse(0L);
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportEvent> events = new ArrayList<>(pending.size());
+        for (OutboxEvent event : pending) {
+            event.publish(++position, now);
+            events.add(ReportEvent.of(event));
+        }
+        outboxRepository.flush();
+
+        for (ReportEventSink sink : sinks) {
+            sink.publish(events);
+        }
+        log.debug("Relayed report events {} to {}", events.get(0).position(), position);
+        return events.size();
+    }
+
+    /**
+     * Position of the last relayed event, or 0 before anything has been relayed
+     */
+    @Transactional(readOnly = true)
+    public long lastPosition() {
+        return outboxRepository.findMaxPosition().orElse(0L);
+    }
+
+    /**
+     * Delete up to batchSize of the oldest relayed events, stopping at the last one published before a cutoff
+     * The last relayed event is always kept, so the relay goes on numbering after it and a reconnecting
+     * consumer never sees a position reused
+     *
+     * @return Number of events deleted
+     */
+    @Transactional
+    public int prune(LocalDateTime publishedBefore, int batchSize) {
+        Optional<Long> first = outboxRepository.findMinPosition();
+        Optional<Long> expired = outboxRepository.findMaxPositionPublishedBefore(publishedBefore);
+        if (first.isEmpty() || expired.isEmpty()) {
+            return 0;
+        }
+        long last = Math.min(expired.get(), outboxRepository.findMaxPosition().orElse(0L) - 1);
+        last = Math.min(last, first.get() + batchSize - 1);
+        if (last < first.get()) {
+            return 0;
+        }
+        int deleted = outboxRepository.deleteByPositionBetween(first.get(), last);
+        log.debug("Pruned report events {} to {}", first.get(), last);
+        return deleted;
+    }
+
+    /**
+     * Relayed events after a stream position, in stream order
+     */
+    @Transactional(readOnly = true)
+    public List<ReportEvent> eventsAfter(long position, int limit) {
+        int size = limit <= 0 ? MAX_READ_SIZE : Math.min(limit, MAX_READ_SIZE);
+        return outboxRepository.findByPositionGreaterThanOrderByPositionAsc(position, Limit.of(size)).stream()
+                .map(ReportEvent::of)
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.se498.dailyreporting.service;
+
+import java.util.List;
+
+/**
+ * Destination for relayed report events
+ * The relay calls every sink bean with each batch, in stream order, inside the transaction that
+ * assigns the positions; a sink that throws rolls the batch back so it is retried on the next run.
+ * Delivery is therefore at least once and consumers should ignore positions they have already seen
+ */
+public interface ReportEventSink {
+
+    void publish(List<ReportEvent> events);
+}
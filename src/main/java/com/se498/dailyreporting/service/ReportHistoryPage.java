@@ -0,0 +1,47 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a report's status history, oldest first
+ * Pages are addressed by an opaque token holding the time-ordered ID of the last event returned
+ *
+ * @param events Events on this page
+ * @param nextPageToken Token for the following page, or null if this is the last page
+ */
+public record ReportHistoryPage(List<ReportStatusEvent> events, String nextPageToken) {
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+
+    /**
+     * Token that resumes the history directly after the given event
+     */
+    public static String tokenAfter(ReportStatusEvent event) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(event.getId().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a page token into a keyset position; a null or empty token starts at the first page
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static KeysetScrollPosition position(String pageToken) {
+        if (pageToken == null || pageToken.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        String id = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+        if (id.isBlank()) {
+            throw new IllegalArgumentException("Invalid page token: " + pageToken);
+        }
+        return ScrollPosition.forward(Map.of("id", id));
+    }
+}
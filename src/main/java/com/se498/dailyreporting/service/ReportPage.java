@@ -0,0 +1,73 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of reports, newest first, ordered by report date and then ID
+ * Pages are addressed by an opaque token holding the (reportDate, id) key of the last report
+ * returned, so fetching the next page is an index seek rather than an OFFSET scan
+ *
+ * @param reports Reports on this page
+ * @param nextPageToken Token for the following page, or null if this is the last page
+ */
+public record ReportPage(List<DailyReport> reports, String nextPageToken) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final char SEPARATOR = '|';
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+
+    /**
+     * Token that resumes a listing directly after the given report
+     */
+    public static String tokenAfter(DailyReport report) {
+        String key = report.getReportDate().toString() + SEPARATOR + report.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Clamp a requested page size; zero or negative sizes select the default
+     */
+    static int pageSize(int requested) {
+        if (requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Decode a page token into a keyset position; a null or empty token starts at the first page
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static KeysetScrollPosition position(String pageToken) {
+        if (pageToken == null || pageToken.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            int separator = key.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page token: " + pageToken);
+            }
+            LocalDate reportDate = LocalDate.parse(key.substring(0, separator));
+            String id = key.substring(separator + 1);
+            return ScrollPosition.forward(Map.of("reportDate", reportDate, "id", id));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+        }
+    }
+}
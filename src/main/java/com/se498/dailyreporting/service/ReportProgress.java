@@ -0,0 +1,40 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Where a report stands, as pushed to live subscribers
+ * Each update carries the whole state, so a subscriber that misses intermediate updates loses nothing
+ *
+ * @param reportId Report this state belongs to
+ * @param status Report status
+ * @param progress Average progress of all activities
+ * @param complete Whether every activity is complete
+ * @param activityCount Number of activities
+ * @param completedActivityCount Number of complete activities
+ * @param updatedBy User who last changed the report
+ * @param updatedAt When the report last changed
+ */
+public record ReportProgress(String reportId,
+                             ReportStatus status,
+                             double progress,
+                             boolean complete,
+                             int activityCount,
+                             int completedActivityCount,
+                             String updatedBy,
+                             LocalDateTime updatedAt) {
+
+    /**
+     * Read the state of a report; loads its activities if they are not loaded yet
+     */
+    public static ReportProgress of(DailyReport report) {
+        int completed = (int) report.getActivities().stream().filter(ActivityEntry::isComplete).count();
+        return new ReportProgress(report.getId(), report.getStatus(), report.calculateProgress(),
+                report.isComplete(), report.getActivities().size(), completed, report.getUpdatedBy(),
+                report.getUpdatedAt());
+    }
+}
@@ -0,0 +1,94 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes report progress to open pages as it changes, so they do not have to poll
+ * Writers publish the report they changed; the state is only read when someone is watching that report,
+ * and only reaches subscribers once the write has committed
+ */
+@Slf4j
+@Component
+public class ReportProgressBus {
+
+    private final Sinks.Many<ReportProgress> sink = Sinks.many().multicast().directBestEffort();
+
+    // Open subscriptions per report
+    private final Map<String, Integer> watchers = new ConcurrentHashMap<>();
+
+    @Value("${reporting.live-progress.max-updates-per-second:2}")
+    private int maxUpdatesPerSecond;
+
+    public boolean isWatched(String reportId) {
+        return watchers.containsKey(reportId);
+    }
+
+    /**
+     * Publish the state of a report that the current transaction changed
+     */
+    public void publish(DailyReport report) {
+        if (!isWatched(report.getId())) {
+            return;
+        }
+        ReportProgress update = ReportProgress.of(report);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emit(update);
+                }
+            });
+        } else {
+            emit(update);
+        }
+    }
+
+    /**
+     * Follow a report, starting with its current state
+     * Changes are coalesced per subscriber: at most maxUpdatesPerSecond updates are sent, each the
+     * latest state at the time
+     *
+     * @param current Reads the current state, or returns null if there is none
+     */
+    public Flux<ReportProgress> watch(String reportId, Callable<ReportProgress> current) {
+        Duration window = Duration.ofMillis(1000 / Math.max(1, maxUpdatesPerSecond));
+        AtomicBoolean changed = new AtomicBoolean();
+
+        Flux<ReportProgress> changes = sink.asFlux()
+                .filter(update -> update.reportId().equals(reportId))
+                .doOnNext(update -> changed.set(true))
+                .sample(window);
+        // The current state is read after subscribing, and dropped if a newer change already arrived
+        Mono<ReportProgress> snapshot = Mono.fromCallable(current)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(update -> !changed.get());
+
+        return Flux.merge(changes, snapshot)
+                .doFirst(() -> watchers.merge(reportId, 1, Integer::sum))
+                .doFinally(signal -> watchers.computeIfPresent(reportId,
+                        (id, count) -> count > 1 ? count - 1 : null));
+    }
+
+    private synchronized void emit(ReportProgress update) {
+        // Emissions must not overlap; commits on different threads take turns here
+        Sinks.EmitResult result = sink.tryEmitNext(update);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("Could not publish progress for report {}: {}", update.reportId(), result);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.se498.dailyreporting.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A background purge of the reports dated within a range, as last seen
+ *
+ * @param id Purge ID, for looking up its progress
+ * @param startDate First report date to purge
+ * @param endDate Last report date to purge
+ * @param force Whether drafts and reports awaiting approval are purged too
+ * @param requestedBy User who asked for the purge
+ * @param state Where the purge stands
+ * @param purgedCount Reports deleted so far
+ * @param submittedAt When the purge was asked for
+ * @param finishedAt When the purge completed or failed; null until then
+ * @param error Why the purge failed; null unless it did
+ */
+public record ReportPurge(String id,
+                          LocalDate startDate,
+                          LocalDate endDate,
+                          boolean force,
+                          String requestedBy,
+                          State state,
+                          int purgedCount,
+                          LocalDateTime submittedAt,
+                          LocalDateTime finishedAt,
+                          String error) {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    static ReportPurge queued(String id, LocalDate startDate, LocalDate endDate, boolean force,
+                              String requestedBy) {
+        return new ReportPurge(id, startDate, endDate, force, requestedBy, State.QUEUED, 0, LocalDateTime.now(),
+                null, null);
+    }
+
+    ReportPurge running(int purged) {
+        return new ReportPurge(id, startDate, endDate, force, requestedBy, State.RUNNING, purged, submittedAt,
+                null, null);
+    }
+
+    ReportPurge completed() {
+        return new ReportPurge(id, startDate, endDate, force, requestedBy, State.COMPLETED, purgedCount,
+                submittedAt, LocalDateTime.now(), null);
+    }
+
+    ReportPurge failed(String reason) {
+        return new ReportPurge(id, startDate, endDate, force, requestedBy, State.FAILED, purgedCount,
+                submittedAt, LocalDateTime.now(), reason);
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+}
@@ -0,0 +1,117 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+/**
+ * Purges old reports by date range in the background
+ * Reports are deleted a batch at a time, each batch in its own short transaction followed by a pause,
+ * so a large purge never holds many locks at once and leaves room for interactive traffic.
+ * Purges run one at a time, in the order they were submitted
+ */
+@Slf4j
+@Component
+public class ReportPurgeJob {
+
+    private static final int MAX_RETAINED_PURGES = 100;
+
+    private final DailyReportingService reportingService;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("report-purge").factory());
+
+    // The most recent purges, so their progress can still be looked up once they finish
+    private final Map<String, ReportPurge> purges = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ReportPurge> eldest) {
+            return size() > MAX_RETAINED_PURGES;
+        }
+    });
+
+    public ReportPurgeJob(DailyReportingService reportingService,
+                          @Value("${reporting.purge.batch-size:500}") int batchSize,
+                          @Value("${reporting.purge.pause-ms:200}") long pauseMillis) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Purge batch size must be at least 1");
+        }
+        this.reportingService = reportingService;
+        this.batchSize = batchSize;
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    /**
+     * Queue a purge of the finished reports dated within a range
+     *
+     * @param force Also purge drafts and reports awaiting approval
+     * @throws IllegalArgumentException if a date is missing or the range is reversed
+     */
+    public ReportPurge submit(LocalDate startDate, LocalDate endDate, boolean force, String requestedBy) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("A date range with the start on or before the end is required");
+        }
+        ReportPurge purge = ReportPurge.queued(TimeOrderedId.next(), startDate, endDate, force, requestedBy);
+        purges.put(purge.id(), purge);
+        log.info("Queued purge {} of reports dated {} to {}", purge.id(), startDate, endDate);
+
+        executor.execute(() -> run(purge));
+        return purge;
+    }
+
+    public Optional<ReportPurge> find(String purgeId) {
+        return Optional.ofNullable(purges.get(purgeId));
+    }
+
+    private void run(ReportPurge purge) {
+        int purged = 0;
+        update(purge.id(), current -> current.running(0));
+        try {
+            List<String> batch;
+            do {
+                batch = reportingService.purgeReports(purge.startDate(), purge.endDate(), purge.force(), batchSize,
+                        purge.requestedBy());
+                purged += batch.size();
+                int total = purged;
+                update(purge.id(), current -> current.running(total));
+
+                // A full batch means there may be more; give other work the database before the next one
+                if (batch.size() == batchSize && pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            } while (batch.size() == batchSize);
+
+            update(purge.id(), ReportPurge::completed);
+            log.info("Purge {} deleted {} reports", purge.id(), purged);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            update(purge.id(), current -> current.failed("Interrupted"));
+            log.warn("Purge {} interrupted after {} reports", purge.id(), purged);
+        } catch (RuntimeException e) {
+            update(purge.id(), current -> current.failed(e.getMessage()));
+            log.error("Purge {} failed after {} reports", purge.id(), purged, e);
+        }
+    }
+
+    private void update(String purgeId, UnaryOperator<ReportPurge> change) {
+        purges.computeIfPresent(purgeId, (id, current) -> change.apply(current));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Batches already committed stay deleted; a purge can be submitted again to finish the range
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.repository.ProjectDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the dashboard rollups in step with the reports
+ * Each relayed batch recomputes the rows of the reports it names, once per report however many events it has,
+ * inside the relay's transaction: the rollups commit together with the stream positions, and a redelivered
+ * batch just recomputes the same rows
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportRollupSink implements ReportEventSink {
+
+    @Autowired
+    private final ProjectDailyRollupRepository rollupRepository;
+
+    @Override
+    public void publish(List<ReportEvent> events) {
+        Set<String> reportIds = new LinkedHashSet<>();
+        events.forEach(event -> reportIds.add(event.reportId()));
+        rollupRepository.refresh(reportIds, LocalDateTime.now());
+    }
+}
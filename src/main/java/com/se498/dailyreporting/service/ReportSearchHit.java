@@ -0,0 +1,31 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A report matching a search
+ *
+ * @param reportId Matching report
+ * @param projectId Project of the report
+ * @param reportDate Date of the report
+ * @param status Status of the report when it was last indexed
+ * @param score Relevance; higher is better
+ * @param highlights Best passage of each field that matched, with the matches marked
+ */
+public record ReportSearchHit(String reportId,
+                              String projectId,
+                              LocalDate reportDate,
+                              ReportStatus status,
+                              float score,
+                              List<Highlight> highlights) {
+
+    /**
+     * @param field Field the passage comes from: notes, description, category or personnel
+     * @param fragment HTML-escaped passage with each match wrapped in an em element
+     */
+    public record Highlight(String field, String fragment) {
+    }
+}
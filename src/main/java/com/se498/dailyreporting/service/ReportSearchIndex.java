@@ -0,0 +1,240 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded full-text index of reports, one Lucene document per report
+ * Covers report notes and the description, category and personnel of each activity. The index is kept in
+ * reporting.search.index-path, or in memory when that is empty. Changes become searchable when committed
+ */
+@Slf4j
+@Component
+public class ReportSearchIndex {
+
+    static final String ID = "id";
+    static final String PROJECT_ID = "projectId";
+    static final String REPORT_DATE = "reportDate";
+    static final String STATUS = "status";
+    static final String INDEXED_AT = "indexedAt";
+    static final String NOTES = "notes";
+    static final String DESCRIPTION = "description";
+    static final String CATEGORY = "category";
+    static final String PERSONNEL = "personnel";
+
+    private static final String[] SEARCH_FIELDS = {NOTES, DESCRIPTION, CATEGORY, PERSONNEL};
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * What is indexed of one report
+     *
+     * @param descriptions Activity descriptions
+     * @param categories Activity categories
+     * @param personnel Personnel across all activities
+     */
+    public record Entry(String reportId,
+                        String projectId,
+                        LocalDate reportDate,
+                        ReportStatus status,
+                        String notes,
+                        List<String> descriptions,
+                        List<String> categories,
+                        List<String> personnel) {
+    }
+
+    public ReportSearchIndex(@Value("${reporting.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Add or replace the documents of some reports; searchable after the next commit
+     */
+    public void put(Collection<Entry> entries) throws IOException {
+        long now = System.currentTimeMillis();
+        for (Entry entry : entries) {
+            writer.updateDocument(new Term(ID, entry.reportId()), toDocument(entry, now));
+        }
+    }
+
+    /**
+     * Remove the documents of some reports; searchable after the next commit
+     */
+    public void remove(Collection<String> reportIds) throws IOException {
+        for (String reportId : reportIds) {
+            writer.deleteDocuments(new Term(ID, reportId));
+        }
+    }
+
+    /**
+     * Remove every document last put before a point in time, i.e. reports a full reindex did not see
+     */
+    public void removePutBefore(long epochMillis) throws IOException {
+        writer.deleteDocuments(LongPoint.newRangeQuery(INDEXED_AT, Long.MIN_VALUE, epochMillis - 1));
+    }
+
+    /**
+     * Make changes durable and searchable
+     */
+    public void commit() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    public int size() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Find reports matching a query, most relevant first
+     * The query uses the classic Lucene syntax, with AND between terms; text that does not parse is
+     * searched for literally
+     *
+     * @param projectId Only search this project's reports; null searches all
+     * @throws IllegalArgumentException if the query cannot be searched for
+     */
+    public ReportSearchPage search(String text, String projectId, int page, int pageSize) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(parse(text), BooleanClause.Occur.MUST);
+        if (projectId != null && !projectId.isBlank()) {
+            builder.add(new TermQuery(new Term(PROJECT_ID, projectId)), BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int total = searcher.count(query);
+            int offset = (int) Math.min((long) page * pageSize, Integer.MAX_VALUE - pageSize);
+            ScoreDoc[] ranked = searcher.search(query, offset + pageSize).scoreDocs;
+            ScoreDoc[] hits = offset >= ranked.length
+                    ? new ScoreDoc[0]
+                    : Arrays.copyOfRange(ranked, offset, Math.min(ranked.length, offset + pageSize));
+            return new ReportSearchPage(toHits(searcher, query, hits), total, page, pageSize);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private Query parse(String text) {
+        // Parsers keep state, so each search gets its own
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(text);
+        } catch (ParseException e) {
+            try {
+                return parser.parse(QueryParser.escape(text));
+            } catch (ParseException escaped) {
+                throw new IllegalArgumentException("Invalid search query: " + text, escaped);
+            }
+        }
+    }
+
+    private List<ReportSearchHit> toHits(IndexSearcher searcher, Query query, ScoreDoc[] hits) throws IOException {
+        if (hits.length == 0) {
+            return List.of();
+        }
+        int[] docIds = Arrays.stream(hits).mapToInt(hit -> hit.doc).toArray();
+        int[] maxPassages = new int[SEARCH_FIELDS.length];
+        Arrays.fill(maxPassages, 1);
+
+        // Fields are re-analyzed from their stored values, which is cheap at a page of short texts
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withFormatter(new DefaultPassageFormatter("<em>", "</em>", "... ", true))
+                .withMaxNoHighlightPassages(0)
+                .build();
+        Map<String, String[]> passages = highlighter.highlightFields(SEARCH_FIELDS, query, docIds, maxPassages);
+
+        StoredFields storedFields = searcher.storedFields();
+        List<ReportSearchHit> results = new ArrayList<>(hits.length);
+        for (int i = 0; i < hits.length; i++) {
+            Document document = storedFields.document(hits[i].doc);
+            List<ReportSearchHit.Highlight> highlights = new ArrayList<>();
+            for (String field : SEARCH_FIELDS) {
+                String passage = passages.get(field)[i];
+                if (passage != null) {
+                    highlights.add(new ReportSearchHit.Highlight(field, passage));
+                }
+            }
+            results.add(new ReportSearchHit(document.get(ID), document.get(PROJECT_ID),
+                    LocalDate.parse(document.get(REPORT_DATE)), ReportStatus.valueOf(document.get(STATUS)),
+                    hits[i].score, highlights));
+        }
+        return results;
+    }
+
+    private static Document toDocument(Entry entry, long indexedAt) {
+        Document document = new Document();
+        document.add(new StringField(ID, entry.reportId(), Field.Store.YES));
+        document.add(new StringField(PROJECT_ID, entry.projectId(), Field.Store.YES));
+        document.add(new StringField(REPORT_DATE, entry.reportDate().toString(), Field.Store.YES));
+        document.add(new StringField(STATUS, entry.status().name(), Field.Store.YES));
+        document.add(new LongPoint(INDEXED_AT, indexedAt));
+        if (entry.notes() != null) {
+            document.add(new TextField(NOTES, entry.notes(), Field.Store.YES));
+        }
+        entry.descriptions().forEach(value -> document.add(new TextField(DESCRIPTION, value, Field.Store.YES)));
+        entry.categories().forEach(value -> document.add(new TextField(CATEGORY, value, Field.Store.YES)));
+        entry.personnel().forEach(value -> document.add(new TextField(PERSONNEL, value, Field.Store.YES)));
+        return document;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
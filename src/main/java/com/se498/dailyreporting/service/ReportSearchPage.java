@@ -0,0 +1,19 @@
+package com.se498.dailyreporting.service;
+
+import java.util.List;
+
+/**
+ * One page of search hits, most relevant first
+ * Relevance has no stable key to resume from, so pages are addressed by number
+ *
+ * @param hits Hits on this page
+ * @param totalHits Reports matching the search
+ * @param page Zero-based page number
+ * @param pageSize Hits per page
+ */
+public record ReportSearchPage(List<ReportSearchHit> hits, long totalHits, int page, int pageSize) {
+
+    public boolean hasNext() {
+        return (long) (page + 1) * pageSize < totalHits;
+    }
+}
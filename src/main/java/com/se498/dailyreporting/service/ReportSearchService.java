@@ -0,0 +1,233 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.ActivityRow;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import com.se498.dailyreporting.repository.PersonnelRow;
+import com.se498.dailyreporting.repository.ReportArchiveRepository;
+import com.se498.dailyreporting.repository.ReportRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Full-text search over report notes and activities, active and archived
+ * The index follows the reports through the event outbox (see ReportSearchSink), so a write becomes
+ * searchable once it has been relayed. A full reindex rebuilds it from the tables, in batches, in the background.
+ * Each batch is read and written under the same lock as the relayed updates, so a reindex batch read before
+ * a change can never overwrite the change's newer document
+ */
+@Slf4j
+@Service
+public class ReportSearchService {
+
+    private final ReportSearchIndex index;
+    private final DailyReportRepository reportRepository;
+    private final ActivityEntryRepository activityRepository;
+    private final ReportArchiveRepository archiveRepository;
+    private final int reindexBatchSize;
+    private final boolean reindexOnStartup;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("report-reindex").factory());
+    private final Object writeLock = new Object();
+
+    private CompletableFuture<Integer> runningReindex;
+
+    public ReportSearchService(ReportSearchIndex index,
+                               DailyReportRepository reportRepository,
+                               ActivityEntryRepository activityRepository,
+                               ReportArchiveRepository archiveRepository,
+                               @Value("${reporting.search.reindex-batch-size:500}") int reindexBatchSize,
+                               @Value("${reporting.search.reindex-on-startup:true}") boolean reindexOnStartup) {
+        if (reindexBatchSize < 1) {
+            throw new IllegalArgumentException("Reindex batch size must be at least 1");
+        }
+        this.index = index;
+        this.reportRepository = reportRepository;
+        this.activityRepository = activityRepository;
+        this.archiveRepository = archiveRepository;
+        this.reindexBatchSize = reindexBatchSize;
+        this.reindexOnStartup = reindexOnStartup;
+    }
+
+    /**
+     * Find reports whose notes or activities match a query, most relevant first
+     *
+     * @param projectId Only search this project's reports; null searches all
+     * @param page Zero-based page number
+     * @param pageSize Hits per page; zero or negative selects the default
+     * @throws IllegalArgumentException if the query is blank or invalid, or the page is negative
+     */
+    public ReportSearchPage search(String query, String projectId, int page, int pageSize) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        try {
+            return index.search(query, projectId, page, ReportPage.pageSize(pageSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not search reports", e);
+        }
+    }
+
+    /**
+     * Bring the index up to date for some reports; reports in neither the active nor the archive tables
+     * are removed from it
+     */
+    public void reindexReports(Collection<String> reportIds) throws IOException {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(reportIds));
+        synchronized (writeLock) {
+            List<ReportRow> reports = new ArrayList<>();
+            for (List<String> chunk : InClauseChunks.of(ids)) {
+                reports.addAll(reportRepository.findRowsByIdIn(chunk));
+            }
+            Set<String> removed = new LinkedHashSet<>(ids);
+            reports.forEach(report -> removed.remove(report.id()));
+
+            // Archiving shows up as a deletion from the active tables
+            List<ReportRow> archived = new ArrayList<>();
+            for (List<String> chunk : InClauseChunks.of(List.copyOf(removed))) {
+                archived.addAll(archiveRepository.findRowsByIdIn(chunk));
+            }
+            archived.forEach(report -> removed.remove(report.id()));
+
+            index.put(toEntries(reports, false));
+            index.put(toEntries(archived, true));
+            index.remove(removed);
+            index.commit();
+        }
+    }
+
+    /**
+     * Rebuild the whole index in the background; searches keep using the current index meanwhile
+     * A reindex already running is returned rather than started again
+     *
+     * @return Number of reports indexed, once done
+     */
+    public synchronized CompletableFuture<Integer> startReindex() {
+        if (runningReindex == null || runningReindex.isDone()) {
+            runningReindex = CompletableFuture.supplyAsync(this::reindexAll, executor);
+        }
+        return runningReindex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfEmpty() throws IOException {
+        if (reindexOnStartup && index.size() == 0) {
+            log.info("Search index is empty; reindexing all reports");
+            startReindex();
+        }
+    }
+
+    private int reindexAll() {
+        long started = System.currentTimeMillis();
+        int indexed = 0;
+        try {
+            indexed += reindexAll(false);
+            indexed += reindexAll(true);
+
+            // Whatever this pass did not put is gone from the tables
+            synchronized (writeLock) {
+                index.removePutBefore(started);
+                index.commit();
+            }
+        } catch (IOException e) {
+            log.error("Reindex failed after {} reports", indexed, e);
+            throw new UncheckedIOException(e);
+        }
+        log.info("Reindexed {} reports in {} ms", indexed, System.currentTimeMillis() - started);
+        return indexed;
+    }
+
+    /**
+     * Put every active or every archived report, a batch at a time
+     */
+    private int reindexAll(boolean archived) throws IOException {
+        int indexed = 0;
+        String after = "";
+        List<ReportRow> batch;
+        do {
+            synchronized (writeLock) {
+                batch = archived
+                        ? archiveRepository.findRowsByIdGreaterThan(after, reindexBatchSize)
+                        : reportRepository.findRowsByIdGreaterThan(after, Limit.of(reindexBatchSize));
+                index.put(toEntries(batch, archived));
+            }
+            indexed += batch.size();
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == reindexBatchSize);
+        return indexed;
+    }
+
+    /**
+     * Attach activities and personnel to report rows with one query per table and chunk
+     *
+     * @param archived Read the activities from the archive tables
+     */
+    private List<ReportSearchIndex.Entry> toEntries(List<ReportRow> reports, boolean archived) {
+        List<ActivityRow> activities = new ArrayList<>();
+        for (List<String> chunk : InClauseChunks.of(reports.stream().map(ReportRow::id).toList())) {
+            activities.addAll(archived
+                    ? archiveRepository.findActivityRowsByReportIdIn(chunk)
+                    : activityRepository.findRowsByReportIdIn(chunk));
+        }
+
+        Map<String, Set<String>> personnel = new HashMap<>();
+        for (List<String> chunk : InClauseChunks.of(activities.stream().map(ActivityRow::id).toList())) {
+            List<PersonnelRow> rows = archived
+                    ? archiveRepository.findPersonnelRowsByActivityIdIn(chunk)
+                    : activityRepository.findPersonnelRowsByActivityIdIn(chunk);
+            rows.forEach(row ->
+                    personnel.computeIfAbsent(row.activityId(), id -> new HashSet<>()).add(row.personnelId()));
+        }
+
+        Map<String, List<ActivityRow>> activitiesByReport = new HashMap<>();
+        activities.forEach(activity ->
+                activitiesByReport.computeIfAbsent(activity.reportId(), id -> new ArrayList<>()).add(activity));
+
+        List<ReportSearchIndex.Entry> entries = new ArrayList<>(reports.size());
+        for (ReportRow report : reports) {
+            List<ActivityRow> reportActivities = activitiesByReport.getOrDefault(report.id(), List.of());
+            Set<String> reportPersonnel = new TreeSet<>();
+            reportActivities.forEach(activity ->
+                    reportPersonnel.addAll(personnel.getOrDefault(activity.id(), Set.of())));
+
+            entries.add(new ReportSearchIndex.Entry(report.id(), report.projectId(), report.reportDate(),
+                    report.status(), report.notes(),
+                    reportActivities.stream().map(ActivityRow::description).filter(value -> value != null).toList(),
+                    reportActivities.stream().map(ActivityRow::category).filter(value -> value != null)
+                            .distinct().toList(),
+                    List.copyOf(reportPersonnel)));
+        }
+        return entries;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // An interrupted reindex leaves the index as it was plus whatever it had put; it can simply be run again
+        executor.shutdownNow();
+    }
+}
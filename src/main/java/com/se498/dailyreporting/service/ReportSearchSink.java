@@ -0,0 +1,37 @@
+package com.se498.dailyreporting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the search index in step with the reports
+ * Each relayed batch reindexes the reports it names, once per report however many events it has. The index is
+ * not part of the relay's transaction, so a failure to write it is logged rather than holding up every other
+ * sink; a reindex repairs anything missed
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportSearchSink implements ReportEventSink {
+
+    @Autowired
+    private final ReportSearchService searchService;
+
+    @Override
+    public void publish(List<ReportEvent> events) {
+        Set<String> reportIds = new LinkedHashSet<>();
+        events.forEach(event -> reportIds.add(event.reportId()));
+        try {
+            searchService.reindexReports(reportIds);
+        } catch (IOException e) {
+            log.error("Could not update the search index for {} reports", reportIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+
+import java.util.List;
+
+/**
+ * A report with its activities and analytics, read in one round trip
+ *
+ * @param report The report, with its activities loaded
+ * @param progress Average progress of all activities
+ * @param complete Whether every activity is complete
+ * @param totalDurationMinutes Sum of activity durations in whole minutes
+ */
+public record ReportSummary(DailyReport report, double progress, boolean complete, long totalDurationMinutes) {
+
+    /**
+     * Build a summary from a report whose activities are already loaded
+     */
+    public static ReportSummary of(DailyReport report) {
+        long totalDurationMinutes = report.getActivities().stream()
+                .mapToLong(activity -> activity.calculateDuration().toMinutes())
+                .sum();
+        return new ReportSummary(report, report.calculateProgress(), report.isComplete(), totalDurationMinutes);
+    }
+
+    public List<ActivityEntry> activities() {
+        return report.getActivities();
+    }
+
+    public int activityCount() {
+        return report.getActivities().size();
+    }
+}
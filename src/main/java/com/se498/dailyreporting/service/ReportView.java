@@ -0,0 +1,31 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.repository.ReportRow;
+
+import java.util.List;
+
+/**
+ * Read-only report assembled from projection rows, for list responses that never modify it
+ *
+ * @param report The report's columns
+ * @param activities The report's activities
+ */
+public record ReportView(ReportRow report, List<ActivityView> activities) {
+
+    /**
+     * Same rules as DailyReport.calculateProgress
+     */
+    public double progress() {
+        return activities.stream()
+                .mapToDouble(activity -> activity.activity().progress())
+                .average()
+                .orElse(0.0);
+    }
+
+    /**
+     * Same rules as DailyReport.isComplete
+     */
+    public boolean complete() {
+        return !activities.isEmpty() && activities.stream().allMatch(activity -> activity.activity().complete());
+    }
+}
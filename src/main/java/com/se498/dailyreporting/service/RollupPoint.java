@@ -0,0 +1,49 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.ProjectDailyRollup;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard totals of a project for one period
+ *
+ * @param periodStart First day of the period
+ * @param reportCount Reports dated within the period
+ * @param reportsByStatus Reports in each status; statuses without reports are left out
+ * @param activityCount Activities of those reports
+ * @param completedActivityCount Activities with status COMPLETED or progress of 100%
+ * @param averageProgress Average of the reports' progress
+ * @param activityHours Total activity duration in hours
+ */
+public record RollupPoint(LocalDate periodStart,
+                          int reportCount,
+                          Map<ReportStatus, Integer> reportsByStatus,
+                          int activityCount,
+                          int completedActivityCount,
+                          double averageProgress,
+                          double activityHours) {
+
+    /**
+     * Add up the rollup rows of one period; rows must not be empty
+     */
+    public static RollupPoint of(LocalDate periodStart, List<ProjectDailyRollup> rows) {
+        Map<ReportStatus, Integer> reportsByStatus = new EnumMap<>(ReportStatus.class);
+        int activities = 0;
+        int completed = 0;
+        double progress = 0.0;
+        long minutes = 0;
+        for (ProjectDailyRollup row : rows) {
+            reportsByStatus.merge(row.getStatus(), 1, Integer::sum);
+            activities += row.getActivityCount();
+            completed += row.getCompletedActivityCount();
+            progress += row.calculateProgress();
+            minutes += row.getActivityMinutes();
+        }
+        return new RollupPoint(periodStart, rows.size(), reportsByStatus, activities, completed,
+                progress / rows.size(), minutes / 60.0);
+    }
+}
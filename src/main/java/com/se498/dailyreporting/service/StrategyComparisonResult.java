@@ -0,0 +1,75 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.WeatherRecord;
+import com.se498.dailyreporting.service.WeatherStrategyFactory.StrategyType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Structured comparison of the assessments every strategy gives for the same weather record
+ * The human-readable comparison is rendered on demand via {@link #toText()}
+ *
+ * @param location Location the weather record belongs to
+ * @param outcomes One outcome per strategy, in {@link StrategyType} order
+ */
+public record StrategyComparisonResult(String location, List<StrategyOutcome> outcomes) {
+
+    /**
+     * Assessment produced by a single strategy
+     */
+    public record StrategyOutcome(
+            StrategyType strategyType,
+            String strategyName,
+            boolean dangerous,
+            boolean goodForOutdoor,
+            int comfortRating) {
+    }
+
+    /**
+     * Assesses the weather record with every available strategy
+     * @param record The weather record to assess
+     * @return The structured comparison
+     */
+    public static StrategyComparisonResult of(WeatherRecord record) {
+        StrategyType[] strategyTypes = StrategyType.values();
+        List<StrategyOutcome> outcomes = new ArrayList<>(strategyTypes.length);
+        for (StrategyType type : strategyTypes) {
+            WeatherAssessmentStrategy strategy = WeatherStrategyFactory.createStrategy(type);
+            outcomes.add(new StrategyOutcome(
+                    type,
+                    strategy.getStrategyName(),
+                    strategy.isDangerous(record),
+                    strategy.isGoodForOutdoor(record),
+                    strategy.getComfortRating(record)));
+        }
+        return new StrategyComparisonResult(String.valueOf(record.getLocation()), List.copyOf(outcomes));
+    }
+
+    /**
+     * Renders the comparison as the human-readable strategy comparison report
+     * @return The formatted comparison
+     */
+    public String toText() {
+        StringBuilder result = new StringBuilder(256);
+        result.append("STRATEGY COMPARISON\n");
+        result.append("===================\n");
+
+        // Compare comfort ratings
+        result.append("Comfort Ratings:\n");
+        for (StrategyOutcome outcome : outcomes) {
+            result.append("- ").append(outcome.strategyName())
+                    .append(": ").append(outcome.comfortRating()).append("/10\n");
+        }
+        result.append("\n");
+
+        // Compare danger assessments
+        result.append("Danger Assessments:\n");
+        for (StrategyOutcome outcome : outcomes) {
+            result.append("- ").append(outcome.strategyName())
+                    .append(": ").append(outcome.dangerous() ? "DANGEROUS" : "Safe").append("\n");
+        }
+
+        return result.toString();
+    }
+}
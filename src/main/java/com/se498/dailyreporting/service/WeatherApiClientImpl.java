@@ -6,6 +6,8 @@ import com.se498.dailyreporting.dto.weather.WeatherData;
 import com.se498.dailyreporting.dto.weather.WeatherInfo;
 import com.se498.dailyreporting.dto.weather.WeatherMain;
 import com.se498.dailyreporting.exception.WeatherApiException;
+import com.se498.dailyreporting.service.converter.MeasurementUnit;
+import com.se498.dailyreporting.service.converter.UnitConversionGraph;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Implementation of the WeatherApiClient interface that fetches data from OpenWeatherMap
@@ -28,6 +31,18 @@ import java.time.ZoneId;
 @RequiredArgsConstructor
 public class WeatherApiClientImpl implements WeatherApiClient {
 
+    // Unit conversions, precomputed once by the conversion graph
+    private static final DoubleUnaryOperator KELVIN_TO_FAHRENHEIT =
+            UnitConversionGraph.getInstance().operator(MeasurementUnit.KELVIN, MeasurementUnit.FAHRENHEIT);
+    private static final DoubleUnaryOperator CELSIUS_TO_FAHRENHEIT =
+            UnitConversionGraph.getInstance().operator(MeasurementUnit.CELSIUS, MeasurementUnit.FAHRENHEIT);
+    private static final DoubleUnaryOperator MPS_TO_MPH =
+            UnitConversionGraph.getInstance().operator(MeasurementUnit.METERS_PER_SECOND, MeasurementUnit.MILES_PER_HOUR);
+    private static final DoubleUnaryOperator HPA_TO_INHG =
+            UnitConversionGraph.getInstance().operator(MeasurementUnit.HECTOPASCALS, MeasurementUnit.INCHES_OF_MERCURY);
+    private static final DoubleUnaryOperator METERS_TO_MILES =
+            UnitConversionGraph.getInstance().operator(MeasurementUnit.METERS, MeasurementUnit.MILES);
+
     private final WebClient webClient;
 
     @Value("${weather.api.url}")
@@ -223,7 +238,7 @@ public class WeatherApiClientImpl implements WeatherApiClient {
         Double visibilityMiles = null;
         if (currentData.getVisibility() != null && currentData.getVisibility() > 0) {
             // Convert visibility from meters to miles
-            visibilityMiles = currentData.getVisibility() / 1609.34;
+            visibilityMiles = METERS_TO_MILES.applyAsDouble(currentData.getVisibility());
         }
 
         // Convert timestamp to LocalDateTime
@@ -269,19 +284,19 @@ public class WeatherApiClientImpl implements WeatherApiClient {
     /* Unit Conversion Helpers */
 
     private double kelvinToFahrenheit(double kelvin) {
-        return (kelvin - 273.15) * 9/5 + 32;
+        return KELVIN_TO_FAHRENHEIT.applyAsDouble(kelvin);
     }
 
     private double celsiusToFahrenheit(double celsius) {
-        return celsius * 9/5 + 32;
+        return CELSIUS_TO_FAHRENHEIT.applyAsDouble(celsius);
     }
 
     private double mpsToMph(double mps) {
-        return mps * 2.23694;
+        return MPS_TO_MPH.applyAsDouble(mps);
     }
 
     private Double convertPressureToInHg(Integer hPa) {
         if (hPa == null) return null;
-        return hPa * 0.02953;
+        return HPA_TO_INHG.applyAsDouble(hPa);
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.WeatherRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous command bus for weather service commands
+ * Runs commands on virtual threads, bounded by a fixed number of concurrently
+ * executing commands, and records per-command latency histograms
+ */
+@Slf4j
+@Component
+public class WeatherCommandBus {
+
+    public static final String LATENCY_METRIC = "weather.command.latency";
+
+    private final ExecutorService virtualThreads;
+    private final Semaphore permits;
+    private final Executor boundedExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    public WeatherCommandBus(MeterRegistry meterRegistry,
+                             @Value("${weather.commands.max-concurrency:64}") int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrency);
+        this.virtualThreads = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("weather-command-", 0).factory());
+
+        // Each task waits for a permit on its own virtual thread, so submitters never block
+        this.boundedExecutor = task -> virtualThreads.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Submits a single command for asynchronous execution
+     * @param command The command to execute
+     * @return Future holding the result of the command
+     */
+    public CompletableFuture<String> submit(WeatherServiceCommand command) {
+        return timed(command.getClass(), () -> command.executeAsync(boundedExecutor));
+    }
+
+    /**
+     * Runs a comprehensive assessment with its sub-assessments executing in parallel
+     * Latency is recorded for the assessment as a whole and for each sub-assessment
+     * @param command The assessment to run
+     * @return Future holding the structured assessment
+     */
+    public CompletableFuture<AssessmentResult> assess(GetComprehensiveAssessmentCommand command) {
+        return timed(command.getClass(), () -> command.assessAsync(this));
+    }
+
+    /**
+     * Runs one step of a composite command as a command of its own
+     * @param commandType The command the step stands for; its latency is recorded under this name
+     * @param work The step to run
+     * @return Future holding the result of the step
+     */
+    public <T> CompletableFuture<T> supply(Class<? extends WeatherServiceCommand> commandType, Supplier<T> work) {
+        return timed(commandType, () -> CompletableFuture.supplyAsync(work, boundedExecutor));
+    }
+
+    /**
+     * Submits a group of commands; they execute independently of each other
+     * @param commands The commands to execute
+     * @return Future completing with the results in submission order
+     */
+    public CompletableFuture<List<String>> submitAll(Collection<? extends WeatherServiceCommand> commands) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(commands.size());
+        for (WeatherServiceCommand command : commands) {
+            futures.add(submit(command));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<String> results = new ArrayList<>(futures.size());
+                    for (CompletableFuture<String> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * Builds one command per weather record and executes the whole batch
+     * @param records The weather records to assess
+     * @param commandFactory Creates the command for a record
+     * @return Future completing with one result per record, in record order
+     */
+    public CompletableFuture<List<String>> submitBatch(Collection<WeatherRecord> records,
+                                                       Function<WeatherRecord, ? extends WeatherServiceCommand> commandFactory) {
+        List<WeatherServiceCommand> commands = new ArrayList<>(records.size());
+        for (WeatherRecord record : records) {
+            commands.add(commandFactory.apply(record));
+        }
+        return submitAll(commands);
+    }
+
+    /**
+     * Number of commands that may start executing right now
+     * @return Available execution permits
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualThreads.shutdown();
+    }
+
+    private <T> CompletableFuture<T> timed(Class<?> commandType, Supplier<CompletableFuture<T>> execution) {
+        Timer timer = timerFor(commandType);
+        long start = System.nanoTime();
+
+        CompletableFuture<T> result;
+        try {
+            result = execution.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result.whenComplete((value, error) -> {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (error != null) {
+                log.warn("Weather command {} failed: {}", commandType.getSimpleName(), error.getMessage());
+            }
+        });
+    }
+
+    private Timer timerFor(Class<?> commandType) {
+        return timers.computeIfAbsent(commandType, type -> Timer.builder(LATENCY_METRIC)
+                .description("Latency of asynchronously executed weather commands")
+                .tag("command", type.getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -1,5 +1,8 @@
 package com.se498.dailyreporting.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Command interface for weather service operations
  * Implements the Command pattern
@@ -10,4 +13,14 @@ public interface WeatherServiceCommand {
      * @return Result of the command execution
      */
     String execute();
-}
\ No newline at end of file
+
+    /**
+     * Executes the weather service command asynchronously
+     * Composite commands override this to run their independent parts in parallel
+     * @param executor Executor to run the command on
+     * @return Future holding the result of the command execution
+     */
+    default CompletableFuture<String> executeAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::execute, executor);
+    }
+}
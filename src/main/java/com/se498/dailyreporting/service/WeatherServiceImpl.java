@@ -137,32 +137,15 @@ public class WeatherServiceImpl implements WeatherService {
      * @return A comparison of assessments from different strategies
      */
     public String compareStrategies(WeatherRecord record) {
-        StringBuilder result = new StringBuilder();
-        result.append("STRATEGY COMPARISON\n");
-        result.append("===================\n");
-
-        // Get all strategy types
-        StrategyType[] strategyTypes = StrategyType.values();
-
-        // Compare comfort ratings
-        result.append("Comfort Ratings:\n");
-        for (StrategyType type : strategyTypes) {
-            int rating = getComfortRating(record, type);
-            WeatherAssessmentStrategy strategy = WeatherStrategyFactory.createStrategy(type);
-            result.append("- ").append(strategy.getStrategyName())
-                    .append(": ").append(rating).append("/10\n");
-        }
-        result.append("\n");
-
-        // Compare danger assessments
-        result.append("Danger Assessments:\n");
-        for (StrategyType type : strategyTypes) {
-            boolean isDangerous = isDangerous(record, type);
-            WeatherAssessmentStrategy strategy = WeatherStrategyFactory.createStrategy(type);
-            result.append("- ").append(strategy.getStrategyName())
-                    .append(": ").append(isDangerous ? "DANGEROUS" : "Safe").append("\n");
-        }
+        return compareStrategiesStructured(record).toText();
+    }
 
-        return result.toString();
+    /**
+     * Compares assessment results across different strategies without rendering text
+     * @param record The weather record to assess
+     * @return The structured comparison, one outcome per strategy
+     */
+    public StrategyComparisonResult compareStrategiesStructured(WeatherRecord record) {
+        return StrategyComparisonResult.of(record);
     }
-}
\ No newline at end of file
+}
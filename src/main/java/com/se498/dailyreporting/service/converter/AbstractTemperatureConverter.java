@@ -8,12 +8,15 @@ import java.util.Map;
  */
 public abstract class AbstractTemperatureConverter {
 
+    // Strategies are stateless, so a single default instance is shared
+    private static final ConversionStrategy DEFAULT_STRATEGY = new CelsiusToFahrenheitStrategy();
+
     /**
      * Get the default conversion strategy (Celsius to Fahrenheit)
      * @return Default conversion strategy
      */
     protected ConversionStrategy getDefaultStrategy() {
-        return new CelsiusToFahrenheitStrategy();
+        return DEFAULT_STRATEGY;
     }
 
     /**
@@ -0,0 +1,135 @@
+package com.se498.dailyreporting.service.converter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses and formats doubles directly on ASCII byte buffers
+ * Avoids creating a String per value when reading or writing large numeric exports
+ */
+public final class AsciiDoubleCodec {
+
+    /**
+     * Longest text produced by {@link #format}, e.g. "-1.7976931348623157E308"
+     */
+    public static final int MAX_FORMATTED_LENGTH = 32;
+
+    // Powers of ten that are exactly representable as doubles
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private AsciiDoubleCodec() {
+    }
+
+    /**
+     * Parse a decimal number from a byte range
+     * Plain decimals with up to 15 significant digits are converted exactly without allocation;
+     * anything else (exponents, NaN, very long mantissas) falls back to {@link Double#parseDouble}
+     * @param buffer Buffer holding the ASCII text
+     * @param start Index of the first byte of the number
+     * @param end Index one past the last byte of the number
+     * @return Parsed value
+     * @throws NumberFormatException if the range does not hold a number
+     */
+    public static double parse(byte[] buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean seenDigit = false;
+        boolean seenDot = false;
+        for (; i < end; i++) {
+            byte c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (mantissa >= MAX_EXACT_MANTISSA / 10) {
+                    return parseSlow(buffer, start, end);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (seenDot) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                return parseSlow(buffer, start, end);
+            }
+        }
+
+        if (!seenDigit || fractionDigits >= EXACT_POWERS_OF_TEN.length) {
+            return parseSlow(buffer, start, end);
+        }
+
+        // Both operands are exact, so a single division is correctly rounded
+        double value = fractionDigits == 0 ? mantissa : mantissa / EXACT_POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Format a double the way {@link Double#toString(double)} does, writing ASCII bytes
+     * Values with at most two decimals take an allocation-free fixed-point path
+     * @param value Value to format
+     * @param scratch Reusable builder, cleared before use
+     * @param destination Buffer to write into; needs {@link #MAX_FORMATTED_LENGTH} free bytes
+     * @param position Index to start writing at
+     * @return Index one past the last byte written
+     */
+    public static int format(double value, StringBuilder scratch, byte[] destination, int position) {
+        double magnitude = Math.abs(value);
+        if (magnitude >= 1e-3 && magnitude < 1e7) {
+            // Values with at most two decimals (e.g. rounded readings) are written as fixed point,
+            // which is exactly what Double.toString produces for them in this range
+            long hundredths = Math.round(magnitude * 100);
+            if (hundredths / 100.0 == magnitude) {
+                return formatHundredths(value < 0, hundredths, destination, position);
+            }
+        }
+
+        scratch.setLength(0);
+        scratch.append(value);
+        int length = scratch.length();
+        for (int i = 0; i < length; i++) {
+            destination[position++] = (byte) scratch.charAt(i);
+        }
+        return position;
+    }
+
+    private static int formatHundredths(boolean negative, long hundredths, byte[] destination, int position) {
+        if (negative) {
+            destination[position++] = '-';
+        }
+        long whole = hundredths / 100;
+        int fraction = (int) (hundredths % 100);
+
+        // Write the integer digits back to front, then shift them into place
+        int start = position;
+        do {
+            destination[position++] = (byte) ('0' + whole % 10);
+            whole /= 10;
+        } while (whole > 0);
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte digit = destination[i];
+            destination[i] = destination[j];
+            destination[j] = digit;
+        }
+
+        destination[position++] = '.';
+        destination[position++] = (byte) ('0' + fraction / 10);
+        if (fraction % 10 != 0) {
+            destination[position++] = (byte) ('0' + fraction % 10);
+        }
+        return position;
+    }
+
+    private static double parseSlow(byte[] buffer, int start, int end) {
+        return Double.parseDouble(new String(buffer, start, end - start, StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,198 @@
+package com.se498.dailyreporting.service.converter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+/**
+ * Converts large batches of temperature readings with any strategy from {@link ConversionStrategyFactory}
+ * Values are converted in place in fixed-size primitive chunks, so memory use does not grow with the
+ * input and no per-value command or boxed Double is created
+ */
+@Slf4j
+@Service
+public class BulkTemperatureConversionService {
+
+    /**
+     * Number of values converted per chunk
+     */
+    static final int CHUNK_SIZE = 8192;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    /**
+     * Resolve a strategy by name, falling back to Celsius to Fahrenheit when no name is given
+     * @param strategyName Name of the strategy, as listed by the factory
+     * @return The strategy
+     * @throws IllegalArgumentException if the strategy is unknown
+     */
+    public ConversionStrategy resolveStrategy(String strategyName) {
+        if (!StringUtils.hasText(strategyName)) {
+            return ConversionStrategyFactory.getStrategy("celsius to fahrenheit");
+        }
+        ConversionStrategy strategy = ConversionStrategyFactory.getStrategy(strategyName);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown conversion strategy: " + strategyName);
+        }
+        return strategy;
+    }
+
+    /**
+     * Convert an array of values in place
+     * @param values Values to convert; overwritten with the results
+     * @param strategyName Name of the conversion strategy
+     * @return The same array, holding the converted values
+     */
+    public double[] convertInPlace(double[] values, String strategyName) {
+        resolveStrategy(strategyName).convertInPlace(values, 0, values.length);
+        return values;
+    }
+
+    /**
+     * Stream-convert a CSV body
+     * Values may be separated by commas, semicolons, tabs or spaces; rows are kept, and the output
+     * holds the converted values comma-separated with one line per input row
+     * @param in CSV input
+     * @param out Destination for the converted CSV
+     * @param strategyName Name of the conversion strategy
+     * @return Number of values converted
+     * @throws IllegalArgumentException if a field is not a number
+     */
+    public long convertCsv(InputStream in, OutputStream out, String strategyName) throws IOException {
+        ConversionStrategy strategy = resolveStrategy(strategyName);
+        CsvChunkWriter writer = new CsvChunkWriter(out, strategy);
+
+        byte[] input = new byte[IO_BUFFER_SIZE];
+        byte[] token = new byte[MAX_TOKEN_LENGTH];
+        int tokenLength = 0;
+        boolean lineBreakPending = false;
+
+        int read;
+        while ((read = in.read(input)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte b = input[i];
+                if (b == ',' || b == ';' || b == '\t' || b == ' ' || b == '\r' || b == '\n') {
+                    if (tokenLength > 0) {
+                        writer.add(AsciiDoubleCodec.parse(token, 0, tokenLength), lineBreakPending);
+                        tokenLength = 0;
+                        lineBreakPending = false;
+                    }
+                    if (b == '\n') {
+                        lineBreakPending = true;
+                    }
+                } else {
+                    if (tokenLength == MAX_TOKEN_LENGTH) {
+                        throw new IllegalArgumentException("CSV field exceeds " + MAX_TOKEN_LENGTH + " characters");
+                    }
+                    token[tokenLength++] = b;
+                }
+            }
+        }
+        if (tokenLength > 0) {
+            writer.add(AsciiDoubleCodec.parse(token, 0, tokenLength), lineBreakPending);
+        }
+
+        long converted = writer.finish();
+        log.debug("Converted {} CSV values using {}", converted, strategy.getDescription());
+        return converted;
+    }
+
+    /**
+     * Stream-convert a binary body of big-endian IEEE 754 doubles, as written by DataOutputStream
+     * @param in Binary input
+     * @param out Destination for the converted doubles, in the same encoding
+     * @param strategyName Name of the conversion strategy
+     * @return Number of values converted
+     * @throws IllegalArgumentException if the input length is not a multiple of 8 bytes
+     */
+    public long convertBinary(InputStream in, OutputStream out, String strategyName) throws IOException {
+        ConversionStrategy strategy = resolveStrategy(strategyName);
+
+        byte[] bytes = new byte[CHUNK_SIZE * Double.BYTES];
+        double[] values = new double[CHUNK_SIZE];
+        DoubleBuffer doubles = ByteBuffer.wrap(bytes).asDoubleBuffer();
+        long converted = 0;
+
+        int read;
+        while ((read = in.readNBytes(bytes, 0, bytes.length)) > 0) {
+            if (read % Double.BYTES != 0) {
+                throw new IllegalArgumentException("Binary body length must be a multiple of " + Double.BYTES + " bytes");
+            }
+            int count = read / Double.BYTES;
+
+            doubles.clear();
+            doubles.get(values, 0, count);
+            strategy.convertInPlace(values, 0, count);
+            doubles.clear();
+            doubles.put(values, 0, count);
+
+            out.write(bytes, 0, read);
+            converted += count;
+        }
+        out.flush();
+
+        log.debug("Converted {} binary values using {}", converted, strategy.getDescription());
+        return converted;
+    }
+
+    /**
+     * Collects parsed CSV values into a chunk, converts the chunk in place and writes it out
+     */
+    private static final class CsvChunkWriter {
+        private final OutputStream out;
+        private final ConversionStrategy strategy;
+        private final double[] values = new double[CHUNK_SIZE];
+        private final boolean[] startsRow = new boolean[CHUNK_SIZE];
+        private final byte[] output = new byte[IO_BUFFER_SIZE];
+        private final StringBuilder scratch = new StringBuilder(AsciiDoubleCodec.MAX_FORMATTED_LENGTH);
+        private int count;
+        private int position;
+        private long written;
+
+        CsvChunkWriter(OutputStream out, ConversionStrategy strategy) {
+            this.out = out;
+            this.strategy = strategy;
+        }
+
+        void add(double value, boolean newRow) throws IOException {
+            values[count] = value;
+            startsRow[count] = newRow;
+            if (++count == CHUNK_SIZE) {
+                flushChunk();
+            }
+        }
+
+        long finish() throws IOException {
+            flushChunk();
+            if (written > 0) {
+                output[position++] = '\n';
+            }
+            out.write(output, 0, position);
+            out.flush();
+            return written;
+        }
+
+        private void flushChunk() throws IOException {
+            strategy.convertInPlace(values, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (output.length - position < AsciiDoubleCodec.MAX_FORMATTED_LENGTH + 1) {
+                    out.write(output, 0, position);
+                    position = 0;
+                }
+                if (written > 0) {
+                    output[position++] = startsRow[i] ? (byte) '\n' : (byte) ',';
+                }
+                position = AsciiDoubleCodec.format(values[i], scratch, output, position);
+                written++;
+            }
+            count = 0;
+        }
+    }
+}
@@ -9,6 +9,13 @@ public class CelsiusToFahrenheitStrategy implements ConversionStrategy {
         return celsius * 9/5 + 32;
     }
 
+    @Override
+    public void convertInPlace(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = values[i] * 9/5 + 32;
+        }
+    }
+
     @Override
     public String getDescription() {
         return "Celsius to Fahrenheit";
@@ -9,6 +9,13 @@ public class CelsiusToKelvinStrategy implements ConversionStrategy {
         return celsius + 273.15;
     }
 
+    @Override
+    public void convertInPlace(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = values[i] + 273.15;
+        }
+    }
+
     @Override
     public String getDescription() {
         return "Celsius to Kelvin";
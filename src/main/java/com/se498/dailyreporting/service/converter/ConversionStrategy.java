@@ -11,6 +11,19 @@ public interface ConversionStrategy {
      */
     Double convert(double value);
 
+    /**
+     * Convert a range of values in place
+     * Implementations should override this with a primitive loop; the default boxes every value
+     * @param values Values to convert
+     * @param from Index of the first value to convert
+     * @param to Index one past the last value to convert
+     */
+    default void convertInPlace(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = convert(values[i]);
+        }
+    }
+
     /**
      * Get the description of this conversion strategy
      * @return Strategy description
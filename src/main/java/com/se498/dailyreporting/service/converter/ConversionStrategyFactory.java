@@ -2,26 +2,74 @@ package com.se498.dailyreporting.service.converter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory for creating and managing conversion strategies
+ * Besides the named strategies, any pair of units connected in the {@link UnitConversionGraph}
+ * can be looked up, either by enum or by a name such as "Fahrenheit to Rankine"
  */
 public class ConversionStrategyFactory {
     private static final Map<String, ConversionStrategy> strategies = new HashMap<>();
 
+    // Case-insensitive view of the named strategies, so lookups do not need to lowercase the key
+    private static final Map<String, ConversionStrategy> strategiesIgnoringCase =
+            new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    // Unit pair strategies, indexed by unit ordinal
+    private static final ConversionStrategy[][] unitStrategies =
+            new ConversionStrategy[MeasurementUnit.values().length][MeasurementUnit.values().length];
+
+    // Unit pair names already resolved once
+    private static final Map<String, ConversionStrategy> resolvedNames = new ConcurrentHashMap<>();
+
+    private static final String NAME_SEPARATOR = " to ";
+    private static final int MAX_RESOLVED_NAMES = 256;
+
     // Initialize available strategies
     static {
         strategies.put("celsius to fahrenheit", new CelsiusToFahrenheitStrategy());
         strategies.put("celsius to kelvin", new CelsiusToKelvinStrategy());
+        strategiesIgnoringCase.putAll(strategies);
+
+        UnitConversionGraph graph = UnitConversionGraph.getInstance();
+        for (MeasurementUnit from : MeasurementUnit.values()) {
+            for (MeasurementUnit to : MeasurementUnit.values()) {
+                if (graph.canConvert(from, to)) {
+                    unitStrategies[from.ordinal()][to.ordinal()] = new UnitConversionStrategy(from, to);
+                }
+            }
+        }
     }
 
     /**
      * Get a strategy by name
-     * @param strategyType Name of the strategy
+     * @param strategyType Name of the strategy, either a named strategy or "&lt;unit&gt; to &lt;unit&gt;"
      * @return The strategy, or null if not found
      */
     public static ConversionStrategy getStrategy(String strategyType) {
-        return strategies.get(strategyType.toLowerCase());
+        ConversionStrategy strategy = strategies.get(strategyType);
+        if (strategy == null) {
+            strategy = strategiesIgnoringCase.get(strategyType);
+        }
+        if (strategy == null) {
+            strategy = resolvedNames.get(strategyType);
+        }
+        if (strategy == null) {
+            strategy = resolveUnitPair(strategyType);
+        }
+        return strategy;
+    }
+
+    /**
+     * Get the strategy converting between two units
+     * @param from Source unit
+     * @param to Target unit
+     * @return The strategy, or null if the units cannot be converted into each other
+     */
+    public static ConversionStrategy getStrategy(MeasurementUnit from, MeasurementUnit to) {
+        return unitStrategies[from.ordinal()][to.ordinal()];
     }
 
     /**
@@ -31,4 +79,21 @@ public class ConversionStrategyFactory {
     public static Map<String, ConversionStrategy> getAllStrategies() {
         return new HashMap<>(strategies);
     }
-}
\ No newline at end of file
+
+    private static ConversionStrategy resolveUnitPair(String strategyType) {
+        int separator = strategyType.toLowerCase().indexOf(NAME_SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        MeasurementUnit from = MeasurementUnit.fromName(strategyType.substring(0, separator));
+        MeasurementUnit to = MeasurementUnit.fromName(strategyType.substring(separator + NAME_SEPARATOR.length()));
+        if (from == null || to == null) {
+            return null;
+        }
+        ConversionStrategy strategy = getStrategy(from, to);
+        if (strategy != null && resolvedNames.size() < MAX_RESOLVED_NAMES) {
+            resolvedNames.put(strategyType, strategy);
+        }
+        return strategy;
+    }
+}
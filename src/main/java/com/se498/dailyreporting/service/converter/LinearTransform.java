@@ -0,0 +1,52 @@
+package com.se498.dailyreporting.service.converter;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Linear conversion of the form {@code scale * x + offset}
+ * Every unit conversion in the {@link UnitConversionGraph} reduces to one of these
+ *
+ * @param scale Multiplier applied to the input
+ * @param offset Constant added after scaling
+ */
+public record LinearTransform(double scale, double offset) implements DoubleUnaryOperator {
+
+    public static final LinearTransform IDENTITY = new LinearTransform(1.0, 0.0);
+
+    @Override
+    public double applyAsDouble(double value) {
+        return scale * value + offset;
+    }
+
+    /**
+     * Convert a range of values in place
+     * @param values Values to convert
+     * @param from Index of the first value to convert
+     * @param to Index one past the last value to convert
+     */
+    public void applyInPlace(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = scale * values[i] + offset;
+        }
+    }
+
+    /**
+     * Compose this transform with a following one into a single transform
+     * @param next Transform applied to the result of this one
+     * @return Transform equivalent to applying this, then next
+     */
+    public LinearTransform andThen(LinearTransform next) {
+        return new LinearTransform(next.scale * scale, next.scale * offset + next.offset);
+    }
+
+    /**
+     * Get the transform that undoes this one
+     * @return The inverse transform
+     */
+    public LinearTransform inverse() {
+        if (scale == 0.0) {
+            throw new IllegalStateException("Transform with zero scale cannot be inverted");
+        }
+        return new LinearTransform(1.0 / scale, -offset / scale);
+    }
+}
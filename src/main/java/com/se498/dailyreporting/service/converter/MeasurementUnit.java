@@ -0,0 +1,66 @@
+package com.se498.dailyreporting.service.converter;
+
+/**
+ * Units known to the {@link UnitConversionGraph}
+ * Conversions are only defined between units of the same dimension
+ */
+public enum MeasurementUnit {
+    CELSIUS(Dimension.TEMPERATURE, "Celsius"),
+    FAHRENHEIT(Dimension.TEMPERATURE, "Fahrenheit"),
+    KELVIN(Dimension.TEMPERATURE, "Kelvin"),
+    RANKINE(Dimension.TEMPERATURE, "Rankine"),
+
+    METERS_PER_SECOND(Dimension.SPEED, "Meters per second"),
+    KILOMETERS_PER_HOUR(Dimension.SPEED, "Kilometers per hour"),
+    MILES_PER_HOUR(Dimension.SPEED, "Miles per hour"),
+    KNOTS(Dimension.SPEED, "Knots"),
+
+    HECTOPASCALS(Dimension.PRESSURE, "Hectopascals"),
+    KILOPASCALS(Dimension.PRESSURE, "Kilopascals"),
+    INCHES_OF_MERCURY(Dimension.PRESSURE, "Inches of mercury"),
+
+    METERS(Dimension.DISTANCE, "Meters"),
+    KILOMETERS(Dimension.DISTANCE, "Kilometers"),
+    MILES(Dimension.DISTANCE, "Miles");
+
+    /**
+     * Physical quantity a unit measures
+     */
+    public enum Dimension {
+        TEMPERATURE, SPEED, PRESSURE, DISTANCE
+    }
+
+    private final Dimension dimension;
+    private final String displayName;
+
+    MeasurementUnit(Dimension dimension, String displayName) {
+        this.dimension = dimension;
+        this.displayName = displayName;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Find a unit by its display name or constant name, ignoring case
+     * @param name Unit name, e.g. "Fahrenheit" or "MILES_PER_HOUR"
+     * @return The unit, or null if not found
+     */
+    public static MeasurementUnit fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        for (MeasurementUnit unit : values()) {
+            if (unit.displayName.equalsIgnoreCase(trimmed) || unit.name().equalsIgnoreCase(trimmed)) {
+                return unit;
+            }
+        }
+        return null;
+    }
+}
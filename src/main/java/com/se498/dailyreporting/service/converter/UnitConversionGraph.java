@@ -0,0 +1,139 @@
+package com.se498.dailyreporting.service.converter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.se498.dailyreporting.service.converter.MeasurementUnit.*;
+
+/**
+ * Graph of unit conversions for temperature, wind speed, pressure and visibility
+ * Only a handful of direct conversions are declared; every other pair is reached by walking the
+ * graph once at startup and composing the path into a single linear transform. Lookups are then
+ * plain array accesses indexed by unit ordinal.
+ * Uses the Singleton pattern, as the table is immutable once built
+ */
+public final class UnitConversionGraph {
+
+    private static final UnitConversionGraph INSTANCE = new UnitConversionGraph();
+
+    private final LinearTransform[][] transforms;
+
+    private UnitConversionGraph() {
+        List<List<Edge>> edges = new ArrayList<>();
+        for (int i = 0; i < MeasurementUnit.values().length; i++) {
+            edges.add(new ArrayList<>());
+        }
+
+        // Temperature
+        connect(edges, CELSIUS, FAHRENHEIT, new LinearTransform(9.0 / 5.0, 32.0));
+        connect(edges, KELVIN, CELSIUS, new LinearTransform(1.0, -273.15));
+        connect(edges, RANKINE, FAHRENHEIT, new LinearTransform(1.0, -459.67));
+
+        // Wind speed
+        connect(edges, METERS_PER_SECOND, MILES_PER_HOUR, new LinearTransform(2.23694, 0.0));
+        connect(edges, MILES_PER_HOUR, KILOMETERS_PER_HOUR, new LinearTransform(1.60934, 0.0));
+        connect(edges, KNOTS, MILES_PER_HOUR, new LinearTransform(1.15078, 0.0));
+
+        // Pressure
+        connect(edges, HECTOPASCALS, INCHES_OF_MERCURY, new LinearTransform(0.02953, 0.0));
+        connect(edges, KILOPASCALS, HECTOPASCALS, new LinearTransform(10.0, 0.0));
+
+        // Visibility
+        connect(edges, MILES, METERS, new LinearTransform(1609.34, 0.0));
+        connect(edges, KILOMETERS, METERS, new LinearTransform(1000.0, 0.0));
+
+        this.transforms = compile(edges);
+    }
+
+    /**
+     * Gets the singleton instance of the conversion graph
+     * @return The conversion graph
+     */
+    public static UnitConversionGraph getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the precomputed transform between two units
+     * @param from Source unit
+     * @param to Target unit
+     * @return Transform converting values in the source unit to the target unit
+     * @throws IllegalArgumentException if the units measure different dimensions
+     */
+    public LinearTransform transform(MeasurementUnit from, MeasurementUnit to) {
+        LinearTransform transform = transforms[from.ordinal()][to.ordinal()];
+        if (transform == null) {
+            throw new IllegalArgumentException("No conversion from " + from.getDisplayName()
+                    + " to " + to.getDisplayName());
+        }
+        return transform;
+    }
+
+    /**
+     * Get the conversion between two units as a primitive operator
+     * @param from Source unit
+     * @param to Target unit
+     * @return Operator converting values in the source unit to the target unit
+     */
+    public DoubleUnaryOperator operator(MeasurementUnit from, MeasurementUnit to) {
+        return transform(from, to);
+    }
+
+    /**
+     * Convert a single value
+     * @param value Value in the source unit
+     * @param from Source unit
+     * @param to Target unit
+     * @return Value in the target unit
+     */
+    public double convert(double value, MeasurementUnit from, MeasurementUnit to) {
+        return transform(from, to).applyAsDouble(value);
+    }
+
+    /**
+     * Check whether a conversion exists between two units
+     * @param from Source unit
+     * @param to Target unit
+     * @return true if the units can be converted into each other
+     */
+    public boolean canConvert(MeasurementUnit from, MeasurementUnit to) {
+        return transforms[from.ordinal()][to.ordinal()] != null;
+    }
+
+    private static void connect(List<List<Edge>> edges, MeasurementUnit from, MeasurementUnit to,
+                                LinearTransform transform) {
+        edges.get(from.ordinal()).add(new Edge(to, transform));
+        edges.get(to.ordinal()).add(new Edge(from, transform.inverse()));
+    }
+
+    /**
+     * Breadth-first search from every unit, composing each shortest path into one transform
+     */
+    private static LinearTransform[][] compile(List<List<Edge>> edges) {
+        MeasurementUnit[] units = MeasurementUnit.values();
+        LinearTransform[][] table = new LinearTransform[units.length][units.length];
+
+        for (MeasurementUnit source : units) {
+            LinearTransform[] row = table[source.ordinal()];
+            row[source.ordinal()] = LinearTransform.IDENTITY;
+
+            ArrayDeque<MeasurementUnit> queue = new ArrayDeque<>();
+            queue.add(source);
+            while (!queue.isEmpty()) {
+                MeasurementUnit current = queue.poll();
+                for (Edge edge : edges.get(current.ordinal())) {
+                    if (row[edge.target().ordinal()] == null) {
+                        row[edge.target().ordinal()] = row[current.ordinal()].andThen(edge.transform());
+                        queue.add(edge.target());
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    private record Edge(MeasurementUnit target, LinearTransform transform) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.se498.dailyreporting.service.converter;
+
+/**
+ * Strategy implementation backed by a precomputed transform from the {@link UnitConversionGraph}
+ */
+public class UnitConversionStrategy implements ConversionStrategy {
+    private final MeasurementUnit from;
+    private final MeasurementUnit to;
+    private final LinearTransform transform;
+
+    public UnitConversionStrategy(MeasurementUnit from, MeasurementUnit to) {
+        this.from = from;
+        this.to = to;
+        this.transform = UnitConversionGraph.getInstance().transform(from, to);
+    }
+
+    @Override
+    public Double convert(double value) {
+        return transform.applyAsDouble(value);
+    }
+
+    @Override
+    public void convertInPlace(double[] values, int from, int to) {
+        transform.applyInPlace(values, from, to);
+    }
+
+    @Override
+    public String getDescription() {
+        return from.getDisplayName() + " to " + to.getDisplayName();
+    }
+
+    public MeasurementUnit getFrom() {
+        return from;
+    }
+
+    public MeasurementUnit getTo() {
+        return to;
+    }
+}
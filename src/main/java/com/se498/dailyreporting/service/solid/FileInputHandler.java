@@ -0,0 +1,139 @@
+package com.se498.dailyreporting.service.solid;
+
+import com.se498.dailyreporting.service.converter.AsciiDoubleCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * File-based implementation of the UserInputHandler interface.
+ * Reads temperatures from a file of numbers separated by commas, semicolons, tabs,
+ * spaces or line breaks, through a buffered channel and without creating a String per value.
+ *
+ * SOLID PRINCIPLES:
+ * - [SRP] Single Responsibility Principle: This class has the single responsibility
+ *   of reading input values from a file.
+ * - [LSP] Liskov Substitution Principle: This class can be used anywhere a
+ *   UserInputHandler is expected; the conversion service runs unchanged on file input.
+ * - [OCP] Open/Closed Principle: File input is added by a new implementation
+ *   rather than by modifying the console handler or the service.
+ */
+public class FileInputHandler implements UserInputHandler, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] token = new byte[MAX_TOKEN_LENGTH];
+    private final int selection;
+
+    private boolean endOfFile;
+    private boolean hasPending;
+    private double pending;
+
+    /**
+     * Create a handler reading values from a file
+     *
+     * @param input File to read
+     * @param selection Menu selection to report for every value, i.e. which converter to use
+     * @throws IOException if the file cannot be opened
+     */
+    public FileInputHandler(Path input, int selection) throws IOException {
+        this.channel = FileChannel.open(input, StandardOpenOption.READ);
+        this.selection = selection;
+        this.buffer.flip();
+    }
+
+    /**
+     * Check whether another value is available
+     * @return True if readNumberInput will return a value
+     */
+    public boolean hasNextNumber() {
+        if (!hasPending) {
+            hasPending = readNext();
+        }
+        return hasPending;
+    }
+
+    @Override
+    public double readNumberInput() {
+        if (!hasNextNumber()) {
+            throw new NoSuchElementException("No more values in input file");
+        }
+        hasPending = false;
+        return pending;
+    }
+
+    /**
+     * Reports the configured selection while values remain, and 0 (exit) once the file is exhausted
+     */
+    @Override
+    public int readMenuSelection() {
+        return hasNextNumber() ? selection : 0;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean readNext() {
+        int length = 0;
+        while (true) {
+            if (!buffer.hasRemaining() && !fill()) {
+                break;
+            }
+            byte b = buffer.get();
+            if (isDelimiter(b)) {
+                if (length > 0) {
+                    break;
+                }
+            } else {
+                if (length == MAX_TOKEN_LENGTH) {
+                    throw new IllegalArgumentException("Value exceeds " + MAX_TOKEN_LENGTH + " characters");
+                }
+                token[length++] = b;
+            }
+        }
+        if (length == 0) {
+            return false;
+        }
+        pending = AsciiDoubleCodec.parse(token, 0, length);
+        return true;
+    }
+
+    private boolean fill() {
+        if (endOfFile) {
+            return false;
+        }
+        try {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            buffer.flip();
+            if (read < 0) {
+                endOfFile = true;
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean isDelimiter(byte b) {
+        return b == ',' || b == ';' || b == '\t' || b == ' ' || b == '\r' || b == '\n';
+    }
+}
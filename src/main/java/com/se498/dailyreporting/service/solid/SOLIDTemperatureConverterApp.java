@@ -1,5 +1,7 @@
 package com.se498.dailyreporting.service.solid;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,13 +15,46 @@ import java.util.List;
  * - [LSP] Liskov Substitution Principle: Subtypes can be used in place of base types
  * - [ISP] Interface Segregation Principle: Interfaces are minimal and focused
  * - [DIP] Dependency Inversion Principle: High-level modules depend on abstractions
+ *
+ * Usage:
+ * - No arguments: interactive console mode
+ * - {@code <input>}: converts every value in the file, printing each result
+ * - {@code <input> <output> [converter] [threads]}: streams the file through the parallel
+ *   batch pipeline; converter is the 1-based menu number (default 1)
  */
 public class SOLIDTemperatureConverterApp {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        List<TemperatureConverterContract> converters = createConverters();
+
+        if (args.length >= 2) {
+            runBatch(args, converters);
+            return;
+        }
+
         // [DIP] Dependency Inversion Principle: Create as interface type
-        UserInputHandler inputHandler = new ConsoleInputHandler();
+        // [LSP] File input substitutes for console input without changing the service
+        UserInputHandler inputHandler = args.length == 1
+                ? new FileInputHandler(Path.of(args[0]), 1)
+                : new ConsoleInputHandler();
+
+        // [DIP] Dependency Inversion - passing interfaces not implementations
+        TemperatureConversionService service = new TemperatureConversionService(
+                inputHandler,
+                converters
+        );
+
+        // Run the application
+        System.out.println("Temperature Converter - SOLID Principles Demo");
+        System.out.println("===========================================");
+        service.run();
 
+        if (inputHandler instanceof FileInputHandler fileInputHandler) {
+            fileInputHandler.close();
+        }
+    }
+
+    private static List<TemperatureConverterContract> createConverters() {
         // [LSP] Liskov Substitution Principle: Demonstrated by mixing different
         // implementations that can be used interchangeably
         List<TemperatureConverterContract> converters = new ArrayList<>();
@@ -36,16 +71,25 @@ public class SOLIDTemperatureConverterApp {
                 "Celsius",
                 fahrenheit -> (fahrenheit - 32) * 5/9
         ));
+        return converters;
+    }
 
-        // [DIP] Dependency Inversion - passing interfaces not implementations
-        TemperatureConversionService service = new TemperatureConversionService(
-                inputHandler,
-                converters
-        );
+    private static void runBatch(String[] args, List<TemperatureConverterContract> converters) throws IOException {
+        int selection = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        if (selection < 1 || selection > converters.size()) {
+            System.out.println("Invalid converter selection: " + selection);
+            return;
+        }
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
 
-        // Run the application
-        System.out.println("Temperature Converter - SOLID Principles Demo");
-        System.out.println("===========================================");
-        service.run();
+        // [DIP] The pipeline depends only on the converter abstraction
+        TemperatureConverterContract converter = converters.get(selection - 1);
+        StreamingFileConversionPipeline pipeline = new StreamingFileConversionPipeline(
+                converter, threads, StreamingFileConversionPipeline.DEFAULT_CHUNK_SIZE);
+
+        System.out.println("Converting " + args[0] + " (" + converter.getDescription() + ") using " + threads + " threads");
+        StreamingFileConversionPipeline.ConversionSummary summary = pipeline.convert(Path.of(args[0]), Path.of(args[1]));
+        System.out.printf("Converted %d values in %d ms (%.1f MB/s), written to %s%n",
+                summary.values(), summary.elapsed().toMillis(), summary.megabytesPerSecond(), args[1]);
     }
 }
\ No newline at end of file
@@ -0,0 +1,304 @@
+package com.se498.dailyreporting.service.solid;
+
+import com.se498.dailyreporting.service.converter.AsciiDoubleCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Batch conversion of large sensor dumps through a TemperatureConverterContract.
+ * The input file is split into chunks on value boundaries; chunks are memory-mapped and
+ * converted in parallel, then written to the output channel in their original order.
+ * Values are parsed straight from the mapped bytes and formatted into a byte buffer, so no
+ * String is created per value.
+ *
+ * SOLID PRINCIPLES:
+ * - [SRP] Single Responsibility Principle: This class only moves values from an input file,
+ *   through a converter, to an output file. Conversion rules stay in the converter.
+ * - [LSP] Liskov Substitution Principle: Works with any implementation of
+ *   TemperatureConverterContract.
+ * - [DIP] Dependency Inversion Principle: Depends on the converter abstraction, not on
+ *   a concrete converter.
+ */
+public class StreamingFileConversionPipeline {
+
+    /**
+     * Default size of the chunks the input is split into
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+
+    private final TemperatureConverterContract converter;
+    private final int parallelism;
+    private final int chunkSize;
+
+    /**
+     * Summary of a completed conversion
+     *
+     * @param values Number of values converted
+     * @param bytesRead Size of the input file
+     * @param bytesWritten Size of the output file
+     * @param elapsed Wall-clock time of the conversion
+     */
+    public record ConversionSummary(long values, long bytesRead, long bytesWritten, Duration elapsed) {
+
+        /**
+         * Input throughput in megabytes per second
+         * @return Megabytes of input processed per second
+         */
+        public double megabytesPerSecond() {
+            double seconds = Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+            return bytesRead / (1024.0 * 1024.0) / seconds;
+        }
+    }
+
+    /**
+     * Create a pipeline using all available processors and the default chunk size
+     *
+     * @param converter Converter to apply to every value
+     */
+    public StreamingFileConversionPipeline(TemperatureConverterContract converter) {
+        this(converter, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a pipeline
+     *
+     * @param converter Converter to apply to every value
+     * @param parallelism Number of chunks converted concurrently
+     * @param chunkSize Approximate size of each chunk in bytes
+     */
+    public StreamingFileConversionPipeline(TemperatureConverterContract converter, int parallelism, int chunkSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        if (chunkSize < MAX_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Chunk size must be at least " + MAX_TOKEN_LENGTH + " bytes");
+        }
+        this.converter = converter;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Convert every value in the input file and write the results to the output file.
+     * Values on the same input line stay comma-separated on the same output line.
+     *
+     * @param input File of numbers separated by commas, semicolons, tabs, spaces or line breaks
+     * @param output File to write the converted values to; replaced if it exists
+     * @return Summary of the conversion
+     * @throws IOException if reading or writing fails
+     * @throws IllegalArgumentException if a value cannot be parsed or is rejected by the converter
+     */
+    public ConversionSummary convert(Path input, Path output) throws IOException {
+        long started = System.nanoTime();
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            List<long[]> chunks = splitIntoChunks(in);
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "file-conversion-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            long values = 0;
+            long bytesWritten = 0;
+            try {
+                // Keep a bounded window of chunks in flight so memory does not grow with the file size
+                ArrayDeque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+                int next = 0;
+                while (next < chunks.size() || !inFlight.isEmpty()) {
+                    while (next < chunks.size() && inFlight.size() < parallelism * 2) {
+                        long[] chunk = chunks.get(next);
+                        boolean last = next == chunks.size() - 1;
+                        inFlight.add(executor.submit(() -> convertChunk(in, chunk[0], chunk[1], last)));
+                        next++;
+                    }
+
+                    ChunkResult result = await(inFlight.poll());
+                    ByteBuffer buffer = ByteBuffer.wrap(result.bytes(), 0, result.length());
+                    while (buffer.hasRemaining()) {
+                        bytesWritten += out.write(buffer);
+                    }
+                    values += result.values();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            return new ConversionSummary(values, in.size(), bytesWritten,
+                    Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    /**
+     * Split the file into [start, end) ranges of roughly chunkSize bytes.
+     * Every range ends after a complete run of delimiters, so no value or line break is split.
+     */
+    private List<long[]> splitIntoChunks(FileChannel in) throws IOException {
+        long size = in.size();
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(start + chunkSize, size);
+            if (end < size) {
+                end = findBoundary(in, end, size, scan);
+            }
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private long findBoundary(FileChannel in, long position, long size, ByteBuffer scan) throws IOException {
+        boolean inDelimiters = false;
+        while (position < size) {
+            scan.clear();
+            int read = in.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                boolean delimiter = FileInputHandler.isDelimiter(scan.get(i));
+                if (delimiter) {
+                    inDelimiters = true;
+                } else if (inDelimiters) {
+                    return position + i;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private ChunkResult convertChunk(FileChannel in, long start, long end, boolean lastChunk) throws IOException {
+        int length = (int) (end - start);
+        MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+        ChunkWriter writer = new ChunkWriter(length + length / 2 + 64);
+        byte[] token = new byte[MAX_TOKEN_LENGTH];
+        int tokenLength = 0;
+        boolean separatorPending = false;
+        boolean lineBreakSeen = false;
+
+        for (int i = 0; i < length; i++) {
+            byte b = mapped.get(i);
+            if (FileInputHandler.isDelimiter(b)) {
+                if (tokenLength > 0) {
+                    writer.value(convertToken(token, tokenLength, start + i - tokenLength));
+                    tokenLength = 0;
+                    separatorPending = true;
+                    lineBreakSeen = false;
+                }
+                if (b == '\n') {
+                    lineBreakSeen = true;
+                }
+            } else {
+                if (separatorPending) {
+                    writer.separator(lineBreakSeen);
+                    separatorPending = false;
+                }
+                if (tokenLength == MAX_TOKEN_LENGTH) {
+                    throw new IllegalArgumentException("Value at byte " + (start + i - tokenLength)
+                            + " exceeds " + MAX_TOKEN_LENGTH + " characters");
+                }
+                token[tokenLength++] = b;
+            }
+        }
+
+        // A token can only be left over at the end of the file
+        if (tokenLength > 0) {
+            writer.value(convertToken(token, tokenLength, end - tokenLength));
+            separatorPending = true;
+            lineBreakSeen = true;
+        }
+        if (separatorPending) {
+            writer.separator(lineBreakSeen || lastChunk);
+        }
+        return writer.result();
+    }
+
+    private double convertToken(byte[] token, int length, long offset) {
+        try {
+            return converter.convert(AsciiDoubleCodec.parse(token, 0, length));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value at byte " + offset + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static ChunkResult await(Future<ChunkResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Conversion interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private record ChunkResult(byte[] bytes, int length, long values) {
+    }
+
+    /**
+     * Growable output buffer for one chunk
+     */
+    private static final class ChunkWriter {
+        private final StringBuilder scratch = new StringBuilder(AsciiDoubleCodec.MAX_FORMATTED_LENGTH);
+        private byte[] bytes;
+        private int position;
+        private long values;
+
+        ChunkWriter(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        void value(double value) {
+            ensureCapacity(AsciiDoubleCodec.MAX_FORMATTED_LENGTH);
+            position = AsciiDoubleCodec.format(value, scratch, bytes, position);
+            values++;
+        }
+
+        void separator(boolean lineBreak) {
+            ensureCapacity(1);
+            bytes[position++] = lineBreak ? (byte) '\n' : (byte) ',';
+        }
+
+        ChunkResult result() {
+            return new ChunkResult(bytes, position, values);
+        }
+
+        private void ensureCapacity(int needed) {
+            if (bytes.length - position < needed) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + needed));
+            }
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- findMaxPositionPublishedBefore: the retention job finds where expired relayed events end
+CREATE INDEX idx_outbox_published ON report_outbox (published_at, stream_position);
@@ -0,0 +1,79 @@
+-- Daily reporting schema
+-- Every index below backs a query in DailyReportRepository or ActivityEntryRepository;
+-- the comment above each index names the queries it serves
+
+CREATE TABLE users (
+    id          VARCHAR(255) NOT NULL,
+    username    VARCHAR(50)  NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    first_name  VARCHAR(50),
+    last_name   VARCHAR(50),
+    role        VARCHAR(20)  NOT NULL,
+    created_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP,
+    active      BOOLEAN      NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE daily_reports (
+    id          VARCHAR(36)   NOT NULL,
+    project_id  VARCHAR(255)  NOT NULL,
+    report_date DATE          NOT NULL,
+    status      VARCHAR(20)   NOT NULL,
+    notes       VARCHAR(2000),
+    created_at  TIMESTAMP     NOT NULL,
+    created_by  VARCHAR(255)  NOT NULL,
+    updated_at  TIMESTAMP,
+    updated_by  VARCHAR(255),
+    CONSTRAINT pk_daily_reports PRIMARY KEY (id),
+    -- findByProjectId, findByProjectIdAndReportDate, findByProjectIdAndDateRange(WithActivities),
+    -- findByProjectIdWithActivities and the keyset pages by project
+    CONSTRAINT uk_project_date UNIQUE (project_id, report_date)
+);
+
+-- findByStatus(WithActivities) and the keyset pages by status; countByStatus reads only this index
+CREATE INDEX idx_report_status_date ON daily_reports (status, report_date, id);
+
+-- countByProjectIdAndStatus, answered from the index alone
+CREATE INDEX idx_report_project_status ON daily_reports (project_id, status);
+
+-- findRecentReportsByUser, already in created_at order
+CREATE INDEX idx_report_created_by ON daily_reports (created_by, created_at);
+
+CREATE TABLE activity_entries (
+    id          VARCHAR(36)      NOT NULL,
+    report_id   VARCHAR(36)      NOT NULL,
+    description VARCHAR(500)     NOT NULL,
+    category    VARCHAR(255)     NOT NULL,
+    start_time  TIMESTAMP        NOT NULL,
+    end_time    TIMESTAMP        NOT NULL,
+    progress    DOUBLE PRECISION NOT NULL,
+    status      VARCHAR(20)      NOT NULL,
+    notes       VARCHAR(1000),
+    created_at  TIMESTAMP        NOT NULL,
+    created_by  VARCHAR(255)     NOT NULL,
+    updated_at  TIMESTAMP,
+    updated_by  VARCHAR(255),
+    CONSTRAINT pk_activity_entries PRIMARY KEY (id),
+    CONSTRAINT fk_activity_report FOREIGN KEY (report_id) REFERENCES daily_reports (id)
+);
+
+-- findByReportId, findByReportIdAndCategory, deleteByReportId, the report analytics
+-- and the activities fetch-joined onto reports; also indexes the foreign key
+CREATE INDEX idx_activity_report_category ON activity_entries (report_id, category);
+
+-- findByStatus
+CREATE INDEX idx_activity_status ON activity_entries (status);
+
+-- findByTimeRange: a range seek on start_time; the index does not cover SELECT *, so matching rows are still read
+CREATE INDEX idx_activity_time_range ON activity_entries (start_time, end_time);
+
+CREATE TABLE activity_personnel (
+    activity_id  VARCHAR(36)  NOT NULL,
+    personnel_id VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_activity_personnel PRIMARY KEY (activity_id, personnel_id),
+    CONSTRAINT fk_personnel_activity FOREIGN KEY (activity_id) REFERENCES activity_entries (id)
+);
@@ -0,0 +1,5 @@
+-- Optimistic locking for daily reports
+-- Entity updates check and bump the version; a status transition is one UPDATE conditional on the expected status
+-- and bumps it too
+
+ALTER TABLE daily_reports ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
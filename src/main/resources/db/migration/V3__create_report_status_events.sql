@@ -0,0 +1,23 @@
+-- Append-only history of report status transitions
+-- Rows are only ever inserted; there is no foreign key so a report's history outlives the report
+
+CREATE TABLE report_status_events (
+    id          VARCHAR(36)   NOT NULL,
+    report_id   VARCHAR(36)   NOT NULL,
+    from_status VARCHAR(20),
+    to_status   VARCHAR(20)   NOT NULL,
+    reason_code VARCHAR(40),
+    reason_text VARCHAR(2000),
+    actor       VARCHAR(255)  NOT NULL,
+    occurred_at TIMESTAMP     NOT NULL,
+    CONSTRAINT pk_report_status_events PRIMARY KEY (id)
+);
+
+-- findByReportIdOrderByIdAsc: ids are time-ordered, so this is also the history in event order
+CREATE INDEX idx_status_event_report ON report_status_events (report_id, id);
+
+-- countTransitionsSince, answered from the index alone
+CREATE INDEX idx_status_event_time ON report_status_events (occurred_at, to_status);
+
+-- countByReasonSince, answered from the index alone
+CREATE INDEX idx_status_event_status_time ON report_status_events (to_status, occurred_at, reason_code);
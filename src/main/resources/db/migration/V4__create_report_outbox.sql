@@ -0,0 +1,21 @@
+-- Transactional outbox for report lifecycle events
+-- Writes insert an event in their own transaction; the relay later gives each event a gap-free
+-- position in publish order, which consumers use to tail the stream
+
+CREATE TABLE report_outbox (
+    id              VARCHAR(36)  NOT NULL,
+    event_type      VARCHAR(40)  NOT NULL,
+    report_id       VARCHAR(36)  NOT NULL,
+    activity_id     VARCHAR(36),
+    actor           VARCHAR(255),
+    occurred_at     TIMESTAMP    NOT NULL,
+    stream_position BIGINT,
+    published_at    TIMESTAMP,
+    CONSTRAINT pk_report_outbox PRIMARY KEY (id),
+    -- findByPositionGreaterThanOrderByPositionAsc and findMaxPosition; also stops two relays
+    -- from publishing under the same position
+    CONSTRAINT uk_report_outbox_position UNIQUE (stream_position)
+);
+
+-- findByPositionIsNullOrderByIdAsc: unpublished events in insertion order
+CREATE INDEX idx_outbox_pending ON report_outbox (stream_position, id);
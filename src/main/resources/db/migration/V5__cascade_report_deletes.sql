@@ -0,0 +1,13 @@
+-- Deleting a report removes its activities, and deleting an activity removes its personnel, in the database
+-- Reports and activities can then be deleted with set-based statements instead of entity by entity
+
+ALTER TABLE activity_entries DROP CONSTRAINT fk_activity_report;
+ALTER TABLE activity_entries ADD CONSTRAINT fk_activity_report
+    FOREIGN KEY (report_id) REFERENCES daily_reports (id) ON DELETE CASCADE;
+
+ALTER TABLE activity_personnel DROP CONSTRAINT fk_personnel_activity;
+ALTER TABLE activity_personnel ADD CONSTRAINT fk_personnel_activity
+    FOREIGN KEY (activity_id) REFERENCES activity_entries (id) ON DELETE CASCADE;
+
+-- findIdsByReportDateBetween: the purge walks a date range in (report_date, id) order
+CREATE INDEX idx_report_date ON daily_reports (report_date, id);
@@ -0,0 +1,49 @@
+-- Archive tier for approved reports that are no longer worked on
+-- ReportArchiver moves them here in batches so the active tables, and the status queries over them, stay small.
+-- The tables mirror their active counterparts; reports are only ever inserted here and read back by ID
+
+CREATE TABLE daily_reports_archive (
+    id          VARCHAR(36)   NOT NULL,
+    project_id  VARCHAR(255)  NOT NULL,
+    report_date DATE          NOT NULL,
+    status      VARCHAR(20)   NOT NULL,
+    notes       VARCHAR(2000),
+    created_at  TIMESTAMP     NOT NULL,
+    created_by  VARCHAR(255)  NOT NULL,
+    updated_at  TIMESTAMP,
+    updated_by  VARCHAR(255),
+    version     BIGINT        NOT NULL,
+    archived_at TIMESTAMP     NOT NULL,
+    -- ReportArchiveRepository.findReport
+    CONSTRAINT pk_daily_reports_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE activity_entries_archive (
+    id          VARCHAR(36)      NOT NULL,
+    report_id   VARCHAR(36)      NOT NULL,
+    description VARCHAR(500)     NOT NULL,
+    category    VARCHAR(255)     NOT NULL,
+    start_time  TIMESTAMP        NOT NULL,
+    end_time    TIMESTAMP        NOT NULL,
+    progress    DOUBLE PRECISION NOT NULL,
+    status      VARCHAR(20)      NOT NULL,
+    notes       VARCHAR(1000),
+    created_at  TIMESTAMP        NOT NULL,
+    created_by  VARCHAR(255)     NOT NULL,
+    updated_at  TIMESTAMP,
+    updated_by  VARCHAR(255),
+    CONSTRAINT pk_activity_entries_archive PRIMARY KEY (id),
+    CONSTRAINT fk_activity_archive_report FOREIGN KEY (report_id)
+        REFERENCES daily_reports_archive (id) ON DELETE CASCADE
+);
+
+-- ReportArchiveRepository.findReport reads a report's activities; also indexes the foreign key
+CREATE INDEX idx_activity_archive_report ON activity_entries_archive (report_id);
+
+CREATE TABLE activity_personnel_archive (
+    activity_id  VARCHAR(36)  NOT NULL,
+    personnel_id VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_activity_personnel_archive PRIMARY KEY (activity_id, personnel_id),
+    CONSTRAINT fk_personnel_archive_activity FOREIGN KEY (activity_id)
+        REFERENCES activity_entries_archive (id) ON DELETE CASCADE
+);
@@ -0,0 +1,19 @@
+-- Dashboard totals, one row per project and report date
+-- ReportRollupSink recomputes the rows of the reports named in each relayed event batch, from the active
+-- tables or the archive; archived reports keep their row. Rows are never written through JPA
+
+CREATE TABLE project_daily_rollups (
+    project_id               VARCHAR(255)     NOT NULL,
+    report_date              DATE             NOT NULL,
+    report_id                VARCHAR(36)      NOT NULL,
+    status                   VARCHAR(20)      NOT NULL,
+    activity_count           INT              NOT NULL,
+    completed_activity_count INT              NOT NULL,
+    progress_sum             DOUBLE PRECISION NOT NULL,
+    activity_minutes         BIGINT           NOT NULL,
+    refreshed_at             TIMESTAMP        NOT NULL,
+    -- findByProjectIdAndReportDateBetweenOrderByReportDateAsc: a project's time series is one range scan
+    CONSTRAINT pk_project_daily_rollups PRIMARY KEY (project_id, report_date),
+    -- refresh removes the rows of the reports it recomputes
+    CONSTRAINT uk_rollup_report UNIQUE (report_id)
+);
@@ -0,0 +1,4 @@
+-- A project has at most one report per date across the active and archive tables together:
+-- createReport and createReports check the archive, and this keeps the archive itself to one per pair.
+-- Also serves the archive lookups by project and date
+ALTER TABLE daily_reports_archive ADD CONSTRAINT uk_archive_project_date UNIQUE (project_id, report_date);
@@ -0,0 +1,2 @@
+-- Purges walk the archive by report date, oldest first, as they do the active table
+CREATE INDEX idx_archive_report_date ON daily_reports_archive (report_date, id);
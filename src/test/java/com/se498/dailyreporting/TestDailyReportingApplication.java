@@ -4,6 +4,7 @@ package com.se498.dailyreporting;
 import com.se498.dailyreporting.domain.bo.User;
 import com.se498.dailyreporting.service.UserService;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -18,6 +19,19 @@ public class TestDailyReportingApplication {
         SpringApplication.run(TestDailyReportingApplication.class, args);
     }
 
+    /**
+     * Test contexts share one in-memory database, so drop what an earlier context left behind before migrating
+     */
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            if (!flyway.getConfiguration().isCleanDisabled()) {
+                flyway.clean();
+            }
+            flyway.migrate();
+        };
+    }
+
     @Bean
     public CommandLineRunner commandLineRunner(UserService userService) {
         return args -> {
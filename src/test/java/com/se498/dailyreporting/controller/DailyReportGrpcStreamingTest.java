@@ -0,0 +1,224 @@
+package com.se498.dailyreporting.controller;
+
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.dto.grpc.GrpcMapper;
+import com.se498.dailyreporting.grpc.*;
+import com.se498.dailyreporting.service.BulkActivityResult;
+import com.se498.dailyreporting.service.DailyReportingService;
+import com.se498.dailyreporting.service.ReportPage;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DailyReportGrpcStreamingTest {
+
+    private static final String PROJECT_ID = "stream-project";
+
+    @Mock
+    private DailyReportingService reportingService;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    private final List<DailyReport> firstPage = reports(0, 2);
+    private final List<DailyReport> secondPage = reports(2, 2);
+    private final List<DailyReport> lastPage = reports(4, 1);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        when(reportingService.pageReportsByProject(eq(PROJECT_ID), isNull(), anyInt()))
+                .thenReturn(new ReportPage(firstPage, "token-1"));
+        when(reportingService.pageReportsByProject(eq(PROJECT_ID), eq("token-1"), anyInt()))
+                .thenReturn(new ReportPage(secondPage, "token-2"));
+        when(reportingService.pageReportsByProject(eq(PROJECT_ID), eq("token-2"), anyInt()))
+                .thenReturn(new ReportPage(lastPage, null));
+
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder
+                .forName(serverName)
+                .directExecutor()
+                .addService(new DailyReportGrpcController(reportingService, new GrpcMapper()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder
+                .forName(serverName)
+                .directExecutor()
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testStreamReportsByProjectEmitsEveryPageInOrder() {
+        Iterator<DailyReportResponse> responses = DailyReportServiceGrpc.newBlockingStub(channel)
+                .streamReportsByProject(GetReportsByProjectRequest.newBuilder()
+                        .setProjectId(PROJECT_ID)
+                        .setPageSize(2)
+                        .build());
+
+        List<String> ids = new ArrayList<>();
+        responses.forEachRemaining(response -> ids.add(response.getId()));
+
+        List<String> expected = new ArrayList<>();
+        for (List<DailyReport> page : List.of(firstPage, secondPage, lastPage)) {
+            page.forEach(report -> expected.add(report.getId()));
+        }
+        assertEquals(expected, ids);
+        verify(reportingService, times(3)).pageReportsByProject(eq(PROJECT_ID), any(), eq(2));
+    }
+
+    @Test
+    public void testStreamOnlyReadsPagesTheClientHasRequested() {
+        List<DailyReportResponse> received = new ArrayList<>();
+        List<ClientCallStreamObserver<GetReportsByProjectRequest>> calls = new ArrayList<>();
+
+        DailyReportServiceGrpc.newStub(channel).streamReportsByProject(
+                GetReportsByProjectRequest.newBuilder().setProjectId(PROJECT_ID).setPageSize(2).build(),
+                new ClientResponseObserver<GetReportsByProjectRequest, DailyReportResponse>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<GetReportsByProjectRequest> requestStream) {
+                        requestStream.disableAutoRequestWithInitial(0);
+                        calls.add(requestStream);
+                    }
+
+                    @Override
+                    public void onNext(DailyReportResponse value) {
+                        received.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+
+        calls.get(0).request(1);
+
+        assertEquals(1, received.size());
+        verify(reportingService, times(1)).pageReportsByProject(eq(PROJECT_ID), any(), anyInt());
+
+        calls.get(0).request(10);
+
+        assertEquals(5, received.size());
+        verify(reportingService, times(3)).pageReportsByProject(eq(PROJECT_ID), any(), anyInt());
+    }
+
+    @Test
+    public void testInvalidPageTokenEndsStreamWithInvalidArgument() {
+        when(reportingService.pageReportsByStatus(eq(ReportStatus.APPROVED), eq("bad"), anyInt()))
+                .thenThrow(new IllegalArgumentException("Invalid page token: bad"));
+
+        Iterator<DailyReportResponse> responses = DailyReportServiceGrpc.newBlockingStub(channel)
+                .streamReportsByStatus(GetReportsByStatusRequest.newBuilder()
+                        .setStatus(com.se498.dailyreporting.grpc.ReportStatus.APPROVED)
+                        .setPageToken("bad")
+                        .build());
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, responses::hasNext);
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    @Test
+    public void testBulkAddActivitiesGroupsByReportAndReportsEveryItem() throws InterruptedException {
+        when(reportingService.addActivities(eq("report-a"), anyList())).thenAnswer(invocation -> {
+            List<ActivityEntry> activities = invocation.getArgument(1);
+            activities.get(0).setId("activity-1");
+            activities.get(2).setId("activity-3");
+            return new BulkActivityResult("report-a", List.of(activities.get(0), activities.get(2)),
+                    List.of(new BulkActivityResult.ItemError(1, "Description is required")));
+        });
+        when(reportingService.addActivities(eq("report-b"), anyList()))
+                .thenThrow(new IllegalStateException("Cannot modify report in APPROVED state"));
+
+        CountDownLatch done = new CountDownLatch(1);
+        List<BulkAddActivitiesResponse> responses = new ArrayList<>();
+        StreamObserver<AddActivityRequest> requests = DailyReportServiceGrpc.newStub(channel)
+                .bulkAddActivities(new StreamObserver<>() {
+                    @Override
+                    public void onNext(BulkAddActivitiesResponse value) {
+                        responses.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        done.countDown();
+                    }
+                });
+
+        for (String reportId : List.of("report-a", "report-b", "report-a", "report-a")) {
+            requests.onNext(AddActivityRequest.newBuilder()
+                    .setReportId(reportId)
+                    .setDescription("Activity")
+                    .setCategory("Test Category")
+                    .setUsername("test-user")
+                    .build());
+        }
+        requests.onCompleted();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        BulkAddActivitiesResponse response = responses.get(0);
+        assertEquals(2, response.getAddedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals("activity-1", response.getResults(0).getActivityId());
+        assertEquals("Cannot modify report in APPROVED state", response.getResults(1).getError().getValue());
+        assertEquals("Description is required", response.getResults(2).getError().getValue());
+        assertEquals("activity-3", response.getResults(3).getActivityId());
+        verify(reportingService, times(1)).addActivities(eq("report-a"), argThat(list -> list.size() == 3));
+    }
+
+    private static List<DailyReport> reports(int offset, int count) {
+        List<DailyReport> reports = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            DailyReport report = new DailyReport(UUID.randomUUID().toString(), PROJECT_ID,
+                    LocalDate.of(2024, 1, 31).minusDays(offset + i));
+            report.setCreatedBy("test-user");
+            report.setCreatedAt(LocalDateTime.now());
+            reports.add(report);
+        }
+        return reports;
+    }
+}
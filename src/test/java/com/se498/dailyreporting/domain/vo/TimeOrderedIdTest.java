@@ -0,0 +1,63 @@
+package com.se498.dailyreporting.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Time-Ordered Id Tests")
+class TimeOrderedIdTest {
+
+    @Test
+    @DisplayName("Ids are version 7 UUIDs that fit a VARCHAR(36) column")
+    void testFormat() {
+        String id = TimeOrderedId.next();
+        UUID uuid = UUID.fromString(id);
+
+        assertEquals(36, id.length());
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Ids sort in creation order as strings")
+    void testIdsAreOrdered() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(TimeOrderedId.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0,
+                    ids.get(i - 1) + " should sort before " + ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Ids generated concurrently are unique")
+    void testConcurrentIdsAreUnique() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 50_000).parallel().forEach(i -> ids.add(TimeOrderedId.next()));
+
+        assertEquals(50_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Creation time can be read back from an id")
+    void testTimestamp() {
+        long before = System.currentTimeMillis();
+        String id = TimeOrderedId.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = TimeOrderedId.timestampOf(id);
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedId.timestampOf(UUID.randomUUID().toString()));
+    }
+}
@@ -140,17 +140,21 @@ public class ActivityEntryRepositoryTest {
     }
 
     @Test
-    public void testCountCompletedActivitiesByReportId() {
+    public void testCountCompletionByReportId() {
         // Given
         String reportId = "rep-001";
-        when(activityEntryRepository.countCompletedActivitiesByReportId(reportId)).thenReturn(1L);
+        ActivityEntryRepository.CompletionCounts counts = mock(ActivityEntryRepository.CompletionCounts.class);
+        when(counts.getTotal()).thenReturn(2L);
+        when(counts.getIncomplete()).thenReturn(1L);
+        when(activityEntryRepository.countCompletionByReportId(reportId)).thenReturn(counts);
 
         // When
-        long completedCount = activityEntryRepository.countCompletedActivitiesByReportId(reportId);
+        ActivityEntryRepository.CompletionCounts result = activityEntryRepository.countCompletionByReportId(reportId);
 
         // Then
-        assertEquals(1L, completedCount);
-        verify(activityEntryRepository, times(1)).countCompletedActivitiesByReportId(reportId);
+        assertEquals(2L, result.getTotal());
+        assertEquals(1L, result.getIncomplete());
+        verify(activityEntryRepository, times(1)).countCompletionByReportId(reportId);
     }
 
     @Test
@@ -0,0 +1,95 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Insert throughput and primary key index size for random and time-ordered report ids on PostgreSQL
+ * Not part of the default test run (surefire only picks up *Test classes); run it with
+ * mvn test -Dtest=PrimaryKeyInsertBenchmark on a machine with Docker
+ */
+@Slf4j
+class PrimaryKeyInsertBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required for this benchmark");
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+            postgres.start();
+            try (Connection connection = DriverManager.getConnection(
+                    postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+
+                Result random = run(connection, "random_varchar", "VARCHAR(36)",
+                        () -> UUID.randomUUID().toString());
+                Result ordered = run(connection, "ordered_varchar", "VARCHAR(36)", TimeOrderedId::next);
+                Result orderedUuid = run(connection, "ordered_uuid", "UUID",
+                        () -> UUID.fromString(TimeOrderedId.next()));
+
+                log.info("Random UUID, VARCHAR(36):       {}", random);
+                log.info("Time-ordered UUID, VARCHAR(36): {}", ordered);
+                log.info("Time-ordered UUID, UUID:        {}", orderedUuid);
+
+                // Appending to the right edge of the index leaves pages full instead of half-split
+                assertTrue(ordered.indexBytes() < random.indexBytes());
+                assertTrue(orderedUuid.indexBytes() < ordered.indexBytes());
+            }
+        }
+    }
+
+    private Result run(Connection connection, String table, String keyType, Supplier<Object> ids)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id " + keyType + " PRIMARY KEY, "
+                    + "project_id VARCHAR(255) NOT NULL, report_date DATE NOT NULL)");
+        }
+
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, project_id, report_date) VALUES (?, ?, CURRENT_DATE)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "project-" + (i % 100));
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            size.next();
+            return new Result(ROWS * 1_000_000_000L / elapsedNanos, size.getLong(1));
+        }
+    }
+
+    private record Result(long rowsPerSecond, long indexBytes) {
+        @Override
+        public String toString() {
+            return rowsPerSecond + " rows/s, primary key index " + indexBytes / 1024 + " KiB";
+        }
+    }
+}
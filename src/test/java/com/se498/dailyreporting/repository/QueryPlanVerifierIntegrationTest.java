@@ -0,0 +1,125 @@
+package com.se498.dailyreporting.repository;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.bo.OutboxEvent;
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import com.se498.dailyreporting.domain.vo.RejectionReason;
+import com.se498.dailyreporting.domain.vo.ReportEventType;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class QueryPlanVerifierIntegrationTest {
+
+    @Autowired
+    private QueryPlanVerifier verifier;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private ReportStatusEventRepository statusEventRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        ReportStatus[] statuses = ReportStatus.values();
+        LocalDate firstDate = LocalDate.of(2024, 1, 1);
+        long position = outboxRepository.findMaxPosition().orElse(0L);
+        for (int i = 0; i < 200; i++) {
+            DailyReport report = new DailyReport(TimeOrderedId.next(), "plan-project-" + (i % 10),
+                    firstDate.plusDays(i));
+            report.setStatus(statuses[i % statuses.length]);
+            report.setCreatedBy("user-" + (i % 5));
+            reportRepository.save(report);
+            statusEventRepository.save(new ReportStatusEvent(report.getId(), null, ReportStatus.DRAFT, "user-" + (i % 5)));
+            statusEventRepository.save(new ReportStatusEvent(report.getId(), ReportStatus.DRAFT,
+                    ReportStatus.SUBMITTED, "user-" + (i % 5)));
+            statusEventRepository.save(new ReportStatusEvent(report.getId(), ReportStatus.SUBMITTED,
+                    ReportStatus.REJECTED, RejectionReason.values()[i % RejectionReason.values().length],
+                    null, "manager"));
+
+            OutboxEvent event = new OutboxEvent(ReportEventType.REPORT_CREATED, report.getId(), null,
+                    "user-" + (i % 5));
+            if (i % 4 != 0) {
+                event.publish(++position, LocalDateTime.now());
+            }
+            outboxRepository.save(event);
+
+            for (int j = 0; j < 3; j++) {
+                ActivityEntry activity = new ActivityEntry();
+                activity.setId(TimeOrderedId.next());
+                activity.setReportId(report.getId());
+                activity.setDescription("Activity " + j);
+                activity.setCategory("Category " + j);
+                activity.setStartTime(LocalDateTime.of(2024, 1, 1, 7, 0).plusDays(i).plusHours(j));
+                activity.setEndTime(LocalDateTime.of(2024, 1, 1, 8, 0).plusDays(i).plusHours(j));
+                activity.setStatus(ActivityStatus.values()[j % ActivityStatus.values().length]);
+                activity.setPersonnel(Set.of("crew-" + j));
+                activity.setCreatedBy("user-" + (i % 5));
+                activityRepository.save(activity);
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void testEveryRepositoryQueryUsesAnIndex() {
+        List<String> fullScans = verifier.findFullScans();
+
+        assertTrue(fullScans.isEmpty(), "Full scans: " + fullScans);
+        assertDoesNotThrow(verifier::verify);
+    }
+
+    @Test
+    void testUnindexedQueryIsReportedAsFullScan() {
+        String plan = verifier.planFor("SELECT * FROM daily_reports WHERE notes = 'unindexed'");
+
+        assertTrue(QueryPlanVerifier.isFullScan(plan), plan);
+    }
+
+    @Test
+    void testEveryRepositoryQueryNamesARepositoryMethod() throws ClassNotFoundException {
+        for (String name : QueryPlanVerifier.REPOSITORY_QUERIES.keySet()) {
+            String type = name.substring(0, name.indexOf('.'));
+            if (!type.endsWith("Repository")) {
+                continue;
+            }
+            String method = name.substring(name.indexOf('.') + 1);
+            Class<?> repository = Class.forName(QueryPlanVerifier.class.getPackageName() + "." + type);
+
+            assertTrue(Stream.concat(Arrays.stream(repository.getMethods()),
+                            Arrays.stream(repository.getDeclaredMethods()))
+                    .anyMatch(m -> m.getName().equals(method)), name);
+        }
+    }
+}
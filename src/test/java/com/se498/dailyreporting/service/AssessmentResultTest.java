@@ -0,0 +1,97 @@
+package com.se498.dailyreporting.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.se498.dailyreporting.domain.bo.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Assessment Result Tests")
+class AssessmentResultTest {
+
+    private WeatherRecord weatherRecord;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        weatherRecord = WeatherRecord.builder()
+                .location(new Location("Test City", "US", "CA", "12345"))
+                .temperature(Temperature.fromFahrenheit(91.37))
+                .humidity(Humidity.of(60))
+                .windSpeed(WindSpeed.fromMph(12.25))
+                .condition(new WeatherCondition("Clear skies", "01d"))
+                .uvIndex(8)
+                .recordedAt(now)
+                .fetchedAt(now)
+                .dataSource("Unit Test")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Text rendering matches the individual command outputs and raw data")
+    void textRenderingMatchesCommandOutputs() {
+        WeatherAssessmentStrategy strategy = WeatherStrategyFactory.createStrategy(WeatherStrategyFactory.StrategyType.STANDARD);
+
+        String text = new GetComprehensiveAssessmentCommand(weatherRecord, strategy).execute();
+
+        assertTrue(text.startsWith("COMPREHENSIVE WEATHER ASSESSMENT\n"));
+        assertTrue(text.contains(new CheckDangerousWeatherCommand(weatherRecord, strategy).execute() + "\n"));
+        assertTrue(text.contains(new CheckOutdoorConditionsCommand(weatherRecord, strategy).execute() + "\n"));
+        assertTrue(text.contains(new GetComfortRatingCommand(weatherRecord, strategy).execute() + "\n"));
+        assertTrue(text.contains(new GetWeatherDescriptionCommand(weatherRecord, strategy).execute() + "\n"));
+        assertTrue(text.contains("- Temperature: 91.4°F (33.0°C)\n"));
+        assertTrue(text.contains("- Humidity: 60%\n"));
+        assertTrue(text.contains("- Heat Index: " + String.format("%.1f°F", weatherRecord.getHeatIndex())));
+        assertTrue(text.contains("- UV Index: 8\n"));
+    }
+
+    @Test
+    @DisplayName("One-decimal formatting rounds half up like the legacy formatter")
+    void oneDecimalFormatting() {
+        assertEquals("72.0", AssessmentResult.appendOneDecimal(new StringBuilder(), 72.0).toString());
+        assertEquals("12.3", AssessmentResult.appendOneDecimal(new StringBuilder(), 12.25).toString());
+        assertEquals("-4.6", AssessmentResult.appendOneDecimal(new StringBuilder(), -4.56).toString());
+        assertEquals("-0.0", AssessmentResult.appendOneDecimal(new StringBuilder(), -0.04).toString());
+    }
+
+    @Test
+    @DisplayName("Assessment is streamed as JSON")
+    void assessmentStreamedAsJson() throws Exception {
+        AssessmentResult result = new GetComprehensiveAssessmentCommand(
+                weatherRecord, WeatherStrategyFactory.StrategyType.STANDARD).assess();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        AssessmentJsonWriter.write(result, out);
+
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(result.strategyName(), json.get("strategyName").asText());
+        assertEquals(result.comfortRating(), json.get("comfortRating").asInt());
+        assertEquals(result.dangerous(), json.get("dangerous").asBoolean());
+        assertEquals(91.37, json.get("raw").get("temperatureF").asDouble(), 0.0001);
+        assertEquals(60, json.get("raw").get("humidity").asInt());
+        assertEquals("2024-06-01T12:00", json.get("recordedAt").asText());
+    }
+
+    @Test
+    @DisplayName("Strategy comparison covers every strategy in both JSON and text form")
+    void strategyComparisonCoversEveryStrategy() throws Exception {
+        StrategyComparisonResult result = WeatherServiceImpl.getInstance().compareStrategiesStructured(weatherRecord);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        AssessmentJsonWriter.write(result, out);
+
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(WeatherStrategyFactory.StrategyType.values().length, json.get("strategies").size());
+
+        String text = WeatherServiceImpl.getInstance().compareStrategies(weatherRecord);
+        for (StrategyComparisonResult.StrategyOutcome outcome : result.outcomes()) {
+            assertTrue(text.contains("- " + outcome.strategyName() + ": " + outcome.comfortRating() + "/10\n"));
+        }
+    }
+}
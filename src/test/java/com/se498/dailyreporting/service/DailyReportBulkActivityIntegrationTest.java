@@ -0,0 +1,98 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportBulkActivityIntegrationTest {
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    private String reportId;
+
+    @BeforeEach
+    void setUp() {
+        DailyReport report = reportingService.createReport(
+                "bulk-project-" + UUID.randomUUID(), LocalDate.now(), "test-user");
+        reportId = report.getId();
+    }
+
+    @Test
+    void testAddActivitiesStoresEveryValidActivity() {
+        List<ActivityEntry> activities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            activities.add(activity("Activity " + i));
+        }
+
+        BulkActivityResult result = reportingService.addActivities(reportId, activities);
+
+        assertEquals(120, result.addedCount());
+        assertEquals(0, result.failedCount());
+        assertTrue(result.added().stream().allMatch(activity -> activity.getId() != null));
+        assertEquals(120, reportingService.getActivitiesByReport(reportId).size());
+        assertEquals(Set.of("crew-1"), reportingService.getActivity(result.added().get(0).getId())
+                .orElseThrow().getPersonnel());
+    }
+
+    @Test
+    void testInvalidItemsAreReportedWithoutFailingTheBatch() {
+        ActivityEntry missingDescription = activity(null);
+        ActivityEntry backwards = activity("Backwards");
+        backwards.setEndTime(backwards.getStartTime().minusHours(1));
+        ActivityEntry existing = reportingService.addActivityToReport(reportId, activity("Existing"));
+        ActivityEntry duplicate = activity("Duplicate");
+        duplicate.setId(existing.getId());
+
+        BulkActivityResult result = reportingService.addActivities(reportId,
+                List.of(activity("First"), missingDescription, backwards, duplicate, activity("Last")));
+
+        assertEquals(2, result.addedCount());
+        assertEquals(List.of(1, 2, 3), result.errors().stream().map(BulkActivityResult.ItemError::index).toList());
+        assertEquals("Description is required", result.errors().get(0).message());
+        assertEquals(3, reportingService.getActivitiesByReport(reportId).size());
+    }
+
+    @Test
+    void testReportIsValidatedOnce() {
+        reportingService.addActivityToReport(reportId, activity("Before submit"));
+        reportingService.submitReport(reportId, "test-user");
+
+        assertThrows(IllegalStateException.class,
+                () -> reportingService.addActivities(reportId, List.of(activity("Late"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.addActivities(UUID.randomUUID().toString(), List.of(activity("Orphan"))));
+    }
+
+    private ActivityEntry activity(String description) {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription(description);
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 5, 6, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 5, 6, 9, 30));
+        activity.setProgress(25.0);
+        activity.setStatus(ActivityStatus.IN_PROGRESS);
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("test-user");
+        return activity;
+    }
+}
@@ -0,0 +1,127 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import com.se498.dailyreporting.domain.vo.ReportKey;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportBulkCreateIntegrationTest {
+
+    private static final int PROJECT_COUNT = 300;
+    private static final int EXISTING_COUNT = 50;
+    private static final LocalDate REPORT_DATE = LocalDate.of(2024, 9, 2);
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String projectPrefix;
+    private List<ReportKey> keys;
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void setUp() {
+        projectPrefix = "bulk-project-" + UUID.randomUUID() + "-";
+        keys = new ArrayList<>();
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            keys.add(new ReportKey(projectPrefix + i, REPORT_DATE));
+        }
+    }
+
+    @AfterEach
+    void restoreStatistics() {
+        if (statistics != null) {
+            statistics.setStatisticsEnabled(statisticsWereEnabled);
+        }
+    }
+
+    @Test
+    void testExistingReportsAreSkippedWithoutPerRowLookups() {
+        List<String> existingIds = new ArrayList<>();
+        for (int i = 0; i < EXISTING_COUNT; i++) {
+            existingIds.add(reportingService.createReport(projectPrefix + i, REPORT_DATE, "author").getId());
+        }
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        BulkReportResult result = reportingService.createReports(keys, "scheduler");
+        entityManager.flush();
+
+        assertEquals(PROJECT_COUNT - EXISTING_COUNT, result.createdCount());
+        assertEquals(existingIds, result.existingIds());
+        assertEquals(PROJECT_COUNT, result.reports().size());
+        assertEquals(keys, result.reports().stream().map(BulkReportResult.Item::key).toList());
+
+        // A few MERGE chunks, one lookup and batched history and outbox inserts; nothing per report
+        assertTrue(statistics.getPrepareStatementCount() < PROJECT_COUNT / 10,
+                statistics.getPrepareStatementCount() + " statements");
+
+        entityManager.clear();
+        DailyReport created = reportingService.getReport(result.createdIds().get(0)).orElseThrow();
+        assertEquals(ReportStatus.DRAFT, created.getStatus());
+        assertEquals("scheduler", created.getCreatedBy());
+        assertEquals(0L, created.getVersion());
+
+        List<ReportStatusEvent> history = reportingService.getReportHistory(created.getId(), null, 0).events();
+        assertEquals(1, history.size());
+        assertEquals(ReportStatus.DRAFT, history.get(0).getToStatus());
+        assertEquals(1, reportingService.getReportHistory(existingIds.get(0), null, 0).events().size());
+    }
+
+    @Test
+    void testRepeatingTheCallCreatesNothing() {
+        BulkReportResult first = reportingService.createReports(keys, "scheduler");
+        BulkReportResult second = reportingService.createReports(keys, "scheduler");
+
+        assertEquals(PROJECT_COUNT, first.createdCount());
+        assertEquals(0, second.createdCount());
+        assertEquals(first.createdIds(), second.existingIds());
+        assertEquals(1, reportingService.getReportsByProject(projectPrefix + 0).size());
+    }
+
+    @Test
+    void testDuplicatePairsCollapseAndInvalidPairsAreRejected() {
+        ReportKey key = new ReportKey(projectPrefix + "dup", REPORT_DATE);
+        ReportKey nextDay = new ReportKey(projectPrefix + "dup", REPORT_DATE.plusDays(1));
+
+        BulkReportResult result = reportingService.createReports(List.of(key, nextDay, key), "scheduler");
+
+        assertEquals(List.of(key, nextDay), result.reports().stream().map(BulkReportResult.Item::key).toList());
+        assertEquals(2, result.createdCount());
+        assertEquals(2, reportingService.getReportsByProject(key.projectId()).size());
+
+        assertThrows(IllegalArgumentException.class, () -> reportingService.createReports(
+                Arrays.asList(key, new ReportKey(" ", REPORT_DATE)), "scheduler"));
+        assertThrows(IllegalArgumentException.class, () -> reportingService.createReports(
+                Arrays.asList(key, new ReportKey(projectPrefix + "x", null)), "scheduler"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportListFetchIntegrationTest {
+
+    private static final int REPORT_COUNT = 100;
+    private static final int ACTIVITIES_PER_REPORT = 2;
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String projectId;
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void setUp() {
+        projectId = "fetch-project-" + UUID.randomUUID();
+        LocalDate firstDate = LocalDate.of(2024, 1, 1);
+
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            DailyReport report = new DailyReport(UUID.randomUUID().toString(), projectId, firstDate.plusDays(i));
+            report.setCreatedBy("test-user");
+            reportRepository.save(report);
+
+            for (int j = 0; j < ACTIVITIES_PER_REPORT; j++) {
+                ActivityEntry activity = new ActivityEntry();
+                activity.setId(UUID.randomUUID().toString());
+                activity.setReportId(report.getId());
+                activity.setDescription("Activity " + j);
+                activity.setCategory("Test Category");
+                activity.setStartTime(LocalDateTime.of(2024, 1, 1, 8, 0));
+                activity.setEndTime(LocalDateTime.of(2024, 1, 1, 9, 0));
+                activity.setStatus(ActivityStatus.IN_PROGRESS);
+                activity.setPersonnel(Set.of("worker-" + i, "foreman-" + j));
+                activity.setCreatedBy("test-user");
+                activityRepository.save(activity);
+            }
+        }
+
+        // Start from an empty persistence context so every row has to come from the database
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void restoreStatistics() {
+        statistics.setStatisticsEnabled(statisticsWereEnabled);
+    }
+
+    @Test
+    void testReportsByProjectLoadActivitiesAndPersonnelInBatches() {
+        List<DailyReport> reports = reportingService.getReportsByProject(projectId);
+        int personnelCount = touchEverything(reports);
+
+        assertEquals(REPORT_COUNT, reports.size());
+        assertEquals(REPORT_COUNT * ACTIVITIES_PER_REPORT * 2, personnelCount);
+        // One fetch-joined query for reports and activities, plus one per batch of 100 personnel collections
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Expected at most 3 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testReportsByDateRangeLoadActivitiesAndPersonnelInBatches() {
+        List<DailyReport> reports = reportingService.getReportsByDateRange(
+                projectId, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        touchEverything(reports);
+
+        assertEquals(REPORT_COUNT, reports.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Expected at most 3 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Walk the object graph the way the REST, SOAP and gRPC mappers do
+     */
+    private int touchEverything(List<DailyReport> reports) {
+        int personnelCount = 0;
+        for (DailyReport report : reports) {
+            for (ActivityEntry activity : report.getActivities()) {
+                personnelCount += activity.getPersonnel().size();
+            }
+        }
+        return personnelCount;
+    }
+}
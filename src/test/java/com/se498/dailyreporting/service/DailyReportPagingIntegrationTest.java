@@ -0,0 +1,97 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportPagingIntegrationTest {
+
+    private static final int REPORT_COUNT = 25;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2023, 6, 1);
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    private String projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = "paging-project-" + UUID.randomUUID();
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            reportingService.createReport(projectId, FIRST_DATE.plusDays(i), "test-user");
+        }
+    }
+
+    @Test
+    void testPagesCoverProjectNewestFirstWithoutGapsOrDuplicates() {
+        List<DailyReport> seen = new ArrayList<>();
+        String pageToken = null;
+        int pages = 0;
+
+        do {
+            ReportPage page = reportingService.pageReportsByProject(projectId, pageToken, 10);
+            seen.addAll(page.reports());
+            pageToken = page.nextPageToken();
+            pages++;
+        } while (pageToken != null);
+
+        assertEquals(3, pages);
+        assertEquals(REPORT_COUNT, seen.size());
+        assertEquals(REPORT_COUNT, seen.stream().map(DailyReport::getId).distinct().count());
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            assertEquals(FIRST_DATE.plusDays(REPORT_COUNT - 1 - i), seen.get(i).getReportDate());
+        }
+    }
+
+    @Test
+    void testDateRangePagesStayWithinRange() {
+        LocalDate start = FIRST_DATE.plusDays(5);
+        LocalDate end = FIRST_DATE.plusDays(14);
+
+        ReportPage first = reportingService.pageReportsByDateRange(projectId, start, end, null, 6);
+        ReportPage second = reportingService.pageReportsByDateRange(projectId, start, end, first.nextPageToken(), 6);
+
+        assertEquals(6, first.reports().size());
+        assertTrue(first.hasNext());
+        assertEquals(4, second.reports().size());
+        assertFalse(second.hasNext());
+        assertEquals(end, first.reports().get(0).getReportDate());
+        assertEquals(start, second.reports().get(3).getReportDate());
+    }
+
+    @Test
+    void testStatusPagesResumeAfterToken() {
+        ReportPage first = reportingService.pageReportsByStatus(ReportStatus.DRAFT, null, 5);
+        ReportPage second = reportingService.pageReportsByStatus(ReportStatus.DRAFT, first.nextPageToken(), 5);
+
+        DailyReport lastOfFirst = first.reports().get(first.reports().size() - 1);
+        DailyReport firstOfSecond = second.reports().get(0);
+        assertTrue(firstOfSecond.getReportDate().isBefore(lastOfFirst.getReportDate())
+                || (firstOfSecond.getReportDate().equals(lastOfFirst.getReportDate())
+                && firstOfSecond.getId().compareTo(lastOfFirst.getId()) < 0));
+    }
+
+    @Test
+    void testPageSizeIsClampedAndTokensValidated() {
+        assertEquals(REPORT_COUNT, reportingService.pageReportsByProject(projectId, null, 0).reports().size());
+        assertFalse(reportingService.pageReportsByProject(projectId, "", ReportPage.MAX_PAGE_SIZE + 1).hasNext());
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.pageReportsByProject(projectId, "not a token!", 10));
+    }
+}
@@ -0,0 +1,174 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportProgressBufferIntegrationTest {
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private ActivityProgressBuffer progressBuffer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String reportId;
+    private String activityId;
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void setUp() {
+        reportId = reportingService.createReport(
+                "buffer-project-" + UUID.randomUUID(), LocalDate.now(), "test-user").getId();
+        activityId = reportingService.addActivityToReport(reportId, activity()).getId();
+    }
+
+    @AfterEach
+    void restoreStatistics() {
+        if (statistics != null) {
+            statistics.setStatisticsEnabled(statisticsWereEnabled);
+        }
+    }
+
+    /**
+     * The buffer is shared by the whole context; the rolled-back flushes of these tests put their values
+     * back into it, so it is emptied once the test transaction is gone
+     */
+    @AfterTransaction
+    void emptyBuffer() {
+        progressBuffer.release(progressBuffer.drain());
+    }
+
+    @Test
+    void testBufferedUpdatesAreCoalescedAndReadBack() {
+        reportingService.bufferActivityProgress(activityId, 10.0, "crew-a");
+        reportingService.bufferActivityProgress(activityId, 40.0, "crew-a");
+        reportingService.bufferActivityProgress(activityId, 75.0, "crew-b");
+
+        assertEquals(0.0, storedProgress(activityId));
+
+        ActivityEntry read = reportingService.getActivity(activityId).orElseThrow();
+        assertEquals(75.0, read.getProgress());
+        assertEquals(ActivityStatus.IN_PROGRESS, read.getStatus());
+        assertEquals(75.0, reportingService.calculateReportProgress(reportId));
+
+        assertEquals(1, reportingService.flushBufferedProgress());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(75.0, storedProgress(activityId));
+        ActivityEntry written = activityRepository.findById(activityId).orElseThrow();
+        assertEquals("crew-b", written.getUpdatedBy());
+        assertNotNull(written.getUpdatedAt());
+        assertEquals("crew-b", reportRepository.findById(reportId).orElseThrow().getUpdatedBy());
+        assertEquals(0, reportingService.flushBufferedProgress());
+    }
+
+    @Test
+    void testFlushKeepsTheTimeOfTheBufferedUpdate() throws InterruptedException {
+        reportingService.bufferActivityProgress(activityId, 60.0, "crew-a");
+        LocalDateTime buffered = LocalDateTime.now();
+        Thread.sleep(20);
+
+        assertEquals(1, reportingService.flushBufferedProgress());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(activityRepository.findById(activityId).orElseThrow().getUpdatedAt().isAfter(buffered));
+        assertFalse(reportRepository.findById(reportId).orElseThrow().getUpdatedAt().isAfter(buffered));
+    }
+
+    @Test
+    void testFlushWritesOneBatchPerWindow() {
+        DailyReport second = reportingService.createReport(
+                "buffer-project-" + UUID.randomUUID(), LocalDate.now(), "test-user");
+        List<String> activityIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            activityIds.add(reportingService.addActivityToReport(reportId, activity()).getId());
+            activityIds.add(reportingService.addActivityToReport(second.getId(), activity()).getId());
+        }
+        activityIds.forEach(id -> reportingService.bufferActivityProgress(id, 100.0, "crew-a"));
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        assertEquals(20, reportingService.flushBufferedProgress());
+        entityManager.flush();
+
+        // One read of the activities, one of the reports, one batched UPDATE for each table
+        // and one batched INSERT of the outbox events
+        assertTrue(statistics.getPrepareStatementCount() <= 5,
+                "Expected at most 5 statements but was " + statistics.getPrepareStatementCount());
+        entityManager.clear();
+        activityIds.forEach(id -> assertEquals(ActivityStatus.COMPLETED,
+                activityRepository.findById(id).orElseThrow().getStatus()));
+    }
+
+    @Test
+    void testSynchronousUpdatesReplaceBufferedProgress() {
+        reportingService.bufferActivityProgress(activityId, 60.0, "crew-a");
+        reportingService.updateActivityProgress(activityId, 20.0, "crew-b");
+
+        assertEquals(0, reportingService.flushBufferedProgress());
+        assertEquals(20.0, reportingService.getActivity(activityId).orElseThrow().getProgress());
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.bufferActivityProgress(activityId, 120.0, "crew-a"));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.bufferActivityProgress(UUID.randomUUID().toString(), 50.0, "crew-a"));
+    }
+
+    private double storedProgress(String id) {
+        return ((Number) entityManager.createNativeQuery("SELECT progress FROM activity_entries WHERE id = :id")
+                .setParameter("id", id)
+                .getSingleResult()).doubleValue();
+    }
+
+    private ActivityEntry activity() {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Pour footings");
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 5, 6, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 5, 6, 9, 0));
+        activity.setCreatedBy("test-user");
+        return activity;
+    }
+}
@@ -0,0 +1,178 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.TimeOrderedId;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportProjectionIntegrationTest {
+
+    private static final int REPORT_COUNT = 20;
+    private static final int ACTIVITIES_PER_REPORT = 3;
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private ActivityProgressBuffer progressBuffer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String projectId;
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void setUp() {
+        projectId = "projection-project-" + UUID.randomUUID();
+        LocalDate firstDate = LocalDate.of(2024, 2, 1);
+
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            DailyReport report = new DailyReport(TimeOrderedId.next(), projectId, firstDate.plusDays(i));
+            report.setStatus(i % 2 == 0 ? ReportStatus.DRAFT : ReportStatus.SUBMITTED);
+            report.setNotes("Notes " + i);
+            report.setCreatedBy("test-user");
+            reportRepository.save(report);
+
+            for (int j = 0; j < ACTIVITIES_PER_REPORT; j++) {
+                ActivityEntry activity = new ActivityEntry();
+                activity.setId(TimeOrderedId.next());
+                activity.setReportId(report.getId());
+                activity.setDescription("Activity " + j);
+                activity.setCategory("Test Category");
+                activity.setStartTime(LocalDateTime.of(2024, 2, 1, 7 + j, 0));
+                activity.setEndTime(LocalDateTime.of(2024, 2, 1, 8 + j, 30));
+                activity.setProgress(j * 50.0);
+                activity.setStatus(j == 2 ? ActivityStatus.COMPLETED : ActivityStatus.IN_PROGRESS);
+                activity.setPersonnel(Set.of("worker-" + i, "foreman-" + j));
+                activity.setCreatedBy("test-user");
+                activityRepository.save(activity);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void restoreStatistics() {
+        statistics.setStatisticsEnabled(statisticsWereEnabled);
+    }
+
+    @Test
+    void testReportViewsAreReadWithoutManagedEntities() {
+        List<ReportView> views = reportingService.getReportViewsByProject(projectId);
+
+        assertEquals(REPORT_COUNT, views.size());
+        assertEquals(LocalDate.of(2024, 2, 1).plusDays(REPORT_COUNT - 1), views.get(0).report().reportDate());
+        views.forEach(view -> assertEquals(ACTIVITIES_PER_REPORT, view.activities().size()));
+
+        // Reports, activities and personnel: one query each, and nothing attached to the session
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testReportViewsMatchEntityReads() {
+        List<DailyReport> reports = reportingService.getReportsByProject(projectId);
+        List<ReportView> views = reportingService.getReportViewsByProject(projectId);
+
+        assertEquals(reports.size(), views.size());
+        for (DailyReport report : reports) {
+            ReportView view = views.stream()
+                    .filter(candidate -> candidate.report().id().equals(report.getId()))
+                    .findFirst()
+                    .orElseThrow();
+
+            assertEquals(report.getStatus(), view.report().status());
+            assertEquals(report.getNotes(), view.report().notes());
+            assertEquals(report.calculateProgress(), view.progress());
+            assertEquals(report.isComplete(), view.complete());
+
+            for (ActivityEntry activity : report.getActivities()) {
+                ActivityView activityView = view.activities().stream()
+                        .filter(candidate -> candidate.activity().id().equals(activity.getId()))
+                        .findFirst()
+                        .orElseThrow();
+
+                assertEquals(activity.getProgress(), activityView.activity().progress());
+                assertEquals(activity.getPersonnel(), activityView.personnel());
+                assertEquals(activity.calculateDuration(), activityView.activity().duration());
+            }
+        }
+    }
+
+    @Test
+    void testViewsByStatusAndDateRange() {
+        assertEquals(REPORT_COUNT / 2, reportingService.getReportViewsByStatus(ReportStatus.SUBMITTED).stream()
+                .filter(view -> view.report().projectId().equals(projectId))
+                .count());
+
+        List<ReportView> range = reportingService.getReportViewsByDateRange(projectId,
+                LocalDate.of(2024, 2, 3), LocalDate.of(2024, 2, 7));
+        assertEquals(5, range.size());
+
+        assertTrue(reportingService.getReportViewsByDateRange(projectId,
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31)).isEmpty());
+    }
+
+    @Test
+    void testActivityViewsShowBufferedProgress() {
+        String reportId = reportingService.getReportViewsByProject(projectId).stream()
+                .filter(view -> view.report().status() == ReportStatus.DRAFT)
+                .findFirst()
+                .orElseThrow()
+                .report().id();
+        ActivityView first = reportingService.getActivityViewsByReport(reportId).get(0);
+
+        reportingService.bufferActivityProgress(first.activity().id(), 100.0, "buffer-user");
+        try {
+            ActivityView buffered = reportingService.getActivityViewsByReport(reportId).get(0);
+
+            assertEquals(100.0, buffered.activity().progress());
+            assertEquals(ActivityStatus.COMPLETED, buffered.activity().status());
+            assertEquals("buffer-user", buffered.activity().updatedBy());
+        } finally {
+            progressBuffer.discard(first.activity().id());
+        }
+    }
+}
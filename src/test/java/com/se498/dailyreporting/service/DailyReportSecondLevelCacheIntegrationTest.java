@@ -0,0 +1,191 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.config.HibernateCacheMetrics;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: the second-level cache is only filled by committed data
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class DailyReportSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<String> reportIds = new ArrayList<>();
+    private String projectId;
+    private String reportId;
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void setUp() {
+        projectId = "cache-project-" + UUID.randomUUID();
+        reportId = createReport(LocalDate.of(2024, 3, 1));
+        reportingService.addActivityToReport(reportId, activity("Frame walls"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> reportIds.forEach(id -> {
+            activityRepository.deleteByReportId(id);
+            reportRepository.deleteById(id);
+        }));
+    }
+
+    @AfterEach
+    void restoreStatistics() {
+        statistics.setStatisticsEnabled(statisticsWereEnabled);
+    }
+
+    @Test
+    void testRepeatedReportReadsAreServedFromCache() {
+        reportingService.getReport(reportId).orElseThrow();
+        statistics.clear();
+
+        DailyReport report = reportingService.getReport(reportId).orElseThrow();
+
+        assertEquals(1, report.getActivities().size());
+        assertEquals(Set.of("crew-1"), report.getActivities().get(0).getPersonnel());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(meterRegistry.get(HibernateCacheMetrics.HIT_RATIO_METRIC)
+                .tag("region", DailyReport.CACHE_REGION).gauge().value() > 0);
+    }
+
+    @Test
+    void testStatusChangesAndActivityChangesInvalidateCachedReads() {
+        reportingService.getReport(reportId).orElseThrow();
+
+        reportingService.submitReport(reportId, "test-user");
+        assertEquals(ReportStatus.SUBMITTED, reportingService.getReport(reportId).orElseThrow().getStatus());
+
+        reportingService.rejectReport(reportId, "Missing photos", "manager");
+        assertEquals(ReportStatus.REJECTED, reportingService.getReport(reportId).orElseThrow().getStatus());
+
+        // Bulk inserts do not touch the report's collection, so this relies on the explicit eviction
+        reportingService.addActivities(reportId, List.of(activity("Hang drywall")));
+        assertEquals(2, reportingService.getReport(reportId).orElseThrow().getActivities().size());
+
+        String activityId = reportingService.getActivitiesByReport(reportId).get(0).getId();
+        reportingService.updateActivityProgress(activityId, 100.0, "test-user");
+        assertEquals(100.0, reportingService.getActivity(activityId).orElseThrow().getProgress());
+    }
+
+    @Test
+    void testActivityWritesEvictTheCachedActivityList() {
+        assertEquals(1, reportingService.getReport(reportId).orElseThrow().getActivities().size());
+        statistics.clear();
+        assertEquals(1, reportingService.getReport(reportId).orElseThrow().getActivities().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // No status change in between, so nothing else clears the cached list
+        reportingService.addActivities(reportId, List.of(activity("Hang drywall"), activity("Tape joints")));
+        DailyReport afterBulkAdd = reportingService.findByIdWithActivities(reportId).orElseThrow();
+        assertEquals(3, afterBulkAdd.getActivities().size());
+
+        String activityId = afterBulkAdd.getActivities().get(0).getId();
+        reportingService.deleteActivity(activityId);
+        assertEquals(2, reportingService.getReport(reportId).orElseThrow().getActivities().size());
+    }
+
+    @Test
+    void testStatusTransitionsKeepOtherReportsCached() {
+        String otherId = createReport(LocalDate.of(2024, 3, 2));
+        reportingService.addActivityToReport(otherId, activity("Set trusses"));
+        reportingService.getReport(otherId).orElseThrow();
+
+        reportingService.submitReport(reportId, "test-user");
+        reportingService.approveReport(reportId, "manager");
+        statistics.clear();
+
+        assertEquals(1, reportingService.getReport(otherId).orElseThrow().getActivities().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testStatusTransitionsRefreshCachedStatusLists() {
+        reportingService.getReportsByStatus(ReportStatus.SUBMITTED);
+
+        reportingService.submitReport(reportId, "test-user");
+
+        assertTrue(reportingService.getReportsByStatus(ReportStatus.SUBMITTED).stream()
+                .anyMatch(report -> report.getId().equals(reportId)));
+    }
+
+    @Test
+    void testListQueriesAreCachedUntilReportsChange() {
+        reportingService.getReportsByProject(projectId);
+        statistics.clear();
+
+        assertEquals(1, reportingService.getReportsByProject(projectId).size());
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+
+        createReport(LocalDate.of(2024, 3, 2));
+
+        assertEquals(2, reportingService.getReportsByProject(projectId).size());
+    }
+
+    private String createReport(LocalDate reportDate) {
+        String id = reportingService.createReport(projectId, reportDate, "test-user").getId();
+        reportIds.add(id);
+        return id;
+    }
+
+    private ActivityEntry activity(String description) {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription(description);
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 3, 1, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 3, 1, 9, 0));
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("test-user");
+        return activity;
+    }
+}
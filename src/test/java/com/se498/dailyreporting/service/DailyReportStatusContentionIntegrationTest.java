@@ -0,0 +1,225 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import com.se498.dailyreporting.domain.vo.ReportKey;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: each competing call commits on its own thread
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class DailyReportStatusContentionIntegrationTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private String reportId;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        reportId = reportingService.createReport("contention-project-" + UUID.randomUUID(),
+                LocalDate.of(2024, 4, 1), "test-user").getId();
+        reportingService.addActivityToReport(reportId, activity());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            activityRepository.deleteByReportId(reportId);
+            reportRepository.deleteById(reportId);
+        });
+    }
+
+    @Test
+    void testConcurrentSubmitsHaveOneWinner() throws Exception {
+        List<Outcome> outcomes = race(i -> reportingService.submitReport(reportId, "submitter-" + i));
+
+        assertEquals(1, winners(outcomes));
+        assertEquals(ReportStatus.SUBMITTED, reportingService.getReport(reportId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testConcurrentApproveAndRejectHaveOneWinner() throws Exception {
+        reportingService.submitReport(reportId, "test-user");
+
+        List<Outcome> outcomes = race(i -> i % 2 == 0
+                ? reportingService.approveReport(reportId, "approver-" + i)
+                : reportingService.rejectReport(reportId, "Reason " + i, "rejecter-" + i));
+
+        assertEquals(1, winners(outcomes));
+        DailyReport report = reportingService.getReport(reportId).orElseThrow();
+        Outcome winner = outcomes.stream().filter(Outcome::won).findFirst().orElseThrow();
+        assertEquals(winner.report().getStatus(), report.getStatus());
+        assertEquals(winner.report().getUpdatedBy(), report.getUpdatedBy());
+
+        // Only the winner reaches the status history
+        List<ReportStatusEvent> decisions = reportingService.getReportHistory(reportId, null, 0).events().stream()
+                .filter(event -> event.getFromStatus() == ReportStatus.SUBMITTED)
+                .toList();
+        assertEquals(1, decisions.size());
+        assertEquals(report.getStatus(), decisions.get(0).getToStatus());
+    }
+
+    @Test
+    void testConcurrentBulkCreatesShareTheReports() throws Exception {
+        List<ReportKey> keys = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            keys.add(new ReportKey("contention-bulk-" + UUID.randomUUID(), LocalDate.of(2024, 4, 1)));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BulkReportResult>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return reportingService.createReports(keys, "scheduler");
+            }));
+        }
+        start.countDown();
+
+        List<BulkReportResult> results = new ArrayList<>();
+        try {
+            for (Future<BulkReportResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            List<String> ids = reportingService.createReports(keys, "cleanup").existingIds();
+            new TransactionTemplate(transactionManager).executeWithoutResult(
+                    status -> reportRepository.deleteByIdIn(ids));
+        }
+
+        // Losing a race for a key is not an error; every caller sees the winner's report
+        assertEquals(keys.size(), results.stream().mapToInt(BulkReportResult::createdCount).sum());
+        List<String> ids = results.get(0).reports().stream().map(BulkReportResult.Item::reportId).toList();
+        for (BulkReportResult result : results) {
+            assertEquals(ids, result.reports().stream().map(BulkReportResult.Item::reportId).toList());
+        }
+    }
+
+    @Test
+    void testTransitionsBumpVersionAndStaleUpdatesFail() {
+        long created = reportingService.getReport(reportId).orElseThrow().getVersion();
+        DailyReport stale = reportRepository.findById(reportId).orElseThrow();
+
+        DailyReport submitted = reportingService.submitReport(reportId, "test-user");
+        assertEquals(created + 1, submitted.getVersion());
+
+        // A copy read before the transition must not overwrite it
+        stale.setNotes("Edited from a stale copy");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> reportRepository.save(stale));
+        assertEquals(ReportStatus.SUBMITTED, reportingService.getReport(reportId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testRejectedTransitionsExplainWhy() {
+        assertThrows(IllegalStateException.class, () -> reportingService.approveReport(reportId, "approver"));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.approveReport(UUID.randomUUID().toString(), "approver"));
+
+        String emptyReportId = reportingService.createReport("contention-project-" + UUID.randomUUID(),
+                LocalDate.of(2024, 4, 2), "test-user").getId();
+        try {
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> reportingService.submitReport(emptyReportId, "test-user"));
+            assertEquals("Cannot submit a report with no activities", error.getMessage());
+        } finally {
+            reportRepository.deleteById(emptyReportId);
+        }
+    }
+
+    /**
+     * Start every call at once and collect which ones succeeded
+     */
+    private List<Outcome> race(Transition transition) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int caller = i;
+            Callable<Outcome> call = () -> {
+                start.await();
+                try {
+                    return new Outcome(transition.apply(caller));
+                } catch (IllegalStateException e) {
+                    return new Outcome(null);
+                }
+            };
+            futures.add(executor.submit(call));
+        }
+        start.countDown();
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            outcomes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return outcomes;
+    }
+
+    private static long winners(List<Outcome> outcomes) {
+        return outcomes.stream().filter(Outcome::won).count();
+    }
+
+    private ActivityEntry activity() {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Pour footings");
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 4, 1, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 4, 1, 11, 0));
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("test-user");
+        return activity;
+    }
+
+    @FunctionalInterface
+    private interface Transition {
+        DailyReport apply(int caller);
+    }
+
+    private record Outcome(DailyReport report) {
+        boolean won() {
+            return report != null;
+        }
+    }
+}
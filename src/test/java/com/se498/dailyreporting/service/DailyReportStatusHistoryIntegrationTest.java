@@ -0,0 +1,120 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.ReportStatusEvent;
+import com.se498.dailyreporting.domain.vo.RejectionReason;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportStatusHistoryIntegrationTest {
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    private String reportId;
+
+    @BeforeEach
+    void setUp() {
+        reportId = reportingService.createReport("history-project-" + UUID.randomUUID(),
+                LocalDate.of(2024, 6, 3), "author").getId();
+        reportingService.updateReport(reportId, "Author notes", "author");
+
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Set forms");
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 6, 3, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 6, 3, 10, 0));
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("author");
+        reportingService.addActivityToReport(reportId, activity);
+    }
+
+    @Test
+    void testEveryTransitionIsRecordedAndNotesAreLeftAlone() {
+        reportingService.submitReport(reportId, "author");
+        reportingService.rejectReport(reportId, RejectionReason.MISSING_SIGNATURES, "Foreman must sign", "manager");
+        reportingService.submitReport(reportId, "author");
+        reportingService.rejectReport(reportId, "Still unsigned", "manager");
+        reportingService.submitReport(reportId, "author");
+        reportingService.approveReport(reportId, "manager");
+
+        List<ReportStatusEvent> events = reportingService.getReportHistory(reportId, null, 0).events();
+
+        assertEquals(List.of(ReportStatus.DRAFT, ReportStatus.SUBMITTED, ReportStatus.REJECTED,
+                        ReportStatus.SUBMITTED, ReportStatus.REJECTED, ReportStatus.SUBMITTED, ReportStatus.APPROVED),
+                events.stream().map(ReportStatusEvent::getToStatus).toList());
+        assertNull(events.get(0).getFromStatus());
+        assertEquals(ReportStatus.REJECTED, events.get(3).getFromStatus());
+
+        ReportStatusEvent structured = events.get(2);
+        assertEquals(RejectionReason.MISSING_SIGNATURES, structured.getReasonCode());
+        assertEquals("Foreman must sign", structured.getReasonText());
+        assertEquals("manager", structured.getActor());
+
+        ReportStatusEvent freeText = events.get(4);
+        assertEquals(RejectionReason.OTHER, freeText.getReasonCode());
+        assertEquals("Still unsigned", freeText.getReasonText());
+
+        assertEquals("Author notes", reportingService.getReport(reportId).orElseThrow().getNotes());
+    }
+
+    @Test
+    void testHistoryIsPaged() {
+        reportingService.submitReport(reportId, "author");
+        reportingService.rejectReport(reportId, RejectionReason.INACCURATE_DATA, null, "manager");
+        reportingService.submitReport(reportId, "author");
+
+        List<ReportStatusEvent> events = new ArrayList<>();
+        ReportHistoryPage page = reportingService.getReportHistory(reportId, null, 3);
+        events.addAll(page.events());
+        assertTrue(page.hasNext());
+
+        page = reportingService.getReportHistory(reportId, page.nextPageToken(), 3);
+        events.addAll(page.events());
+        assertFalse(page.hasNext());
+
+        assertEquals(4, events.size());
+        assertEquals(reportingService.getReportHistory(reportId, null, 0).events(), events);
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.getReportHistory(reportId, "not base64!", 3));
+    }
+
+    @Test
+    void testAnalyticsComeFromTheHistory() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        Map<ReportStatus, Long> transitionsBefore = reportingService.countTransitionsSince(since);
+        Map<RejectionReason, Long> rejectionsBefore = reportingService.countRejectionsByReasonSince(since);
+
+        reportingService.submitReport(reportId, "author");
+        reportingService.rejectReport(reportId, RejectionReason.SAFETY_ISSUES, null, "manager");
+
+        Map<ReportStatus, Long> transitions = reportingService.countTransitionsSince(since);
+        Map<RejectionReason, Long> rejections = reportingService.countRejectionsByReasonSince(since);
+
+        assertEquals(transitionsBefore.getOrDefault(ReportStatus.SUBMITTED, 0L) + 1,
+                transitions.get(ReportStatus.SUBMITTED));
+        assertEquals(transitionsBefore.getOrDefault(ReportStatus.REJECTED, 0L) + 1,
+                transitions.get(ReportStatus.REJECTED));
+        assertEquals(rejectionsBefore.getOrDefault(RejectionReason.SAFETY_ISSUES, 0L) + 1,
+                rejections.get(RejectionReason.SAFETY_ISSUES));
+    }
+}
@@ -0,0 +1,101 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ActivityStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+@Transactional
+public class DailyReportingAnalyticsIntegrationTest {
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    private String reportId;
+
+    @BeforeEach
+    void setUp() {
+        DailyReport report = reportingService.createReport(
+                "analytics-project-" + UUID.randomUUID(), LocalDate.now(), "test-user");
+        reportId = report.getId();
+    }
+
+    @Test
+    void testEmptyReportAggregates() {
+        assertEquals(0.0, reportingService.calculateReportProgress(reportId));
+        assertFalse(reportingService.isReportComplete(reportId));
+        assertEquals(0L, reportingService.getTotalActivityDurationMinutes(reportId));
+    }
+
+    @Test
+    void testAggregatesMatchActivities() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 4, 8, 0);
+        addActivity(start, start.plusMinutes(90).plusSeconds(59), 100.0, ActivityStatus.IN_PROGRESS);
+        addActivity(start, start.plusMinutes(30), 20.0, ActivityStatus.COMPLETED);
+        addActivity(start, start.plusHours(2), 30.0, ActivityStatus.IN_PROGRESS);
+
+        assertEquals(50.0, reportingService.calculateReportProgress(reportId), 0.0001);
+        assertFalse(reportingService.isReportComplete(reportId));
+        // Each activity is truncated to whole minutes before summing: 90 + 30 + 120
+        assertEquals(240L, reportingService.getTotalActivityDurationMinutes(reportId));
+    }
+
+    @Test
+    void testReportCompleteWhenAllActivitiesComplete() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 4, 8, 0);
+        addActivity(start, start.plusHours(1), 100.0, ActivityStatus.IN_PROGRESS);
+        addActivity(start, start.plusHours(1), 40.0, ActivityStatus.COMPLETED);
+
+        assertTrue(reportingService.isReportComplete(reportId));
+    }
+
+    @Test
+    void testSummaryMatchesIndividualAnalytics() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 4, 8, 0);
+        addActivity(start, start.plusMinutes(45), 100.0, ActivityStatus.COMPLETED);
+        addActivity(start, start.plusMinutes(75), 40.0, ActivityStatus.IN_PROGRESS);
+
+        ReportSummary summary = reportingService.getReportSummary(reportId).orElseThrow();
+
+        assertEquals(reportId, summary.report().getId());
+        assertEquals(2, summary.activityCount());
+        assertEquals(reportingService.calculateReportProgress(reportId), summary.progress(), 0.0001);
+        assertEquals(reportingService.isReportComplete(reportId), summary.complete());
+        assertEquals(reportingService.getTotalActivityDurationMinutes(reportId), summary.totalDurationMinutes());
+        assertTrue(reportingService.getReportSummary(UUID.randomUUID().toString()).isEmpty());
+    }
+
+    @Test
+    void testUnknownReportRejected() {
+        String unknownId = UUID.randomUUID().toString();
+
+        assertThrows(IllegalArgumentException.class, () -> reportingService.calculateReportProgress(unknownId));
+        assertThrows(IllegalArgumentException.class, () -> reportingService.isReportComplete(unknownId));
+    }
+
+    private void addActivity(LocalDateTime start, LocalDateTime end, double progress, ActivityStatus status) {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Analytics activity");
+        activity.setCategory("Test Category");
+        activity.setStartTime(start);
+        activity.setEndTime(end);
+        activity.setProgress(progress);
+        activity.setStatus(status);
+        activity.setCreatedBy("test-user");
+        reportingService.addActivityToReport(reportId, activity);
+    }
+}
@@ -0,0 +1,192 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.domain.vo.RollupPeriod;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: rollups are written by the outbox relay once writes commit
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class ProjectRollupIntegrationTest {
+
+    // A Monday, so the first two reports share a week
+    private static final LocalDate MONDAY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private ReportEventOutbox outbox;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> reportIds = new ArrayList<>();
+    private String projectId;
+    private String mondayId;
+    private String halfDoneActivityId;
+    private String nextMondayId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = "rollup-project-" + UUID.randomUUID();
+
+        // Three hours, one of two activities complete, 75% progress
+        mondayId = createReport(MONDAY);
+        addActivity(mondayId, 8, 10, 100.0);
+        halfDoneActivityId = addActivity(mondayId, 10, 11, 50.0).getId();
+
+        // Two hours, nothing done, submitted
+        String tuesdayId = createReport(MONDAY.plusDays(1));
+        addActivity(tuesdayId, 7, 8, 0.0);
+        addActivity(tuesdayId, 8, 9, 0.0);
+        reportingService.submitReport(tuesdayId, "author");
+
+        // No activities
+        nextMondayId = createReport(MONDAY.plusWeeks(1));
+        relayAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> reportRepository.deleteByIdIn(reportIds));
+        jdbcTemplate.update("DELETE FROM project_daily_rollups WHERE project_id = ?", projectId);
+    }
+
+    @Test
+    void testDailySeriesFollowsTheReports() {
+        List<RollupPoint> days = reportingService.getProjectTimeSeries(projectId, START, END, RollupPeriod.DAY);
+
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusWeeks(1)),
+                days.stream().map(RollupPoint::periodStart).toList());
+        RollupPoint monday = days.get(0);
+        assertEquals(1, monday.reportCount());
+        assertEquals(Map.of(ReportStatus.DRAFT, 1), monday.reportsByStatus());
+        assertEquals(2, monday.activityCount());
+        assertEquals(1, monday.completedActivityCount());
+        assertEquals(75.0, monday.averageProgress());
+        assertEquals(3.0, monday.activityHours());
+
+        assertEquals(0, days.get(2).activityCount());
+        assertEquals(0.0, days.get(2).averageProgress());
+    }
+
+    @Test
+    void testWeeklySeriesAddsUpTheDays() {
+        List<RollupPoint> weeks = reportingService.getProjectTimeSeries(projectId, START, END, RollupPeriod.WEEK);
+
+        assertEquals(2, weeks.size());
+        RollupPoint first = weeks.get(0);
+        assertEquals(MONDAY, first.periodStart());
+        assertEquals(2, first.reportCount());
+        assertEquals(Map.of(ReportStatus.DRAFT, 1, ReportStatus.SUBMITTED, 1), first.reportsByStatus());
+        assertEquals(4, first.activityCount());
+        assertEquals(37.5, first.averageProgress());
+        assertEquals(5.0, first.activityHours());
+        assertEquals(MONDAY.plusWeeks(1), weeks.get(1).periodStart());
+
+        List<RollupPoint> months = reportingService.getProjectTimeSeries(projectId, START, END, RollupPeriod.MONTH);
+        assertEquals(1, months.size());
+        assertEquals(3, months.get(0).reportCount());
+    }
+
+    @Test
+    void testWritesAndDeletesReachTheRollupsOnRelay() {
+        reportingService.updateActivityProgress(halfDoneActivityId, 100.0, "author");
+        reportingService.deleteReport(nextMondayId);
+
+        // Nothing changes until the relay runs
+        assertEquals(3, dailySeries().size());
+        relayAll();
+
+        List<RollupPoint> days = dailySeries();
+        assertEquals(2, days.size());
+        assertEquals(2, days.get(0).completedActivityCount());
+        assertEquals(100.0, days.get(0).averageProgress());
+    }
+
+    @Test
+    void testRebuildRestoresTheRollups() {
+        jdbcTemplate.update("DELETE FROM project_daily_rollups WHERE project_id = ?", projectId);
+        assertTrue(dailySeries().isEmpty());
+
+        assertTrue(reportingService.rebuildRollups() >= 3);
+
+        List<RollupPoint> days = dailySeries();
+        assertEquals(3, days.size());
+        assertEquals(3.0, days.get(0).activityHours());
+        assertEquals(Map.of(ReportStatus.SUBMITTED, 1), days.get(1).reportsByStatus());
+    }
+
+    @Test
+    void testInvalidRequestsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.getProjectTimeSeries(projectId, END, START, RollupPeriod.DAY));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.getProjectTimeSeries(" ", START, END, RollupPeriod.DAY));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.getProjectTimeSeries(projectId, START, END, null));
+    }
+
+    private List<RollupPoint> dailySeries() {
+        return reportingService.getProjectTimeSeries(projectId, START, END, RollupPeriod.DAY);
+    }
+
+    private void relayAll() {
+        int relayed;
+        do {
+            relayed = outbox.relay(ReportEventOutbox.MAX_READ_SIZE);
+        } while (relayed > 0);
+    }
+
+    private String createReport(LocalDate reportDate) {
+        String reportId = reportingService.createReport(projectId, reportDate, "author").getId();
+        reportIds.add(reportId);
+        return reportId;
+    }
+
+    private ActivityEntry addActivity(String reportId, int startHour, int endHour, double progress) {
+        LocalDateTime day = reportRepository.findById(reportId).orElseThrow().getReportDate().atStartOfDay();
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Activity " + startHour);
+        activity.setCategory("Test Category");
+        activity.setStartTime(day.plusHours(startHour));
+        activity.setEndTime(day.plusHours(endHour));
+        activity.setProgress(progress);
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("author");
+        return reportingService.addActivityToReport(reportId, activity);
+    }
+}
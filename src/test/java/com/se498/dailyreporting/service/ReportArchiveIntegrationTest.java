@@ -0,0 +1,179 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.controller.DailyReportViewController;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.bo.DailyReport;
+import com.se498.dailyreporting.domain.vo.ReportKey;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: each archive batch commits on its own
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class ReportArchiveIntegrationTest {
+
+    // No other test writes reports this far back, so archiving before the cutoff only meets reports made here
+    private static final LocalDate OLD_DATE = LocalDate.of(1902, 3, 1);
+    private static final LocalDate CUTOFF = LocalDate.of(1903, 1, 1);
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private ReportArchiver archiver;
+
+    @Autowired
+    private DailyReportViewController viewController;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> reportIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (!reportIds.isEmpty()) {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> reportRepository.deleteByIdIn(reportIds));
+            reportIds.forEach(id -> jdbcTemplate.update("DELETE FROM daily_reports_archive WHERE id = ?", id));
+        }
+    }
+
+    @Test
+    void testOldApprovedReportsMoveToTheArchiveAndStayReadable() throws InterruptedException {
+        List<String> approved = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            approved.add(approvedReport(OLD_DATE.plusDays(day)));
+        }
+        String draft = createReport(OLD_DATE.plusDays(10));
+        String recent = approvedReport(CUTOFF);
+
+        assertEquals(3, archiver.archiveBefore(CUTOFF));
+
+        // Gone from the active tables, and from the status queries over them
+        approved.forEach(id -> assertFalse(reportRepository.existsById(id)));
+        List<String> activeApproved = reportingService.getReportsByStatus(ReportStatus.APPROVED).stream()
+                .map(DailyReport::getId)
+                .toList();
+        assertTrue(approved.stream().noneMatch(activeApproved::contains));
+        assertTrue(reportRepository.existsById(draft));
+        assertTrue(reportRepository.existsById(recent));
+
+        DailyReport archived = reportingService.getReport(approved.get(0)).orElseThrow();
+        assertEquals(ReportStatus.APPROVED, archived.getStatus());
+        assertEquals(OLD_DATE, archived.getReportDate());
+        assertEquals("manager", archived.getUpdatedBy());
+        assertEquals(2, archived.getActivities().size());
+        assertEquals(Set.of("crew-0", "crew-100"), archived.getActivities().get(0).getPersonnel());
+        assertEquals(100.0, archived.calculateProgress());
+
+        assertTrue(reportingService.getReport(UUID.randomUUID().toString()).isEmpty());
+        assertEquals(0, archiver.archiveBefore(CUTOFF));
+    }
+
+    @Test
+    void testArchivedReportsCanBeViewedWithTheirAnalytics() throws InterruptedException {
+        String reportId = approvedReport(OLD_DATE);
+        assertEquals(1, archiver.archiveBefore(CUTOFF));
+
+        Model model = new ExtendedModelMap();
+        assertEquals("dailyreport/view", viewController.viewReport(reportId, model));
+        assertEquals(reportId, ((DailyReport) model.getAttribute("report")).getId());
+        assertEquals(100.0, model.getAttribute("progress"));
+        assertEquals(true, model.getAttribute("isComplete"));
+        assertEquals(120L, model.getAttribute("totalDuration"));
+
+        assertEquals(100.0, reportingService.calculateReportProgress(reportId));
+        assertTrue(reportingService.isReportComplete(reportId));
+        assertEquals(120L, reportingService.getTotalActivityDurationMinutes(reportId));
+        assertEquals(2, reportingService.getActivitiesByReport(reportId).size());
+        assertEquals(2, reportingService.getActivityViewsByReport(reportId).size());
+        assertEquals(2, reportingService.findByIdWithActivities(reportId).orElseThrow().getActivities().size());
+    }
+
+    @Test
+    void testArchivingRunsInBatches() {
+        for (int day = 0; day < 3; day++) {
+            approvedReport(OLD_DATE.plusDays(day));
+        }
+
+        assertEquals(2, reportingService.archiveReports(CUTOFF, 2));
+        assertEquals(1, reportingService.archiveReports(CUTOFF, 2));
+        assertEquals(0, reportingService.archiveReports(CUTOFF, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> reportingService.archiveReports(CUTOFF, 0));
+        assertThrows(IllegalArgumentException.class, () -> reportingService.archiveReports(null, 2));
+    }
+
+    @Test
+    void testArchivedReportsStillOwnTheirProjectAndDate() throws InterruptedException {
+        String reportId = approvedReport(OLD_DATE);
+        DailyReport report = reportingService.getReport(reportId).orElseThrow();
+        assertEquals(1, archiver.archiveBefore(CUTOFF));
+
+        assertThrows(IllegalStateException.class,
+                () -> reportingService.createReport(report.getProjectId(), OLD_DATE, "author"));
+
+        ReportKey archivedKey = new ReportKey(report.getProjectId(), OLD_DATE);
+        ReportKey freeKey = new ReportKey(report.getProjectId(), OLD_DATE.plusDays(1));
+        BulkReportResult result = reportingService.createReports(List.of(archivedKey, freeKey), "scheduler");
+        reportIds.addAll(result.createdIds());
+
+        assertEquals(List.of(reportId), result.existingIds());
+        assertEquals(1, result.createdCount());
+        assertEquals(reportId, reportingService.getReport(reportId).orElseThrow().getId());
+        assertTrue(reportRepository.findByProjectIdAndReportDate(report.getProjectId(), OLD_DATE).isEmpty());
+    }
+
+    private String approvedReport(LocalDate reportDate) {
+        String reportId = createReport(reportDate);
+        reportingService.submitReport(reportId, "author");
+        reportingService.approveReport(reportId, "manager");
+        return reportId;
+    }
+
+    private String createReport(LocalDate reportDate) {
+        String reportId = reportingService.createReport("archive-project-" + UUID.randomUUID(), reportDate, "author")
+                .getId();
+        reportIds.add(reportId);
+        for (int i = 0; i < 2; i++) {
+            ActivityEntry activity = new ActivityEntry();
+            activity.setDescription("Activity " + i);
+            activity.setCategory("Test Category");
+            activity.setStartTime(reportDate.atTime(7 + i, 0));
+            activity.setEndTime(reportDate.atTime(8 + i, 0));
+            activity.setProgress(100.0);
+            activity.setPersonnel(Set.of("crew-" + i, "crew-" + (i + 100)));
+            activity.setCreatedBy("author");
+            reportingService.addActivityToReport(reportId, activity);
+        }
+        return reportId;
+    }
+}
@@ -0,0 +1,251 @@
+package com.se498.dailyreporting.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.vo.ReportEventType;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import com.se498.dailyreporting.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: events are only relayed once the write that recorded them commits
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class ReportEventOutboxIntegrationTest {
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private ReportEventOutbox outbox;
+
+    @Autowired
+    private InProcessReportEventSink liveEvents;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<String> reportIds = new ArrayList<>();
+    private long startPosition;
+
+    @BeforeEach
+    void setUp() {
+        relayAll();
+        startPosition = outboxRepository.findMaxPosition().orElse(0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> reportIds.forEach(id -> {
+            activityRepository.deleteByReportId(id);
+            reportRepository.findById(id).ifPresent(reportRepository::delete);
+        }));
+    }
+
+    @Test
+    void testEveryWriteIsRelayedInCommitOrder() {
+        String reportId = createReport();
+        reportingService.updateReport(reportId, "Crane on site", "author");
+        String activityId = reportingService.addActivityToReport(reportId, activity()).getId();
+        reportingService.updateActivityProgress(activityId, 50.0, "author");
+        reportingService.submitReport(reportId, "author");
+        reportingService.rejectReport(reportId, "Missing photos", "manager");
+        reportingService.deleteActivity(activityId);
+        reportingService.deleteReport(reportId);
+
+        relayAll();
+        List<ReportEvent> events = eventsFor(reportId);
+
+        assertEquals(List.of(ReportEventType.REPORT_CREATED, ReportEventType.REPORT_UPDATED,
+                        ReportEventType.ACTIVITY_ADDED, ReportEventType.ACTIVITY_UPDATED,
+                        ReportEventType.REPORT_SUBMITTED, ReportEventType.REPORT_REJECTED,
+                        ReportEventType.ACTIVITY_DELETED, ReportEventType.REPORT_DELETED),
+                events.stream().map(ReportEvent::type).toList());
+        assertEquals(activityId, events.get(2).activityId());
+        assertEquals("manager", events.get(5).actor());
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(events.get(i - 1).position() < events.get(i).position());
+        }
+    }
+
+    @Test
+    void testFailedWritesRecordNothing() {
+        String reportId = createReport();
+
+        assertThrows(IllegalStateException.class, () -> reportingService.submitReport(reportId, "author"));
+        relayAll();
+
+        assertEquals(List.of(ReportEventType.REPORT_CREATED),
+                eventsFor(reportId).stream().map(ReportEvent::type).toList());
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outbox.record(ReportEventType.REPORT_UPDATED, reportId, "outside"));
+    }
+
+    @Test
+    void testLiveListenersOnlyHearCommittedBatches() {
+        List<ReportEvent> heard = new CopyOnWriteArrayList<>();
+        Runnable unsubscribe = liveEvents.subscribe(heard::add);
+        try {
+            String reportId = createReport();
+
+            // A relay that rolls back leaves its events pending and tells no one
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                outbox.relay(ReportEventOutbox.MAX_READ_SIZE);
+                status.setRollbackOnly();
+            });
+            assertTrue(heard.isEmpty());
+            assertTrue(eventsFor(reportId).isEmpty());
+
+            relayAll();
+            assertTrue(heard.stream().anyMatch(event -> event.reportId().equals(reportId)
+                    && event.type() == ReportEventType.REPORT_CREATED));
+        } finally {
+            unsubscribe.run();
+        }
+    }
+
+    @Test
+    void testPruneKeepsTheLastRelayedEvent() {
+        createReport();
+        createReport();
+        createReport();
+        relayAll();
+        long last = outbox.lastPosition();
+
+        assertEquals(0, outbox.prune(LocalDateTime.now().minusDays(1), 2));
+        int pruned;
+        do {
+            pruned = outbox.prune(LocalDateTime.now().plusMinutes(1), 2);
+            assertTrue(pruned <= 2);
+        } while (pruned > 0);
+
+        assertEquals(last, outboxRepository.findMinPosition().orElseThrow());
+        assertEquals(last, outbox.lastPosition());
+
+        // Numbering carries on after the kept event
+        String reportId = createReport();
+        relayAll();
+        assertEquals(last + 1, eventsFor(reportId).get(0).position());
+    }
+
+    @Test
+    void testFileSinkAppendsJsonLines(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("report-events.jsonl");
+        FileReportEventSink sink = new FileReportEventSink(file, objectMapper);
+        LocalDateTime now = LocalDateTime.now();
+
+        sink.publish(List.of(new ReportEvent(1, "event-1", ReportEventType.REPORT_CREATED, "report-1", null,
+                "author", now)));
+        sink.publish(List.of(new ReportEvent(2, "event-2", ReportEventType.ACTIVITY_ADDED, "report-1", "activity-1",
+                "author", now)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(2, second.get("position").asLong());
+        assertEquals("ACTIVITY_ADDED", second.get("type").asText());
+        assertEquals("activity-1", second.get("activityId").asText());
+    }
+
+    @Test
+    void testFileSinkOnlyAppendsCommittedEvents(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("report-events.jsonl");
+        FileReportEventSink sink = new FileReportEventSink(file, objectMapper);
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            sink.publish(List.of(new ReportEvent(1, "event-1", ReportEventType.REPORT_CREATED, "report-1", null,
+                    "author", now)));
+            assertFalse(Files.exists(file));
+            status.setRollbackOnly();
+        });
+        assertFalse(Files.exists(file));
+
+        transaction.executeWithoutResult(status -> sink.publish(List.of(new ReportEvent(1, "event-2",
+                ReportEventType.REPORT_CREATED, "report-1", null, "author", now))));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertEquals("event-2", objectMapper.readTree(lines.get(0)).get("id").asText());
+    }
+
+    private void relayAll() {
+        // Drains everything recorded so far, including events from other tests
+        int relayed;
+        do {
+            relayed = outbox.relay(ReportEventOutbox.MAX_READ_SIZE);
+        } while (relayed > 0);
+    }
+
+    private List<ReportEvent> eventsFor(String reportId) {
+        List<ReportEvent> events = new ArrayList<>();
+        long position = startPosition;
+        List<ReportEvent> page;
+        do {
+            page = outbox.eventsAfter(position, ReportEventOutbox.MAX_READ_SIZE);
+            for (ReportEvent event : page) {
+                position = event.position();
+                if (event.reportId().equals(reportId)) {
+                    events.add(event);
+                }
+            }
+        } while (page.size() == ReportEventOutbox.MAX_READ_SIZE);
+        return events;
+    }
+
+    private String createReport() {
+        String id = reportingService.createReport("outbox-project-" + UUID.randomUUID(),
+                LocalDate.of(2024, 7, 1), "author").getId();
+        reportIds.add(id);
+        return id;
+    }
+
+    private ActivityEntry activity() {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Lift steel");
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 7, 1, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 7, 1, 12, 0));
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("author");
+        return activity;
+    }
+}
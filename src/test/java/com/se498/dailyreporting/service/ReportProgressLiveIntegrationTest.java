@@ -0,0 +1,189 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.Disposable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: subscribers only hear about committed writes
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class ReportProgressLiveIntegrationTest {
+
+    // reporting.live-progress.max-updates-per-second defaults to 2
+    private static final long WINDOW_MILLIS = 500;
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private ReportProgressBus progressBus;
+
+    @Autowired
+    private ActivityProgressBuffer progressBuffer;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<ReportProgress> received = new CopyOnWriteArrayList<>();
+    private String reportId;
+    private String activityId;
+    private Disposable subscription;
+
+    @BeforeEach
+    void setUp() {
+        reportId = reportingService.createReport("live-project-" + UUID.randomUUID(),
+                LocalDate.of(2024, 8, 1), "author").getId();
+        activityId = reportingService.addActivityToReport(reportId, activity()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            activityRepository.deleteByReportId(reportId);
+            reportRepository.deleteById(reportId);
+        });
+    }
+
+    @Test
+    void testSubscribersStartWithCurrentStateAndFollowCommits() {
+        watch();
+        awaitUntil(() -> !received.isEmpty());
+        ReportProgress initial = received.get(0);
+        assertEquals(ReportStatus.DRAFT, initial.status());
+        assertEquals(1, initial.activityCount());
+        assertEquals(0.0, initial.progress());
+
+        reportingService.updateActivityProgress(activityId, 100.0, "foreman");
+        awaitUntil(() -> latest().complete());
+        assertEquals(100.0, latest().progress());
+        assertEquals(1, latest().completedActivityCount());
+        assertEquals("foreman", latest().updatedBy());
+
+        reportingService.submitReport(reportId, "author");
+        awaitUntil(() -> latest().status() == ReportStatus.SUBMITTED);
+    }
+
+    @Test
+    void testInitialStateIncludesBufferedProgress() {
+        reportingService.bufferActivityProgress(activityId, 40.0, "foreman");
+        try {
+            watch();
+            awaitUntil(() -> !received.isEmpty());
+            assertEquals(40.0, received.get(0).progress());
+        } finally {
+            progressBuffer.discard(activityId);
+        }
+    }
+
+    @Test
+    void testRapidUpdatesAreCoalesced() {
+        watch();
+        awaitUntil(() -> !received.isEmpty());
+
+        long started = System.currentTimeMillis();
+        for (int progress = 1; progress <= 20; progress++) {
+            reportingService.updateActivityProgress(activityId, progress, "foreman");
+        }
+        awaitUntil(() -> latest().progress() == 20.0);
+        long elapsed = System.currentTimeMillis() - started;
+
+        // One update per window at most, each carrying the latest state
+        int live = received.size() - 1;
+        assertTrue(live <= elapsed / WINDOW_MILLIS + 1, live + " updates in " + elapsed + " ms");
+        assertTrue(live < 20);
+    }
+
+    @Test
+    void testRolledBackWritesAreNotPushed() throws InterruptedException {
+        watch();
+        awaitUntil(() -> !received.isEmpty());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reportingService.updateActivityProgress(activityId, 75.0, "foreman");
+            status.setRollbackOnly();
+        });
+        Thread.sleep(WINDOW_MILLIS * 2);
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void testReportsAreOnlyWatchedWhileSubscribed() {
+        assertFalse(progressBus.isWatched(reportId));
+
+        watch();
+        assertTrue(progressBus.isWatched(reportId));
+
+        subscription.dispose();
+        assertFalse(progressBus.isWatched(reportId));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.watchReportProgress(UUID.randomUUID().toString()));
+    }
+
+    private void watch() {
+        subscription = reportingService.watchReportProgress(reportId).subscribe(received::add);
+    }
+
+    private ReportProgress latest() {
+        return received.get(received.size() - 1);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 10 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting");
+            }
+        }
+    }
+
+    private ActivityEntry activity() {
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription("Pour slab");
+        activity.setCategory("Test Category");
+        activity.setStartTime(LocalDateTime.of(2024, 8, 1, 7, 0));
+        activity.setEndTime(LocalDateTime.of(2024, 8, 1, 15, 0));
+        activity.setPersonnel(Set.of("crew-1"));
+        activity.setCreatedBy("author");
+        return activity;
+    }
+}
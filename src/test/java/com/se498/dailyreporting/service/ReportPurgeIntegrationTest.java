@@ -0,0 +1,268 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.controller.ReportPurgeController;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.repository.ActivityEntryRepository;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: each purge batch commits on its own
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class ReportPurgeIntegrationTest {
+
+    // No other test writes reports this far back, so a purge of these dates only meets reports made here
+    private static final LocalDate PURGE_START = LocalDate.of(1901, 1, 1);
+    private static final LocalDate PURGE_END = LocalDate.of(1901, 1, 31);
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ActivityEntryRepository activityRepository;
+
+    @Autowired
+    private ReportPurgeController purgeController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> reportIds = new ArrayList<>();
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @AfterEach
+    void tearDown() {
+        // Activities and personnel go with the reports through the foreign keys
+        if (!reportIds.isEmpty()) {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> reportRepository.deleteByIdIn(reportIds));
+        }
+    }
+
+    @AfterEach
+    void restoreStatistics() {
+        if (statistics != null) {
+            statistics.setStatisticsEnabled(statisticsWereEnabled);
+        }
+    }
+
+    @Test
+    void testDeletingAReportTakesItsActivitiesAndPersonnelInAFewStatements() {
+        String reportId = createReport("delete-project-", LocalDate.of(2024, 6, 3), 20);
+        List<String> activityIds = activityRepository.findByReportId(reportId).stream()
+                .map(ActivityEntry::getId)
+                .toList();
+        assertEquals(40, countPersonnel(activityIds));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        reportingService.deleteReport(reportId);
+
+        // The report check, two deletes and the outbox event, however many activities there were
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                statistics.getPrepareStatementCount() + " statements");
+        assertFalse(reportRepository.existsById(reportId));
+        assertTrue(activityRepository.findAllById(activityIds).isEmpty());
+        assertEquals(0, countPersonnel(activityIds));
+    }
+
+    @Test
+    void testSubmittedReportsAreNotDeleted() {
+        String reportId = createReport("delete-project-", LocalDate.of(2024, 6, 4), 2);
+        reportingService.submitReport(reportId, "author");
+
+        assertThrows(IllegalStateException.class, () -> reportingService.deleteReport(reportId));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.deleteReport(UUID.randomUUID().toString()));
+
+        assertTrue(reportRepository.existsById(reportId));
+        assertEquals(2, activityRepository.findByReportId(reportId).size());
+    }
+
+    @Test
+    void testPurgeDeletesFinishedReportsInTheRangeInBatches() {
+        List<String> finished = new ArrayList<>();
+        for (int day = 1; day <= 7; day++) {
+            String reportId = createReport("purge-project-", PURGE_START.plusDays(day - 1), 2);
+            reportingService.submitReport(reportId, "author");
+            if (day % 2 == 0) {
+                reportingService.rejectReport(reportId, "Missing photos", "manager");
+            } else {
+                reportingService.approveReport(reportId, "manager");
+            }
+            finished.add(reportId);
+        }
+        String draft = createReport("purge-project-", PURGE_START.plusDays(7), 1);
+        String submitted = createReport("purge-project-", PURGE_START.plusDays(8), 1);
+        reportingService.submitReport(submitted, "author");
+        String outsideRange = createReport("purge-project-", PURGE_END.plusDays(1), 1);
+        reportingService.submitReport(outsideRange, "author");
+        reportingService.approveReport(outsideRange, "manager");
+        List<String> activityIds = finished.stream()
+                .flatMap(id -> activityRepository.findByReportId(id).stream())
+                .map(ActivityEntry::getId)
+                .toList();
+
+        ReportPurge purge = runPurge(false);
+        assertEquals(7, purge.purgedCount());
+        assertNotNull(purge.finishedAt());
+
+        // Approved and rejected reports go, and only from the range; work in progress stays
+        finished.forEach(id -> assertFalse(reportRepository.existsById(id)));
+        assertTrue(activityRepository.findAllById(activityIds).isEmpty());
+        assertEquals(0, countPersonnel(activityIds));
+        assertTrue(reportRepository.existsById(draft));
+        assertTrue(reportRepository.existsById(submitted));
+        assertTrue(reportRepository.existsById(outsideRange));
+        assertEquals(1, activityRepository.findByReportId(outsideRange).size());
+
+        assertEquals(2, runPurge(true).purgedCount());
+        assertFalse(reportRepository.existsById(draft));
+        assertFalse(reportRepository.existsById(submitted));
+        assertTrue(reportRepository.existsById(outsideRange));
+    }
+
+    @Test
+    void testPurgeReachesArchivedReports() {
+        String archived = createReport("purge-project-", PURGE_START, 2);
+        reportingService.submitReport(archived, "author");
+        reportingService.approveReport(archived, "manager");
+        String active = createReport("purge-project-", PURGE_START.plusDays(1), 1);
+        reportingService.submitReport(active, "author");
+        reportingService.approveReport(active, "manager");
+        assertEquals(1, reportingService.archiveReports(PURGE_START.plusDays(1), 10));
+        assertTrue(reportingService.getReport(archived).isPresent());
+
+        assertEquals(2, runPurge(false).purgedCount());
+
+        assertTrue(reportingService.getReport(archived).isEmpty());
+        assertTrue(reportingService.getReport(active).isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM activity_entries_archive WHERE report_id = ?", Integer.class, archived));
+    }
+
+    @Test
+    void testOnlyAdminsCanPurge() {
+        UserDetails user = User.withUsername("author").password("secret").roles("USER").build();
+        UserDetails admin = User.withUsername("admin").password("secret").roles("ADMIN").build();
+
+        assertEquals(HttpStatus.FORBIDDEN, purgeController.startPurge(PURGE_START, PURGE_END, true, user)
+                .getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, purgeController.getPurge(UUID.randomUUID().toString(), user)
+                .getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, purgeController.startPurge(PURGE_END, PURGE_START, false, admin)
+                .getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, purgeController.getPurge(UUID.randomUUID().toString(), admin)
+                .getStatusCode());
+    }
+
+    @Test
+    void testPurgeRejectsInvalidRanges() {
+        ReportPurgeJob job = new ReportPurgeJob(reportingService, 3, 10);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> job.submit(PURGE_END, PURGE_START, false, "admin"));
+            assertThrows(IllegalArgumentException.class, () -> job.submit(null, PURGE_END, false, "admin"));
+            assertTrue(job.find(UUID.randomUUID().toString()).isEmpty());
+        } finally {
+            job.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ReportPurgeJob(reportingService, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> reportingService.purgeReports(PURGE_START, PURGE_END, false, 0, "admin"));
+    }
+
+    private ReportPurge runPurge(boolean force) {
+        ReportPurgeJob job = new ReportPurgeJob(reportingService, 3, 10);
+        try {
+            ReportPurge purge = awaitFinished(job, job.submit(PURGE_START, PURGE_END, force, "admin").id());
+            assertEquals(ReportPurge.State.COMPLETED, purge.state(), purge.error());
+            return purge;
+        } finally {
+            job.shutdown();
+        }
+    }
+
+    private ReportPurge awaitFinished(ReportPurgeJob job, String purgeId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            ReportPurge purge = job.find(purgeId).orElseThrow();
+            if (purge.isFinished()) {
+                return purge;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("Purge did not finish within 10 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting");
+            }
+        }
+    }
+
+    private int countPersonnel(List<String> activityIds) {
+        if (activityIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", activityIds.stream().map(id -> "?").toList());
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM activity_personnel WHERE activity_id IN (" + placeholders + ")",
+                Integer.class, activityIds.toArray());
+        return count != null ? count : 0;
+    }
+
+    private String createReport(String projectPrefix, LocalDate reportDate, int activityCount) {
+        String reportId = reportingService.createReport(projectPrefix + UUID.randomUUID(), reportDate, "author")
+                .getId();
+        reportIds.add(reportId);
+        for (int i = 0; i < activityCount; i++) {
+            ActivityEntry activity = new ActivityEntry();
+            activity.setDescription("Activity " + i);
+            activity.setCategory("Test Category");
+            activity.setStartTime(reportDate.atTime(7, 0));
+            activity.setEndTime(reportDate.atTime(9, 0));
+            activity.setPersonnel(Set.of("crew-" + i, "crew-" + (i + 100)));
+            activity.setCreatedBy("author");
+            reportingService.addActivityToReport(reportId, activity);
+        }
+        return reportId;
+    }
+}
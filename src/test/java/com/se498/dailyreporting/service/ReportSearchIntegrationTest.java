@@ -0,0 +1,210 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.TestDailyReportingApplication;
+import com.se498.dailyreporting.domain.bo.ActivityEntry;
+import com.se498.dailyreporting.domain.vo.ReportStatus;
+import com.se498.dailyreporting.repository.DailyReportRepository;
+import com.se498.dailyreporting.repository.ReportArchiveRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: the index is updated by the outbox relay once writes commit
+ */
+@SpringBootTest(classes = {TestDailyReportingApplication.class})
+@ActiveProfiles("test")
+public class ReportSearchIntegrationTest {
+
+    private static final LocalDate REPORT_DATE = LocalDate.of(2024, 3, 4);
+
+    @Autowired
+    private DailyReportingService reportingService;
+
+    @Autowired
+    private ReportSearchService searchService;
+
+    @Autowired
+    private ReportSearchIndex searchIndex;
+
+    @Autowired
+    private ReportEventOutbox outbox;
+
+    @Autowired
+    private DailyReportRepository reportRepository;
+
+    @Autowired
+    private ReportArchiveRepository archiveRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> reportIds = new ArrayList<>();
+    private String projectId;
+    private String craneReportId;
+    private String pourReportId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = "search-project-" + UUID.randomUUID();
+
+        craneReportId = createReport(REPORT_DATE);
+        reportingService.updateReport(craneReportId, "Tower crane delivered, inspection pending", "author");
+        addActivity(craneReportId, "Erect tower crane base", "Lifting", "rigger-7");
+
+        pourReportId = createReport(REPORT_DATE.plusDays(1));
+        addActivity(pourReportId, "Concrete pour for level 2 slab", "Concrete", "finisher-3");
+        addActivity(pourReportId, "Strip formwork", "Carpentry", "carpenter-1");
+        relayAll();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reportRepository.deleteByIdIn(reportIds);
+            archiveRepository.deleteByIdIn(reportIds);
+        });
+        searchIndex.remove(reportIds);
+        searchIndex.commit();
+    }
+
+    @Test
+    void testNotesAndActivitiesAreSearchableWithHighlights() {
+        ReportSearchPage crane = search("crane");
+        assertEquals(1, crane.totalHits());
+        ReportSearchHit hit = crane.hits().get(0);
+        assertEquals(craneReportId, hit.reportId());
+        assertEquals(projectId, hit.projectId());
+        assertEquals(REPORT_DATE, hit.reportDate());
+        assertEquals(ReportStatus.DRAFT, hit.status());
+        assertEquals(List.of("notes", "description"),
+                hit.highlights().stream().map(ReportSearchHit.Highlight::field).toList());
+        assertTrue(hit.highlights().get(0).fragment().contains("<em>crane</em>"),
+                hit.highlights().get(0).fragment());
+
+        // Terms are ANDed, and match whichever field they appear in
+        assertEquals(List.of(pourReportId), reportIds(search("concrete pour")));
+        assertEquals(List.of(pourReportId), reportIds(search("\"level 2 slab\"")));
+        assertEquals(List.of(pourReportId), reportIds(search("carpenter")));
+        assertEquals(List.of(pourReportId), reportIds(search("carpentry")));
+        assertEquals(0, search("concrete crane").totalHits());
+    }
+
+    @Test
+    void testResultsArePagedAndFilteredByProject() {
+        String thirdId = createReport(REPORT_DATE.plusDays(2));
+        reportingService.updateReport(thirdId, "Crane idle due to wind", "author");
+        relayAll();
+
+        ReportSearchPage first = searchService.search("crane", projectId, 0, 1);
+        ReportSearchPage second = searchService.search("crane", projectId, 1, 1);
+        assertEquals(2, first.totalHits());
+        assertTrue(first.hasNext());
+        assertFalse(second.hasNext());
+        assertEquals(Set.of(craneReportId, thirdId),
+                Set.of(first.hits().get(0).reportId(), second.hits().get(0).reportId()));
+        assertTrue(searchService.search("crane", projectId, 2, 1).hits().isEmpty());
+
+        assertEquals(0, searchService.search("crane", "other-" + projectId, 0, 10).totalHits());
+    }
+
+    @Test
+    void testChangesAreIndexedOnRelay() {
+        reportingService.updateReport(pourReportId, "Pump truck late", "author");
+        reportingService.deleteReport(craneReportId);
+
+        // Nothing changes until the relay runs
+        assertEquals(1, search("crane").totalHits());
+        assertEquals(0, search("pump").totalHits());
+        relayAll();
+
+        assertEquals(0, search("crane").totalHits());
+        assertEquals(List.of(pourReportId), reportIds(search("pump truck")));
+    }
+
+    @Test
+    void testReindexRestoresTheIndex() throws Exception {
+        searchIndex.remove(List.of(craneReportId, pourReportId));
+        searchIndex.commit();
+        assertEquals(0, search("crane OR concrete").totalHits());
+
+        assertTrue(searchService.startReindex().get(30, TimeUnit.SECONDS) >= 2);
+
+        assertEquals(2, search("crane OR concrete").totalHits());
+    }
+
+    @Test
+    void testArchivedReportsStaySearchable() throws Exception {
+        reportingService.submitReport(craneReportId, "author");
+        reportingService.approveReport(craneReportId, "manager");
+        assertTrue(reportingService.archiveReports(REPORT_DATE.plusDays(1), 10) >= 1);
+        relayAll();
+
+        ReportSearchPage crane = search("crane");
+        assertEquals(List.of(craneReportId), reportIds(crane));
+        assertEquals(ReportStatus.APPROVED, crane.hits().get(0).status());
+        assertEquals(List.of(craneReportId), reportIds(search("rigger")));
+
+        searchIndex.remove(List.of(craneReportId));
+        searchIndex.commit();
+        searchService.startReindex().get(30, TimeUnit.SECONDS);
+        assertEquals(List.of(craneReportId), reportIds(search("crane")));
+    }
+
+    @Test
+    void testInvalidSearchesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> search(" "));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("crane", projectId, -1, 10));
+
+        // Text that is not valid query syntax is searched for literally
+        assertEquals(List.of(craneReportId), reportIds(search("crane (")));
+    }
+
+    private ReportSearchPage search(String query) {
+        return searchService.search(query, projectId, 0, 10);
+    }
+
+    private static List<String> reportIds(ReportSearchPage page) {
+        return page.hits().stream().map(ReportSearchHit::reportId).toList();
+    }
+
+    private void relayAll() {
+        int relayed;
+        do {
+            relayed = outbox.relay(ReportEventOutbox.MAX_READ_SIZE);
+        } while (relayed > 0);
+    }
+
+    private String createReport(LocalDate reportDate) {
+        String reportId = reportingService.createReport(projectId, reportDate, "author").getId();
+        reportIds.add(reportId);
+        return reportId;
+    }
+
+    private void addActivity(String reportId, String description, String category, String personnel) {
+        LocalDateTime day = REPORT_DATE.atStartOfDay();
+        ActivityEntry activity = new ActivityEntry();
+        activity.setDescription(description);
+        activity.setCategory(category);
+        activity.setStartTime(day.plusHours(7));
+        activity.setEndTime(day.plusHours(12));
+        activity.setPersonnel(Set.of(personnel));
+        activity.setCreatedBy("author");
+        reportingService.addActivityToReport(reportId, activity);
+    }
+}
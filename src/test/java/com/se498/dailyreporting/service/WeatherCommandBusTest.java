@@ -0,0 +1,135 @@
+package com.se498.dailyreporting.service;
+
+import com.se498.dailyreporting.domain.bo.*;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Weather Command Bus Tests")
+class WeatherCommandBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherCommandBus commandBus;
+    private WeatherRecord weatherRecord;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commandBus = new WeatherCommandBus(meterRegistry, 2);
+
+        LocalDateTime now = LocalDateTime.now();
+        weatherRecord = WeatherRecord.builder()
+                .location(new Location("Test City", "US", "CA", "12345"))
+                .temperature(Temperature.fromFahrenheit(72.0))
+                .humidity(Humidity.of(45))
+                .windSpeed(WindSpeed.fromMph(5.0))
+                .condition(new WeatherCondition("Clear skies", "01d"))
+                .recordedAt(now)
+                .fetchedAt(now)
+                .dataSource("Unit Test")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        commandBus.shutdown();
+    }
+
+    @Test
+    @DisplayName("Async comprehensive assessment matches the synchronous result")
+    void comprehensiveAssessmentMatchesSynchronousResult() throws Exception {
+        GetComprehensiveAssessmentCommand command =
+                new GetComprehensiveAssessmentCommand(weatherRecord, WeatherStrategyFactory.StrategyType.STANDARD);
+
+        AssessmentResult asyncResult = commandBus.assess(command).get(5, TimeUnit.SECONDS);
+
+        assertEquals(command.assess(), asyncResult);
+        assertEquals(command.execute(), commandBus.submit(command).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Sub-assessments are recorded as commands of their own")
+    void subAssessmentLatencyIsRecorded() throws Exception {
+        commandBus.assess(new GetComprehensiveAssessmentCommand(
+                weatherRecord, WeatherStrategyFactory.StrategyType.STANDARD)).get(5, TimeUnit.SECONDS);
+
+        for (String command : List.of("GetComprehensiveAssessmentCommand", "CheckDangerousWeatherCommand",
+                "CheckOutdoorConditionsCommand", "GetComfortRatingCommand", "GetWeatherDescriptionCommand")) {
+            assertEquals(1, meterRegistry.get(WeatherCommandBus.LATENCY_METRIC)
+                    .tag("command", command)
+                    .timer()
+                    .count(), command);
+        }
+    }
+
+    @Test
+    @DisplayName("Batch results are returned in record order and latency is recorded per command")
+    void batchResultsKeepRecordOrder() throws Exception {
+        List<WeatherRecord> records = List.of(weatherRecord, weatherRecord, weatherRecord);
+
+        List<String> results = commandBus.submitBatch(records,
+                record -> new GetComfortRatingCommand(record, WeatherStrategyFactory.StrategyType.STANDARD))
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, results.size());
+        results.forEach(result -> assertTrue(result.startsWith("Comfort rating")));
+
+        Timer timer = meterRegistry.get(WeatherCommandBus.LATENCY_METRIC)
+                .tag("command", "GetComfortRatingCommand")
+                .timer();
+        assertEquals(3, timer.count());
+    }
+
+    @Test
+    @DisplayName("No more commands than the configured bound execute at once")
+    void concurrencyIsBounded() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        WeatherServiceCommand blockingCommand = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return "done";
+        };
+
+        CompletableFuture<List<String>> results =
+                commandBus.submitAll(List.of(blockingCommand, blockingCommand, blockingCommand, blockingCommand));
+
+        Thread.sleep(200);
+        release.countDown();
+
+        assertEquals(4, results.get(5, TimeUnit.SECONDS).size());
+        assertTrue(maxRunning.get() <= 2, "At most two commands should run concurrently");
+    }
+
+    @Test
+    @DisplayName("Failures surface through the returned future")
+    void failuresCompleteExceptionally() {
+        WeatherServiceCommand failingCommand = () -> {
+            throw new IllegalStateException("boom");
+        };
+
+        CompletableFuture<String> result = commandBus.submit(failingCommand);
+
+        Exception exception = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+}
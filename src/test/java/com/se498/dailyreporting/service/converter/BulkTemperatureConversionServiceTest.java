@@ -0,0 +1,109 @@
+package com.se498.dailyreporting.service.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulk Temperature Conversion Tests")
+class BulkTemperatureConversionServiceTest {
+
+    private final BulkTemperatureConversionService service = new BulkTemperatureConversionService();
+
+    @Test
+    @DisplayName("Arrays are converted in place with the same results as single conversions")
+    void arrayConversionMatchesSingleConversions() {
+        for (String strategyName : ConversionStrategyFactory.getAllStrategies().keySet()) {
+            ConversionStrategy strategy = ConversionStrategyFactory.getStrategy(strategyName);
+            double[] values = {-40.0, 0.0, 21.5, 100.0, 37.77};
+            double[] expected = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                expected[i] = strategy.convert(values[i]);
+            }
+
+            double[] result = service.convertInPlace(values, strategyName);
+
+            assertSame(values, result);
+            assertArrayEquals(expected, result, strategyName);
+        }
+    }
+
+    @Test
+    @DisplayName("CSV bodies keep their rows and are converted value by value")
+    void csvConversionKeepsRows() throws Exception {
+        String csv = "0,100\r\n-40; 37.5\n\n25\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long converted = service.convertCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.US_ASCII)),
+                out, "Celsius to Fahrenheit");
+
+        assertEquals(5, converted);
+        assertEquals("32.0,212.0\n-40.0,99.5\n77.0\n", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("CSV bodies larger than one chunk are converted completely")
+    void csvConversionAcrossChunks() throws Exception {
+        int count = BulkTemperatureConversionService.CHUNK_SIZE * 3 + 7;
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            csv.append(i % 200 - 100).append('.').append(i % 10).append('\n');
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long converted = service.convertCsv(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.US_ASCII)),
+                out, "celsius to kelvin");
+
+        assertEquals(count, converted);
+        String[] lines = out.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(count, lines.length);
+        assertEquals(Double.toString(-100.0 + 273.15), lines[0]);
+    }
+
+    @Test
+    @DisplayName("Binary bodies are converted as big-endian doubles")
+    void binaryConversion() throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(body);
+        data.writeDouble(0.0);
+        data.writeDouble(100.0);
+        data.writeDouble(-40.0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long converted = service.convertBinary(new ByteArrayInputStream(body.toByteArray()), out, null);
+
+        assertEquals(3, converted);
+        DataInputStream result = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(32.0, result.readDouble());
+        assertEquals(212.0, result.readDouble());
+        assertEquals(-40.0, result.readDouble());
+    }
+
+    @Test
+    @DisplayName("Unknown strategies and malformed input are rejected")
+    void invalidInputRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.convertInPlace(new double[1], "celsius to parsecs"));
+        assertThrows(IllegalArgumentException.class, () -> service.convertCsv(
+                new ByteArrayInputStream("12,abc".getBytes(StandardCharsets.US_ASCII)), new ByteArrayOutputStream(), null));
+        assertThrows(IllegalArgumentException.class, () -> service.convertBinary(
+                new ByteArrayInputStream(new byte[12]), new ByteArrayOutputStream(), null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0.0", "21.5", "+3.25", "0.1", "123456.789012", "1e3", "-2.5E-3",
+            "98765432109876543210.5", "NaN", "Infinity", ".5", "7."})
+    @DisplayName("Byte-level parsing agrees with Double.parseDouble")
+    void asciiParsingMatchesParseDouble(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(Double.parseDouble(text), AsciiDoubleCodec.parse(bytes, 0, bytes.length));
+    }
+}
@@ -0,0 +1,82 @@
+package com.se498.dailyreporting.service.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static com.se498.dailyreporting.service.converter.MeasurementUnit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unit Conversion Graph Tests")
+class UnitConversionGraphTest {
+
+    private final UnitConversionGraph graph = UnitConversionGraph.getInstance();
+
+    @ParameterizedTest
+    @CsvSource({
+            "CELSIUS, FAHRENHEIT, 100.0, 212.0",
+            "FAHRENHEIT, CELSIUS, -40.0, -40.0",
+            "KELVIN, FAHRENHEIT, 273.15, 32.0",
+            "FAHRENHEIT, RANKINE, 32.0, 491.67",
+            "RANKINE, KELVIN, 491.67, 273.15",
+            "CELSIUS, RANKINE, 0.0, 491.67",
+            "METERS_PER_SECOND, MILES_PER_HOUR, 10.0, 22.3694",
+            "KNOTS, KILOMETERS_PER_HOUR, 10.0, 18.52",
+            "HECTOPASCALS, INCHES_OF_MERCURY, 1013.0, 29.91389",
+            "KILOPASCALS, INCHES_OF_MERCURY, 101.3, 29.91389",
+            "METERS, MILES, 1609.34, 1.0",
+            "KILOMETERS, MILES, 16.0934, 10.0"
+    })
+    @DisplayName("Direct and composed conversions produce the expected values")
+    void conversions(MeasurementUnit from, MeasurementUnit to, double value, double expected) {
+        assertEquals(expected, graph.convert(value, from, to), 0.001);
+    }
+
+    @Test
+    @DisplayName("Every conversion within a dimension round-trips")
+    void conversionsRoundTrip() {
+        for (MeasurementUnit from : MeasurementUnit.values()) {
+            for (MeasurementUnit to : MeasurementUnit.values()) {
+                assertEquals(from.getDimension() == to.getDimension(), graph.canConvert(from, to));
+                if (graph.canConvert(from, to)) {
+                    double converted = graph.convert(42.5, from, to);
+                    assertEquals(42.5, graph.convert(converted, to, from), 1e-9, from + " -> " + to);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Conversions across dimensions are rejected")
+    void crossDimensionRejected() {
+        assertThrows(IllegalArgumentException.class, () -> graph.transform(CELSIUS, MILES));
+        assertNull(ConversionStrategyFactory.getStrategy(KNOTS, KELVIN));
+    }
+
+    @Test
+    @DisplayName("Operators and factory strategies share the precomputed transform")
+    void operatorsAndStrategies() {
+        DoubleUnaryOperator operator = graph.operator(FAHRENHEIT, KELVIN);
+        assertEquals(273.15, operator.applyAsDouble(32.0), 1e-9);
+
+        ConversionStrategy byName = ConversionStrategyFactory.getStrategy("Fahrenheit to Kelvin");
+        assertSame(ConversionStrategyFactory.getStrategy(FAHRENHEIT, KELVIN), byName);
+        assertEquals("Fahrenheit to Kelvin", byName.getDescription());
+
+        double[] values = {32.0, 212.0};
+        byName.convertInPlace(values, 0, values.length);
+        assertArrayEquals(new double[]{273.15, 373.15}, values, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Named strategies are found regardless of case")
+    void namedStrategiesIgnoreCase() {
+        assertInstanceOf(CelsiusToFahrenheitStrategy.class, ConversionStrategyFactory.getStrategy("Celsius to Fahrenheit"));
+        assertInstanceOf(CelsiusToKelvinStrategy.class, ConversionStrategyFactory.getStrategy("CELSIUS TO KELVIN"));
+        assertNull(ConversionStrategyFactory.getStrategy("celsius to parsecs"));
+        assertEquals(2, ConversionStrategyFactory.getAllStrategies().size());
+    }
+}
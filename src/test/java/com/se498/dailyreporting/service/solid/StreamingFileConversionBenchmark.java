@@ -0,0 +1,70 @@
+package com.se498.dailyreporting.service.solid;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Throughput benchmark for the streaming file conversion pipeline.
+ * Not part of the test suite; run manually:
+ * {@code java ... StreamingFileConversionBenchmark [sizeInMegabytes] [threads]}
+ * Generates a sensor dump of the given size (default 1024 MB), converts it once single-threaded
+ * and once with the given number of threads, and prints the throughput of each run.
+ */
+public class StreamingFileConversionBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 1024;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        Path input = Files.createTempFile("sensor-dump", ".csv");
+        Path output = Files.createTempFile("sensor-dump-converted", ".csv");
+        try {
+            long generated = generate(input, megabytes * 1024 * 1024);
+            System.out.printf("Generated %d MB of readings in %s%n", generated / (1024 * 1024), input);
+
+            TemperatureConverterContract converter = new CelsiusToFahrenheitConverter();
+            run("warm-up", new StreamingFileConversionPipeline(converter, threads, StreamingFileConversionPipeline.DEFAULT_CHUNK_SIZE), input, output);
+            run("1 thread", new StreamingFileConversionPipeline(converter, 1, StreamingFileConversionPipeline.DEFAULT_CHUNK_SIZE), input, output);
+            run(threads + " threads", new StreamingFileConversionPipeline(converter, threads, StreamingFileConversionPipeline.DEFAULT_CHUNK_SIZE), input, output);
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    private static void run(String label, StreamingFileConversionPipeline pipeline, Path input, Path output) throws IOException {
+        StreamingFileConversionPipeline.ConversionSummary summary = pipeline.convert(input, output);
+        System.out.printf("%-12s %,d values in %,d ms: %.1f MB/s%n",
+                label, summary.values(), summary.elapsed().toMillis(), summary.megabytesPerSecond());
+    }
+
+    /**
+     * Write rows of eight comma-separated Celsius readings with one or two decimals
+     */
+    private static long generate(Path file, long targetBytes) throws IOException {
+        Random random = new Random(42);
+        StringBuilder row = new StringBuilder(128);
+        long written = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 20)) {
+            while (written < targetBytes) {
+                row.setLength(0);
+                for (int i = 0; i < 8; i++) {
+                    if (i > 0) {
+                        row.append(',');
+                    }
+                    row.append((random.nextInt(12_000) - 4_000) / 100.0);
+                }
+                row.append('\n');
+                byte[] bytes = row.toString().getBytes(StandardCharsets.US_ASCII);
+                out.write(bytes);
+                written += bytes.length;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,89 @@
+package com.se498.dailyreporting.service.solid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Streaming File Conversion Tests")
+class StreamingFileConversionPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Rows and value order are kept across chunks and threads")
+    void rowsAndOrderAreKept() throws Exception {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        CelsiusToFahrenheitConverter converter = new CelsiusToFahrenheitConverter();
+        for (int row = 0; row < 2000; row++) {
+            double first = row % 90 - 40.5;
+            double second = row % 37;
+            input.append(first).append(", ").append(second).append("\r\n");
+            expected.append(converter.convert(first)).append(',').append(converter.convert(second)).append('\n');
+        }
+        Path in = write(input.toString());
+        Path out = tempDir.resolve("out.csv");
+
+        // Tiny chunks force many boundaries and out-of-order completion
+        StreamingFileConversionPipeline.ConversionSummary summary =
+                new StreamingFileConversionPipeline(converter, 4, 256).convert(in, out);
+
+        assertEquals(4000, summary.values());
+        assertEquals(expected.toString(), Files.readString(out, StandardCharsets.US_ASCII));
+        assertEquals(Files.size(out), summary.bytesWritten());
+    }
+
+    @Test
+    @DisplayName("A last value without a trailing line break is still converted")
+    void lastValueWithoutLineBreak() throws Exception {
+        Path in = write("0\n100");
+        Path out = tempDir.resolve("out.csv");
+
+        new StreamingFileConversionPipeline(SimpleTemperatureConverter.celsiusToKelvin(), 2, 64).convert(in, out);
+
+        assertEquals("273.15\n373.15\n", Files.readString(out, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Values rejected by the converter fail the conversion with their position")
+    void rejectedValueFailsConversion() throws Exception {
+        Path in = write("10\n-300\n");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                new StreamingFileConversionPipeline(new CelsiusToFahrenheitConverter(), 1, 64)
+                        .convert(in, tempDir.resolve("out.csv")));
+        assertTrue(exception.getMessage().contains("byte 3"));
+    }
+
+    @Test
+    @DisplayName("File input handler feeds the conversion service value by value")
+    void fileInputHandlerFeedsService() throws Exception {
+        Path in = write("0; 100\n-40\n");
+
+        try (FileInputHandler handler = new FileInputHandler(in, 1)) {
+            TemperatureConversionService service = new TemperatureConversionService(
+                    handler, List.of(new CelsiusToFahrenheitConverter()));
+
+            assertEquals(1, handler.readMenuSelection());
+            assertEquals(32.0, service.performConversion(handler.readNumberInput(), new CelsiusToFahrenheitConverter()));
+            assertEquals(100.0, handler.readNumberInput());
+            assertEquals(-40.0, handler.readNumberInput());
+            assertFalse(handler.hasNextNumber());
+            assertEquals(0, handler.readMenuSelection());
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = tempDir.resolve("in.csv");
+        Files.writeString(file, content, StandardCharsets.US_ASCII);
+        return file;
+    }
+}